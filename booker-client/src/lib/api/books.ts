@@ -1,5 +1,5 @@
 import { apiClient } from './client';
-import { Book, BookSearchParams, Page } from './types';
+import { Book, BookSearchParams, BookSuggestion, Page } from './types';
 
 export const bookApi = {
   /**
@@ -17,6 +17,14 @@ export const bookApi = {
     return apiClient<Page<Book>>(`/books${query ? `?${query}` : ''}`);
   },
 
+  /**
+   * Title/author autocomplete for search-as-you-type (served from memory, no DB query)
+   */
+  suggestBooks: async (q: string, size = 10): Promise<BookSuggestion[]> => {
+    const searchParams = new URLSearchParams({ q, size: size.toString() });
+    return apiClient<BookSuggestion[]>(`/books/suggest?${searchParams.toString()}`);
+  },
+
   /**
    * Get a book by ID
    */
@@ -19,6 +19,12 @@ export interface BookSearchParams {
   size?: number;
 }
 
+export interface BookSuggestion {
+  text: string;
+  type: 'TITLE' | 'AUTHOR';
+  bookCount: number;
+}
+
 export interface Page<T> {
   content: T[];
   totalElements: number;
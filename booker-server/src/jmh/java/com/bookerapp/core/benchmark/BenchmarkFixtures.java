@@ -0,0 +1,26 @@
+package com.bookerapp.core.benchmark;
+
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventType;
+import com.bookerapp.core.domain.model.event.Member;
+
+import java.time.LocalDateTime;
+
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 참여자가 채워진 이벤트 생성 - 정원을 넘는 인원은 대기자로 등록된다.
+     */
+    static Event eventWithParticipants(int maxParticipants, int participants) {
+        Member presenter = new Member("presenter", "발표자", "presenter@test.com");
+        Event event = new Event("벤치마크 이벤트", "설명", EventType.MEETUP,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), maxParticipants, presenter);
+        for (int i = 0; i < participants; i++) {
+            event.addParticipant(new Member("member" + i, "회원" + i, "member" + i + "@test.com"));
+        }
+        return event;
+    }
+}
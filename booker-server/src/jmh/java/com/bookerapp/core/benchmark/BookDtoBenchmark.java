@@ -0,0 +1,49 @@
+package com.bookerapp.core.benchmark;
+
+import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.model.entity.BookLocation;
+import com.bookerapp.core.domain.model.enums.Floor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도서 응답 DTO 변환 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookDtoBenchmark {
+
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        book = Book.builder()
+                .title("Clean Code")
+                .author("Robert C. Martin")
+                .isbn("9780132350884")
+                .publisher("Prentice Hall")
+                .coverImageUrl("https://images.example.com/books/clean-code-cover.jpg")
+                .location(BookLocation.of(Floor.FOURTH))
+                .build();
+    }
+
+    @Benchmark
+    public BookDto.Response bookResponse() {
+        return BookDto.Response.from(book);
+    }
+}
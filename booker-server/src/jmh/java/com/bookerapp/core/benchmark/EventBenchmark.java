@@ -0,0 +1,63 @@
+package com.bookerapp.core.benchmark;
+
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import com.bookerapp.core.domain.model.event.Member;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event 도메인 핫 패스 벤치마크
+ *
+ * 참여자 수(10 / 1k / 10k)별로 참여 추가와 정원 확인 비용을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int participants;
+
+    private Event event;
+    private Member newcomer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        event = BenchmarkFixtures.eventWithParticipants(participants, participants);
+        newcomer = new Member("newcomer", "newcomer", "newcomer@test.com");
+    }
+
+    /**
+     * 정원이 찬 이벤트에 대기자로 추가한 뒤 목록 크기를 원래대로 되돌린다.
+     * (반복마다 컬렉션이 커지지 않도록 추가한 항목만 제거)
+     */
+    @Benchmark
+    public EventParticipation addParticipant() {
+        EventParticipation added = event.addParticipant(newcomer);
+        List<EventParticipation> list = event.getParticipants();
+        list.remove(list.size() - 1);
+        return added;
+    }
+
+    @Benchmark
+    public boolean isFullyBooked() {
+        return event.isFullyBooked();
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookerapp.core.benchmark;
+
+import com.bookerapp.core.domain.model.dto.EventDto;
+import com.bookerapp.core.domain.model.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 응답 DTO 변환 벤치마크
+ *
+ * 상세 응답은 참여자 수(정원 절반 + 대기자)에 비례하므로 참여자 수별로 측정한다.
+ * 목록 조회용 요약 응답(summaryFrom)은 비교 기준으로 함께 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventDtoBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int participants;
+
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        event = BenchmarkFixtures.eventWithParticipants(participants / 2, participants);
+    }
+
+    @Benchmark
+    public EventDto.Response eventResponse() {
+        return EventDto.Response.from(event);
+    }
+
+    @Benchmark
+    public EventDto.Response eventSummary() {
+        return EventDto.Response.summaryFrom(event);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bookerapp.core.benchmark;
+
+import com.bookerapp.core.domain.model.Isbn;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * ISBN 검증 벤치마크
+ *
+ * - legacyMatches: 기존 Book.validateIsbn (String.matches - 호출마다 정규식 컴파일, 체크 숫자 검증 없음)
+ * - precompiledPattern: 같은 정규식을 미리 컴파일한 경우 (Matcher 할당은 남음)
+ * - isbnValid: Isbn.isValid (한 번의 순회, 할당 없음, 체크 숫자 검증 포함)
+ * - isbnParse: Isbn.parse (Book 생성 경로 - 구분자가 없으면 입력 문자열을 그대로 사용)
+ *
+ * 할당량 비교: -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IsbnValidationBenchmark {
+
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("^\\d{10}|\\d{13}$");
+
+    @Param({"9780132350884", "0132350882", "978-0-13-235088-4"})
+    private String isbn;
+
+    @Benchmark
+    public boolean legacyMatches() {
+        return isbn.matches("^\\d{10}|\\d{13}$");
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return LEGACY_PATTERN.matcher(isbn).matches();
+    }
+
+    @Benchmark
+    public boolean isbnValid() {
+        return Isbn.isValid(isbn);
+    }
+
+    @Benchmark
+    public Isbn isbnParse() {
+        return Isbn.parse(isbn);
+    }
+}
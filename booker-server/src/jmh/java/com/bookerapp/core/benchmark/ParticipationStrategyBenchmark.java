@@ -0,0 +1,110 @@
+package com.bookerapp.core.benchmark;
+
+import com.bookerapp.core.BookerApplication;
+import com.bookerapp.core.application.dto.EventParticipationDto;
+import com.bookerapp.core.application.service.BatchingEventParticipationService;
+import com.bookerapp.core.application.service.CasEventParticipationService;
+import com.bookerapp.core.application.service.ConditionalUpdateEventParticipationService;
+import com.bookerapp.core.application.service.CounterEventParticipationService;
+import com.bookerapp.core.application.service.OptimisticLockEventParticipationService;
+import com.bookerapp.core.application.service.PessimisticLockEventParticipationService;
+import com.bookerapp.core.application.service.SynchronizedEventParticipationService;
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventType;
+import com.bookerapp.core.domain.repository.EventRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 참여 신청 전략별 처리량 벤치마크
+ *
+ * MySQL 대신 인메모리 H2(jmh 프로필)에 애플리케이션 컨텍스트를 띄우고
+ * 여러 스레드가 같은 이벤트에 동시에 신청하는 상황을 측정한다.
+ * 반복(iteration)마다 새 이벤트를 만들어 참여 행이 누적되어도 이벤트별 크기는 일정하게 유지한다.
+ *
+ * H2는 MySQL과 락 구현이 다르므로 절대값보다는 전략 간 상대 비교와 회귀 추적 용도로 사용한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ParticipationStrategyBenchmark {
+
+    private static final int MAX_PARTICIPANTS = 100;
+
+    @Param({"synchronized", "pessimistic", "optimistic", "cas", "conditional", "counter", "batching"})
+    private String strategy;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private Function<EventParticipationDto.Request, EventParticipationDto.Response> participation;
+    private final AtomicLong memberSequence = new AtomicLong();
+    private volatile Long eventId;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(BookerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("jmh")
+                .run();
+        eventRepository = context.getBean(EventRepository.class);
+        participation = resolve(strategy);
+    }
+
+    @Setup(Level.Iteration)
+    public void createEvent() {
+        Event event = eventRepository.save(new Event("벤치마크 이벤트", "설명", EventType.MEETUP,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), MAX_PARTICIPANTS, null));
+        eventId = event.getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public EventParticipationDto.Response participate() {
+        String memberId = "member" + memberSequence.incrementAndGet();
+        return participation.apply(new EventParticipationDto.Request(eventId, memberId, memberId, memberId + "@test.com"));
+    }
+
+    private Function<EventParticipationDto.Request, EventParticipationDto.Response> resolve(String strategy) {
+        return switch (strategy) {
+            case "synchronized" -> context.getBean(SynchronizedEventParticipationService.class)::participateInEvent;
+            case "pessimistic" -> context.getBean(PessimisticLockEventParticipationService.class)::participateInEvent;
+            case "optimistic" -> context.getBean(OptimisticLockEventParticipationService.class)::participateInEvent;
+            case "cas" -> context.getBean(CasEventParticipationService.class)::participateInEvent;
+            case "conditional" -> context.getBean(ConditionalUpdateEventParticipationService.class)::participateInEvent;
+            case "counter" -> context.getBean(CounterEventParticipationService.class)::participateInEvent;
+            case "batching" -> {
+                BatchingEventParticipationService batching = context.getBean(BatchingEventParticipationService.class);
+                yield request -> batching.participateInEvent(request).join();
+            }
+            default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        };
+    }
+}
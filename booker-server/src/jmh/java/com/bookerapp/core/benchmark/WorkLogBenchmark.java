@@ -0,0 +1,73 @@
+package com.bookerapp.core.benchmark;
+
+import com.bookerapp.core.domain.model.WorkLog;
+import com.bookerapp.core.domain.model.WorkLogTag;
+import com.bookerapp.core.infrastructure.repository.FileWorkLogRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 로그 파일 파싱 벤치마크
+ *
+ * findById는 파일 한 건을 읽어 mapPathToWorkLog로 front matter와 본문을 파싱한다.
+ * 작업 디렉터리(build/jmh) 아래 work-logs 폴더에 본문 줄 수별 파일을 만들어 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkLogBenchmark {
+
+    @Param({"20", "2000"})
+    private int contentLines;
+
+    private FileWorkLogRepository repository;
+    private String workLogId;
+
+    @Setup
+    public void setUp() {
+        repository = new FileWorkLogRepository();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < contentLines; i++) {
+            content.append("- ").append(i).append("번째 줄: 커넥션 풀 설정과 락 경합을 기록한다.").append(System.lineSeparator());
+        }
+        WorkLog saved = repository.save(WorkLog.builder()
+                .title("benchmark-" + contentLines)
+                .author("benchmark")
+                .content(content.toString())
+                .createdAt(LocalDateTime.now())
+                .tags(List.of(WorkLogTag.DB, WorkLogTag.INFRA))
+                .build());
+        workLogId = saved.getId();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get("work-logs", workLogId + ".md"));
+    }
+
+    @Benchmark
+    public Optional<WorkLog> findById() {
+        return repository.findById(workLogId);
+    }
+}
@@ -0,0 +1,273 @@
+package com.bookerapp.core.application.service;
+
+import com.bookerapp.core.application.dto.EventParticipationDto;
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import com.bookerapp.core.infrastructure.participation.ParticipationChangePublisher;
+import com.bookerapp.core.infrastructure.repository.EventParticipationJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 커밋 방식 참여 신청
+ *
+ * 이벤트별로 요청을 잠시(maxDelay) 또는 일정 개수(maxBatchSize)만큼 모은 뒤
+ * 한 트랜잭션에서 이벤트 행을 한 번만 잠그고(집계 컬럼 함께 조회) 배치 전체의 확정/대기를 메모리에서 결정한다.
+ * 참여 정보는 JDBC 배치 insert 한 번으로 저장하고 이벤트 집계는 UPDATE 한 번으로 반영한 뒤,
+ * 커밋 이후 각 요청의 CompletableFuture를 완료한다.
+ *
+ * 같은 이벤트의 flush는 한 번에 하나만 예약되거나 실행되므로 배치는 순차적으로 처리되고,
+ * 요청이 몰린 이벤트도 워커를 하나만 쓴다 (다른 이벤트의 flush가 밀리지 않는다).
+ * 배치 처리 실패 시 배치 내 모든 요청이 예외로 완료된다.
+ * 참여 정보의 작성자는 요청 스레드에서 받은 감사자로 기록한다 (flush는 요청 컨텍스트가 없는 워커에서 실행된다).
+ *
+ * 이벤트별 배치 큐는 일정 시간 요청이 없으면 버리고 보관 개수에도 상한을 둔다.
+ * 예약된 flush는 큐를 직접 참조하므로 큐가 버려져도 대기 중인 요청은 처리된다.
+ * 그 사이 같은 이벤트에 새 큐가 생겨 두 배치가 겹치더라도 이벤트 행 잠금으로 직렬화된다.
+ */
+@Service
+@Slf4j
+public class BatchingEventParticipationService {
+
+    private final EventRepository eventRepository;
+    private final EventParticipationRepository participationRepository;
+    private final MemberRepository memberRepository;
+    private final EventParticipationJdbcRepository participationJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ParticipationMetrics participationMetrics;
+    private final ParticipationChangePublisher participationChangePublisher;
+    private final AuditorAware<String> auditorAware;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+
+    private final Cache<Long, EventBatch> batches;
+    private final ScheduledExecutorService scheduler;
+
+    public BatchingEventParticipationService(EventRepository eventRepository,
+                                             EventParticipationRepository participationRepository,
+                                             MemberRepository memberRepository,
+                                             EventParticipationJdbcRepository participationJdbcRepository,
+                                             TransactionTemplate transactionTemplate,
+                                             ParticipationMetrics participationMetrics,
+                                             ParticipationChangePublisher participationChangePublisher,
+                                             AuditorAware<String> auditorAware,
+                                             @Value("${booker.participation-batch.max-size:100}") int maxBatchSize,
+                                             @Value("${booker.participation-batch.max-delay-ms:5}") long maxDelayMillis,
+                                             @Value("${booker.participation-batch.workers:4}") int workers,
+                                             @Value("${booker.participation-batch.max-tracked-events:10000}") long maxTrackedEvents,
+                                             @Value("${booker.participation-batch.idle-expiry-ms:60000}") long idleExpiryMillis) {
+        this.eventRepository = eventRepository;
+        this.participationRepository = participationRepository;
+        this.memberRepository = memberRepository;
+        this.participationJdbcRepository = participationJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.participationMetrics = participationMetrics;
+        this.participationChangePublisher = participationChangePublisher;
+        this.auditorAware = auditorAware;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.scheduler = Executors.newScheduledThreadPool(workers);
+        this.batches = Caffeine.newBuilder()
+                .maximumSize(maxTrackedEvents)
+                .expireAfterAccess(Duration.ofMillis(idleExpiryMillis))
+                .build();
+    }
+
+    /**
+     * 참여 신청을 배치 큐에 등록
+     *
+     * @param request 참여 신청 요청
+     * @return 배치 커밋 이후 완료되는 응답
+     */
+    public CompletableFuture<EventParticipationDto.Response> participateInEvent(EventParticipationDto.Request request) {
+        log.debug("Batching participation request for event: {}, member: {}", request.getEventId(), request.getMemberId());
+
+        PendingParticipation pending = new PendingParticipation(request,
+                auditorAware.getCurrentAuditor().orElse(null), new CompletableFuture<>());
+        EventBatch batch = batches.get(request.getEventId(), EventBatch::new);
+
+        int queued = batch.enqueue(pending);
+        scheduleFlush(batch, queued >= maxBatchSize ? 0 : maxDelayMillis);
+        return pending.future();
+    }
+
+    long trackedEvents() {
+        batches.cleanUp();
+        return batches.estimatedSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 이벤트별로 flush를 하나만 예약 (이미 예약되었거나 실행 중이면 그 flush가 끝난 뒤 남은 요청을 다시 예약한다)
+     */
+    private void scheduleFlush(EventBatch batch, long delayMillis) {
+        if (batch.flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> flush(batch), delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(EventBatch batch) {
+        try {
+            List<PendingParticipation> drained = batch.drain(maxBatchSize);
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<EventParticipationDto.Response> responses =
+                        transactionTemplate.execute(status -> processBatch(batch.eventId, drained));
+                for (int i = 0; i < drained.size(); i++) {
+                    drained.get(i).future().complete(responses.get(i));
+                }
+            } catch (RuntimeException e) {
+                log.error("Participation batch failed - Event: {}, Size: {}", batch.eventId, drained.size(), e);
+                drained.forEach(pending -> pending.future().completeExceptionally(e));
+            }
+        } finally {
+            // 플래그를 내린 뒤 확인해야 그 사이 들어와 예약하지 못한 요청을 놓치지 않는다
+            batch.flushScheduled.set(false);
+            if (batch.hasPending()) {
+                scheduleFlush(batch, 0);
+            }
+        }
+    }
+
+    private List<EventParticipationDto.Response> processBatch(Long eventId, List<PendingParticipation> drained) {
+        EventRepository.SeatSnapshot snapshot = participationMetrics.recordLockWait("batching", eventId,
+                        () -> eventRepository.lockSeatSnapshotById(eventId))
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        int maxParticipants = snapshot.getMaxParticipants();
+        int confirmedCount = snapshot.getConfirmedCount();
+        int waitingCount = snapshot.getWaitingCount();
+        int lastWaitingNumber = snapshot.getLastWaitingNumber();
+        int confirmedAdded = 0;
+        int waitingAdded = 0;
+
+        Set<String> memberIds = drained.stream()
+                .map(pending -> pending.request().getMemberId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> participating = new HashSet<>(
+                participationRepository.findActiveMemberIdsByEventIdAndMemberIdIn(eventId, memberIds));
+        Map<String, Member> members = findOrCreateMembers(drained, memberIds);
+
+        Event event = eventRepository.getReferenceById(eventId);
+        List<EventParticipationJdbcRepository.Row> participations = new ArrayList<>();
+        List<EventParticipationDto.Response> responses = new ArrayList<>(drained.size());
+
+        for (PendingParticipation pending : drained) {
+            String memberId = pending.request().getMemberId();
+            if (!participating.add(memberId)) {
+                responses.add(new EventParticipationDto.Response(null, "ALREADY_PARTICIPATING", null, "이미 참여 신청된 이벤트입니다."));
+                continue;
+            }
+
+            if (confirmedCount < maxParticipants) {
+                confirmedCount++;
+                confirmedAdded++;
+                participations.add(new EventParticipationJdbcRepository.Row(
+                        new EventParticipation(event, members.get(memberId), ParticipationStatus.CONFIRMED), pending.auditor()));
+                responses.add(new EventParticipationDto.Response(null, "CONFIRMED", null, "참여가 확정되었습니다."));
+            } else {
+                int waitingNumber = ++lastWaitingNumber;
+                int waitingPosition = waitingCount + ++waitingAdded;
+                participations.add(new EventParticipationJdbcRepository.Row(
+                        new EventParticipation(event, members.get(memberId), ParticipationStatus.WAITING, waitingNumber), pending.auditor()));
+                responses.add(new EventParticipationDto.Response(null, "WAITING", waitingPosition,
+                        "대기자 명단에 등록되었습니다. 대기 순번: " + waitingPosition));
+            }
+        }
+
+        if (!participations.isEmpty()) {
+            participationJdbcRepository.batchInsert(participations);
+            eventRepository.applyParticipationCounts(eventId, confirmedAdded, waitingAdded, lastWaitingNumber);
+            participationChangePublisher.publishAfterCommit(eventId);
+        }
+
+        log.info("Participation batch committed (Batching) - Event: {}, Requests: {}, Inserted: {}",
+                eventId, drained.size(), participations.size());
+
+        return responses;
+    }
+
+    private Map<String, Member> findOrCreateMembers(List<PendingParticipation> drained, Set<String> memberIds) {
+        Map<String, Member> members = memberRepository.findByMemberIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        for (PendingParticipation pending : drained) {
+            EventParticipationDto.Request request = pending.request();
+            members.computeIfAbsent(request.getMemberId(), memberId ->
+                    memberRepository.save(new Member(memberId, request.getMemberName(), request.getMemberEmail())));
+        }
+        return members;
+    }
+
+    private record PendingParticipation(EventParticipationDto.Request request,
+                                        String auditor,
+                                        CompletableFuture<EventParticipationDto.Response> future) {
+    }
+
+    private static class EventBatch {
+
+        private final Long eventId;
+        private final Queue<PendingParticipation> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        EventBatch(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        int enqueue(PendingParticipation pending) {
+            queue.add(pending);
+            return size.incrementAndGet();
+        }
+
+        List<PendingParticipation> drain(int maxSize) {
+            List<PendingParticipation> drained = new ArrayList<>();
+            PendingParticipation pending;
+            while (drained.size() < maxSize && (pending = queue.poll()) != null) {
+                drained.add(pending);
+            }
+            size.addAndGet(-drained.size());
+            return drained;
+        }
+
+        boolean hasPending() {
+            return !queue.isEmpty();
+        }
+    }
+}
@@ -3,16 +3,21 @@ package com.bookerapp.core.application.service;
 import com.bookerapp.core.application.dto.BookOrderDto;
 import com.bookerapp.core.domain.exception.BookOrderNotFoundException;
 
+import com.bookerapp.core.domain.model.dto.SliceCursor;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.model.entity.BookOrder;
 import com.bookerapp.core.infrastructure.repository.BookOrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import com.bookerapp.core.presentation.exception.NotPendingStatusException;
 import com.bookerapp.core.presentation.exception.NotApprovedStatusException;
 
@@ -57,6 +62,30 @@ public class BookOrderService {
                                 .map(BookOrderDto.Response::new);
     }
 
+    /**
+     * 도서 주문 목록 (커서 기반) - (createdAt, id) 키셋으로 조회하여 OFFSET 스캔과 COUNT 쿼리를 하지 않는다.
+     *
+     * @param status 주문 상태 필터 (null이면 전체)
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     * @param withTotal 전체 개수 포함 여부
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<BookOrderDto.Response> getBookOrdersSlice(BookOrder.BookOrderStatus status, String cursor,
+                                                                   int size, boolean withTotal) {
+        int limitSize = SliceResponse.normalizeSize(size);
+        SliceCursor after = SliceCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, limitSize + 1);
+
+        List<BookOrder> orders = after == null
+                ? bookOrderRepository.findSliceFirst(status, limit)
+                : bookOrderRepository.findSliceAfter(status, after.requireKey(), after.id(), limit);
+        Long total = withTotal
+                ? (status != null ? bookOrderRepository.countByStatus(status) : bookOrderRepository.count())
+                : null;
+        return SliceResponse.of(orders, limitSize, order -> SliceCursor.of(order.getCreatedAt(), order.getId()), total)
+                .map(BookOrderDto.Response::new);
+    }
+
     @Transactional(readOnly = true)
     public Page<BookOrderDto.Response> getBookOrdersByStatus(BookOrder.BookOrderStatus status, Pageable pageable) {
         return bookOrderRepository.findByStatusOrderByCreatedAtDesc(status, pageable)
@@ -0,0 +1,91 @@
+package com.bookerapp.core.application.service;
+
+import com.bookerapp.core.application.dto.EventParticipationDto;
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import com.bookerapp.core.infrastructure.participation.ParticipationChangePublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE 기반 참여 신청
+ *
+ * 이벤트 엔티티(participants 포함)를 조회하지 않고
+ * UPDATE event SET confirmed_count = confirmed_count + 1 WHERE id = ? AND confirmed_count < max_participants
+ * 한 문장으로 좌석을 확보한다. 영향받은 행 수가 1이면 CONFIRMED, 0이면 WAITING으로 저장한다.
+ *
+ * 좌석 확보가 DB의 원자적 갱신으로 끝나므로 @Version 충돌 재시도가 발생하지 않는다.
+ * 집계 컬럼(confirmed_count, waiting_count, last_waiting_number)은 Event 엔티티와 공유하므로
+ * 다른 전략과 같은 이벤트를 섞어 써도 집계가 유지된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConditionalUpdateEventParticipationService {
+
+    private final EventRepository eventRepository;
+    private final EventParticipationRepository participationRepository;
+    private final MemberRepository memberRepository;
+    private final ParticipationMetrics participationMetrics;
+    private final ParticipationChangePublisher participationChangePublisher;
+
+    @Transactional
+    public EventParticipationDto.Response participateInEvent(EventParticipationDto.Request request) {
+        log.info("Conditional update participation request for event: {}, member: {}", request.getEventId(), request.getMemberId());
+
+        if (participationRepository.existsActiveParticipation(request.getEventId(), request.getMemberId())) {
+            return new EventParticipationDto.Response(null, "ALREADY_PARTICIPATING", null, "이미 참여 신청된 이벤트입니다.");
+        }
+
+        Member member = findOrCreateMember(request.getMemberId(), request.getMemberName(), request.getMemberEmail());
+        Event event = eventRepository.getReferenceById(request.getEventId());
+
+        // 조건부 UPDATE가 이벤트 행 잠금을 얻기까지의 대기 시간을 락 대기로 기록
+        int reserved = participationMetrics.recordLockWait("conditional", request.getEventId(),
+                () -> eventRepository.reserveSeat(request.getEventId()));
+        // 네이티브 UPDATE는 이벤트 엔티티 콜백을 거치지 않으므로 직접 알린다
+        participationChangePublisher.publishAfterCommit(request.getEventId());
+        if (reserved == 1) {
+            EventParticipation participation = participationRepository.save(
+                    new EventParticipation(event, member, ParticipationStatus.CONFIRMED));
+
+            log.info("Confirmed participation (Conditional Update) - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
+
+            return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
+        }
+
+        // 정원 초과 또는 이벤트 없음 - 대기 순번 갱신으로 이벤트 존재 여부도 함께 확인
+        if (eventRepository.reserveWaitingNumber(request.getEventId()) == 0) {
+            throw new RuntimeException("Event not found");
+        }
+        // 위 UPDATE로 이벤트 행을 잠근 상태이므로 커밋 전까지 다른 요청이 집계를 바꿀 수 없다
+        EventRepository.SeatSnapshot snapshot = eventRepository.findSeatSnapshotById(request.getEventId())
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        int waitingPosition = snapshot.getWaitingCount();
+
+        EventParticipation participation = participationRepository.save(
+                new EventParticipation(event, member, ParticipationStatus.WAITING, snapshot.getLastWaitingNumber()));
+
+        log.info("Added to waiting list (Conditional Update) - Event: {}, Member: {}, Waiting Number: {}",
+                request.getEventId(), request.getMemberId(), waitingPosition);
+
+        return new EventParticipationDto.Response(participation.getId(), "WAITING", waitingPosition,
+                "대기자 명단에 등록되었습니다. 대기 순번: " + waitingPosition);
+    }
+
+    private Member findOrCreateMember(String memberId, String memberName, String memberEmail) {
+        return memberRepository.findByMemberId(memberId)
+                .orElseGet(() -> {
+                    Member member = new Member(memberId, memberName, memberEmail);
+                    return memberRepository.save(member);
+                });
+    }
+}
@@ -0,0 +1,188 @@
+package com.bookerapp.core.application.service;
+
+import com.bookerapp.core.application.dto.EventParticipationDto;
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.participation.ParticipationChangedEvent;
+import com.bookerapp.core.infrastructure.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인메모리 좌석 카운터 기반 참여 신청
+ *
+ * 이벤트별 확정 인원 카운터와 참여 회원 집합을 메모리에 유지하여
+ * participants 컬렉션을 로딩하지 않고 중복 신청과 정원 초과를 O(1)로 걸러낸다.
+ * 카운터는 이벤트별 첫 요청 시 이벤트 집계 컬럼(확정 인원)과 참여 회원 목록으로 초기화된다.
+ *
+ * 카운터는 빠른 판단용이고 최종 판단은 DB가 한다. 카운터가 좌석을 내주면
+ * 조건부 UPDATE(confirmed_count < max_participants)로 좌석을 확보하고, 0행이 바뀌면 대기로 돌린다.
+ * 카운터를 버리고 다시 만드는 사이 커밋되지 않은 좌석을 새 카운터가 모르더라도 정원을 넘지 않는다.
+ * 대기 순번도 이벤트 행의 last_waiting_number를 올려 받으므로 카운터가 여러 번 바뀌어도 순번이 겹치지 않는다.
+ * 트랜잭션이 롤백되면 확보한 좌석과 중복 신청 마킹을 되돌린다.
+ *
+ * 다른 경로(취소/승격, 다른 전략의 참여 신청, 이벤트 삭제)가 집계를 바꾸면 커밋 후 {@link ParticipationChangedEvent}를 받아
+ * 해당 이벤트의 카운터를 버리고, 다음 요청에서 다시 초기화한다. (이 서비스의 쓰기는 네이티브 UPDATE라 알림이 발행되지 않는다)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounterEventParticipationService {
+
+    private final EventRepository eventRepository;
+    private final EventParticipationRepository participationRepository;
+    private final MemberRepository memberRepository;
+
+    private final Map<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+
+    @Transactional
+    public EventParticipationDto.Response participateInEvent(EventParticipationDto.Request request) {
+        log.info("Counter participation request for event: {}, member: {}", request.getEventId(), request.getMemberId());
+
+        SeatCounter counter = counters.computeIfAbsent(request.getEventId(), this::loadCounter);
+
+        if (!counter.markParticipant(request.getMemberId())) {
+            return new EventParticipationDto.Response(null, "ALREADY_PARTICIPATING", null, "이미 참여 신청된 이벤트입니다.");
+        }
+
+        boolean confirmed = counter.tryAcquireSeat() && reserveSeat(request.getEventId(), counter);
+        registerRollback(counter, request.getMemberId(), confirmed);
+
+        Event event = eventRepository.getReferenceById(request.getEventId());
+        Member member = findOrCreateMember(request.getMemberId(), request.getMemberName(), request.getMemberEmail());
+
+        if (!confirmed) {
+            // 대기 순번 갱신으로 이벤트 행을 잠근 상태에서 부여된 순번을 읽는다
+            if (eventRepository.reserveWaitingNumber(request.getEventId()) == 0) {
+                throw new RuntimeException("Event not found");
+            }
+            int waitingNumber = eventRepository.findSeatSnapshotById(request.getEventId())
+                    .orElseThrow(() -> new RuntimeException("Event not found"))
+                    .getLastWaitingNumber();
+            EventParticipation participation = participationRepository.save(
+                    new EventParticipation(event, member, ParticipationStatus.WAITING, waitingNumber));
+
+            log.info("Added to waiting list (Counter) - Event: {}, Member: {}, Waiting Number: {}",
+                    request.getEventId(), request.getMemberId(), waitingNumber);
+
+            return new EventParticipationDto.Response(participation.getId(), "WAITING", waitingNumber,
+                    "대기자 명단에 등록되었습니다. 대기 순번: " + waitingNumber);
+        }
+
+        EventParticipation participation = participationRepository.save(
+                new EventParticipation(event, member, ParticipationStatus.CONFIRMED));
+
+        log.info("Confirmed participation (Counter) - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
+
+        return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
+    }
+
+    /**
+     * 이벤트 카운터 제거
+     * 다른 경로로 참여 정보가 변경된 경우 다음 요청에서 DB 기준으로 다시 초기화된다.
+     */
+    public void evict(Long eventId) {
+        counters.remove(eventId);
+    }
+
+    @EventListener
+    public void onParticipationChanged(ParticipationChangedEvent event) {
+        evict(event.eventId());
+    }
+
+    public void evictAll() {
+        counters.clear();
+    }
+
+    private SeatCounter loadCounter(Long eventId) {
+        EventRepository.SeatSnapshot snapshot = eventRepository.findSeatSnapshotById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        List<String> memberIds = participationRepository.findActiveMemberIdsByEventId(eventId);
+
+        log.info("Seat counter initialized - Event: {}, Max: {}, Confirmed: {}",
+                eventId, snapshot.getMaxParticipants(), snapshot.getConfirmedCount());
+
+        return new SeatCounter(snapshot.getMaxParticipants(), snapshot.getConfirmedCount(), memberIds);
+    }
+
+    /**
+     * 카운터가 내준 좌석을 DB에서 확보
+     * 실패하면 카운터가 커밋되지 않은 좌석을 모르는 오래된 값이므로 버리고, 다음 요청에서 다시 초기화한다.
+     */
+    private boolean reserveSeat(Long eventId, SeatCounter counter) {
+        if (eventRepository.reserveSeat(eventId) == 1) {
+            return true;
+        }
+        log.info("Seat counter out of date - Event: {}, falling back to waiting list", eventId);
+        counters.remove(eventId, counter);
+        return false;
+    }
+
+    private void registerRollback(SeatCounter counter, String memberId, boolean confirmed) {
+        TransactionCallbacks.afterRollback(() -> {
+            counter.unmarkParticipant(memberId);
+            if (confirmed) {
+                counter.releaseSeat();
+            }
+        });
+    }
+
+    private Member findOrCreateMember(String memberId, String memberName, String memberEmail) {
+        return memberRepository.findByMemberId(memberId)
+                .orElseGet(() -> {
+                    Member member = new Member(memberId, memberName, memberEmail);
+                    return memberRepository.save(member);
+                });
+    }
+
+    private static class SeatCounter {
+
+        private final int maxParticipants;
+        private final AtomicInteger confirmed;
+        private final Set<String> participants = ConcurrentHashMap.newKeySet();
+
+        SeatCounter(int maxParticipants, int confirmed, List<String> memberIds) {
+            this.maxParticipants = maxParticipants;
+            this.confirmed = new AtomicInteger(confirmed);
+            this.participants.addAll(memberIds);
+        }
+
+        boolean markParticipant(String memberId) {
+            return participants.add(memberId);
+        }
+
+        void unmarkParticipant(String memberId) {
+            participants.remove(memberId);
+        }
+
+        boolean tryAcquireSeat() {
+            while (true) {
+                int current = confirmed.get();
+                if (current >= maxParticipants) {
+                    return false;
+                }
+                if (confirmed.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void releaseSeat() {
+            confirmed.decrementAndGet();
+        }
+    }
+}
@@ -5,40 +5,39 @@ import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventParticipation;
 import com.bookerapp.core.domain.model.event.Member;
 import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
 import com.bookerapp.core.domain.repository.EventRepository;
 import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.retry.ContentionAwareRetryPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import jakarta.persistence.OptimisticLockException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.retry.annotation.Recover;
-
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Optimistic Lock 방식 참여 신청
+ *
+ * 시도마다 별도 트랜잭션을 열고, 버전 충돌 시 트랜잭션 바깥에서 {@link ContentionAwareRetryPolicy}로 재시도한다.
+ * 충돌이 잦은 이벤트나 재시도 예산 소진 시에는 비관적 락 경로({@link PessimisticLockEventParticipationService})로 전환한다.
+ * fallback은 이벤트 행 잠금을 잡고 최신 버전을 읽으므로 동시에 진행 중인 낙관적 시도와 겹쳐도 버전 충돌이 나지 않는다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OptimisticLockEventParticipationService {
 
     private final EventRepository eventRepository;
+    private final EventParticipationRepository participationRepository;
     private final MemberRepository memberRepository;
+    private final PessimisticLockEventParticipationService pessimisticLockService;
+    private final ContentionAwareRetryPolicy retryPolicy;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    @Retryable(
-        value = {OptimisticLockException.class},
-        maxAttempts = 10,
-        backoff = @Backoff(delay = 10, multiplier = 1.5)
-    )
     public EventParticipationDto.Response participateInEvent(EventParticipationDto.Request request) {
         log.info("Optimistic lock participation request for event: {}, member: {}", request.getEventId(), request.getMemberId());
-        return attemptParticipation(request);
-    }
-
-    @Recover
-    public EventParticipationDto.Response recoverFromOptimisticLockException(OptimisticLockException e, EventParticipationDto.Request request) {
-        log.error("Max retry attempts exceeded for event: {}, member: {}", request.getEventId(), request.getMemberId());
-        throw new RuntimeException("참여 신청 처리 중 오류가 발생했습니다. 다시 시도해주세요.");
+        return retryPolicy.execute("optimistic", request.getEventId(),
+                () -> transactionTemplate.execute(status -> attemptParticipation(request)),
+                () -> pessimisticLockService.participateInEvent(request));
     }
 
     private EventParticipationDto.Response attemptParticipation(EventParticipationDto.Request request) {
@@ -47,44 +46,26 @@ public class OptimisticLockEventParticipationService {
 
         Member member = findOrCreateMember(request.getMemberId(), request.getMemberName(), request.getMemberEmail());
 
-        if (isAlreadyParticipating(event, member)) {
+        if (participationRepository.existsActiveParticipation(request.getEventId(), request.getMemberId())) {
             return new EventParticipationDto.Response(null, "ALREADY_PARTICIPATING", null, "이미 참여 신청된 이벤트입니다.");
         }
 
-        if (event.isFullyBooked()) {
-            int nextWaitingNumber = getNextWaitingNumber(event);
-            EventParticipation participation = new EventParticipation(event, member, ParticipationStatus.WAITING, nextWaitingNumber);
-            event.getParticipants().add(participation);
-            eventRepository.save(event); // 낙관적 락을 위한 명시적 저장
+        EventParticipation participation = event.addParticipant(member);
+        eventRepository.save(event); // 낙관적 락을 위한 명시적 저장
 
+        if (participation.getStatus() == ParticipationStatus.WAITING) {
+            // 새 대기자는 항상 대기열 끝이므로 대기 순위 = 현재 대기 인원
+            int waitingPosition = event.getWaitingCount();
             log.info("Added to waiting list (Optimistic Lock) - Event: {}, Member: {}, Waiting Number: {}",
-                    request.getEventId(), request.getMemberId(), nextWaitingNumber);
-
-            return new EventParticipationDto.Response(participation.getId(), "WAITING", nextWaitingNumber,
-                    "대기자 명단에 등록되었습니다. 대기 순번: " + nextWaitingNumber);
-        } else {
-            EventParticipation participation = new EventParticipation(event, member, ParticipationStatus.CONFIRMED);
-            event.getParticipants().add(participation);
-            eventRepository.save(event); // 낙관적 락을 위한 명시적 저장
+                    request.getEventId(), request.getMemberId(), waitingPosition);
 
-            log.info("Confirmed participation (Optimistic Lock) - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
-
-            return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
+            return new EventParticipationDto.Response(participation.getId(), "WAITING", waitingPosition,
+                    "대기자 명단에 등록되었습니다. 대기 순번: " + waitingPosition);
         }
-    }
 
-    private boolean isAlreadyParticipating(Event event, Member member) {
-        return event.getParticipants().stream()
-                .anyMatch(p -> p.getParticipant().equals(member) &&
-                        (p.getStatus() == ParticipationStatus.CONFIRMED || p.getStatus() == ParticipationStatus.WAITING));
-    }
+        log.info("Confirmed participation (Optimistic Lock) - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
 
-    private int getNextWaitingNumber(Event event) {
-        return event.getParticipants().stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.WAITING)
-                .map(EventParticipation::getWaitingNumber)
-                .max(Integer::compareTo)
-                .orElse(0) + 1;
+        return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
     }
 
     private Member findOrCreateMember(String memberId, String memberName, String memberEmail) {
@@ -5,8 +5,10 @@ import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventParticipation;
 import com.bookerapp.core.domain.model.event.Member;
 import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
 import com.bookerapp.core.domain.repository.EventRepository;
 import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,54 +20,40 @@ import org.springframework.transaction.annotation.Transactional;
 public class PessimisticLockEventParticipationService {
 
     private final EventRepository eventRepository;
+    private final EventParticipationRepository participationRepository;
     private final MemberRepository memberRepository;
+    private final ParticipationMetrics participationMetrics;
 
     @Transactional
     public EventParticipationDto.Response participateInEvent(EventParticipationDto.Request request) {
         log.info("Pessimistic lock participation request for event: {}, member: {}", request.getEventId(), request.getMemberId());
 
         // Repository 레벨에서 비관적 락을 사용하여 이벤트 조회
-        Event event = eventRepository.findWithPessimisticLockById(request.getEventId())
+        Event event = participationMetrics.recordLockWait("pessimistic", request.getEventId(),
+                        () -> eventRepository.findWithPessimisticLockById(request.getEventId()))
                 .orElseThrow(() -> new RuntimeException("Event not found"));
 
         Member member = findOrCreateMember(request.getMemberId(), request.getMemberName(), request.getMemberEmail());
 
-        if (isAlreadyParticipating(event, member)) {
+        if (participationRepository.existsActiveParticipation(request.getEventId(), request.getMemberId())) {
             return new EventParticipationDto.Response(null, "ALREADY_PARTICIPATING", null, "이미 참여 신청된 이벤트입니다.");
         }
 
-        if (event.isFullyBooked()) {
-            int nextWaitingNumber = getNextWaitingNumber(event);
-            EventParticipation participation = new EventParticipation(event, member, ParticipationStatus.WAITING, nextWaitingNumber);
-            event.getParticipants().add(participation);
+        EventParticipation participation = event.addParticipant(member);
 
+        if (participation.getStatus() == ParticipationStatus.WAITING) {
+            // 새 대기자는 항상 대기열 끝이므로 대기 순위 = 현재 대기 인원
+            int waitingPosition = event.getWaitingCount();
             log.info("Added to waiting list (Pessimistic Lock) - Event: {}, Member: {}, Waiting Number: {}",
-                    request.getEventId(), request.getMemberId(), nextWaitingNumber);
+                    request.getEventId(), request.getMemberId(), waitingPosition);
 
-            return new EventParticipationDto.Response(participation.getId(), "WAITING", nextWaitingNumber,
-                    "대기자 명단에 등록되었습니다. 대기 순번: " + nextWaitingNumber);
-        } else {
-            EventParticipation participation = new EventParticipation(event, member, ParticipationStatus.CONFIRMED);
-            event.getParticipants().add(participation);
-
-            log.info("Confirmed participation (Pessimistic Lock) - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
-
-            return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
+            return new EventParticipationDto.Response(participation.getId(), "WAITING", waitingPosition,
+                    "대기자 명단에 등록되었습니다. 대기 순번: " + waitingPosition);
         }
-    }
 
-    private boolean isAlreadyParticipating(Event event, Member member) {
-        return event.getParticipants().stream()
-                .anyMatch(p -> p.getParticipant().equals(member) &&
-                        (p.getStatus() == ParticipationStatus.CONFIRMED || p.getStatus() == ParticipationStatus.WAITING));
-    }
+        log.info("Confirmed participation (Pessimistic Lock) - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
 
-    private int getNextWaitingNumber(Event event) {
-        return event.getParticipants().stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.WAITING)
-                .map(EventParticipation::getWaitingNumber)
-                .max(Integer::compareTo)
-                .orElse(0) + 1;
+        return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
     }
 
     private Member findOrCreateMember(String memberId, String memberName, String memberEmail) {
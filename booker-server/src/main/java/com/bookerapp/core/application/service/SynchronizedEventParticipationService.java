@@ -5,66 +5,70 @@ import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventParticipation;
 import com.bookerapp.core.domain.model.event.Member;
 import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
 import com.bookerapp.core.domain.repository.EventRepository;
 import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.lock.EventLockRegistry;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 이벤트 단위 락 기반 참여 신청
+ *
+ * 빈 전체에 거는 synchronized 대신 이벤트 ID별 스트라이프 락을 사용하여
+ * 서로 다른 이벤트의 참여 신청이 병렬로 처리되도록 한다.
+ * 락 안에서 트랜잭션을 시작하고 커밋까지 마친 뒤 락을 해제한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SynchronizedEventParticipationService {
 
     private final EventRepository eventRepository;
+    private final EventParticipationRepository participationRepository;
     private final MemberRepository memberRepository;
+    private final EventLockRegistry eventLockRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ParticipationMetrics participationMetrics;
 
-    @Transactional
-    public synchronized EventParticipationDto.Response participateInEvent(EventParticipationDto.Request request) {
+    public EventParticipationDto.Response participateInEvent(EventParticipationDto.Request request) {
         log.info("Synchronized participation request for event: {}, member: {}", request.getEventId(), request.getMemberId());
 
+        long waitStartNanos = System.nanoTime();
+        return eventLockRegistry.executeWithLock(request.getEventId(), () -> {
+            participationMetrics.recordLockWait("synchronized", request.getEventId(), System.nanoTime() - waitStartNanos);
+            return transactionTemplate.execute(status -> attemptParticipation(request));
+        });
+    }
+
+    private EventParticipationDto.Response attemptParticipation(EventParticipationDto.Request request) {
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new RuntimeException("Event not found"));
 
         Member member = findOrCreateMember(request.getMemberId(), request.getMemberName(), request.getMemberEmail());
 
-        if (isAlreadyParticipating(event, member)) {
+        if (participationRepository.existsActiveParticipation(request.getEventId(), request.getMemberId())) {
             return new EventParticipationDto.Response(null, "ALREADY_PARTICIPATING", null, "이미 참여 신청된 이벤트입니다.");
         }
 
-        if (event.isFullyBooked()) {
-            int nextWaitingNumber = getNextWaitingNumber(event);
-            EventParticipation participation = new EventParticipation(event, member, ParticipationStatus.WAITING, nextWaitingNumber);
-            event.getParticipants().add(participation);
+        EventParticipation participation = event.addParticipant(member);
 
+        if (participation.getStatus() == ParticipationStatus.WAITING) {
+            // 새 대기자는 항상 대기열 끝이므로 대기 순위 = 현재 대기 인원
+            int waitingPosition = event.getWaitingCount();
             log.info("Added to waiting list - Event: {}, Member: {}, Waiting Number: {}",
-                    request.getEventId(), request.getMemberId(), nextWaitingNumber);
-
-            return new EventParticipationDto.Response(participation.getId(), "WAITING", nextWaitingNumber,
-                    "대기자 명단에 등록되었습니다. 대기 순번: " + nextWaitingNumber);
-        } else {
-            EventParticipation participation = new EventParticipation(event, member, ParticipationStatus.CONFIRMED);
-            event.getParticipants().add(participation);
+                    request.getEventId(), request.getMemberId(), waitingPosition);
 
-            log.info("Confirmed participation - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
-
-            return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
+            return new EventParticipationDto.Response(participation.getId(), "WAITING", waitingPosition,
+                    "대기자 명단에 등록되었습니다. 대기 순번: " + waitingPosition);
         }
-    }
 
-    private boolean isAlreadyParticipating(Event event, Member member) {
-        return event.getParticipants().stream()
-                .anyMatch(p -> p.getParticipant().equals(member) &&
-                        (p.getStatus() == ParticipationStatus.CONFIRMED || p.getStatus() == ParticipationStatus.WAITING));
-    }
+        log.info("Confirmed participation - Event: {}, Member: {}", request.getEventId(), request.getMemberId());
 
-    private int getNextWaitingNumber(Event event) {
-        return event.getParticipants().stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.WAITING)
-                .map(EventParticipation::getWaitingNumber)
-                .max(Integer::compareTo)
-                .orElse(0) + 1;
+        return new EventParticipationDto.Response(participation.getId(), "CONFIRMED", null, "참여가 확정되었습니다.");
     }
 
     private Member findOrCreateMember(String memberId, String memberName, String memberEmail) {
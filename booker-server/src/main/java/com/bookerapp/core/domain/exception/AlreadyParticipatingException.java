@@ -0,0 +1,12 @@
+package com.bookerapp.core.domain.exception;
+
+/**
+ * 이미 참여(확정/대기) 중인 이벤트에 다시 신청
+ * 기존 IllegalStateException 처리(400 응답)를 그대로 따르며, 참여 메트릭에서는 실패가 아닌 ALREADY로 집계한다.
+ */
+public class AlreadyParticipatingException extends IllegalStateException {
+
+    public AlreadyParticipatingException() {
+        super("이미 참여한 이벤트입니다.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookerapp.core.domain.exception;
+
+public class LockAcquisitionException extends RuntimeException {
+
+    public LockAcquisitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,207 @@
+package com.bookerapp.core.domain.model;
+
+import com.bookerapp.core.domain.exception.InvalidBookException;
+
+import java.util.List;
+
+/**
+ * ISBN 값 타입
+ *
+ * ISBN-10/13을 정규식 없이 한 번의 순회로 해석하고 체크 숫자까지 검증한다 (ISBN-13은 978/979 접두어만 허용).
+ * 하이픈과 공백은 구분자로 보고 무시하며, ISBN-10의 마지막 체크 문자는 X를 허용한다.
+ *
+ * 같은 책의 ISBN-10과 978 접두어 ISBN-13은 동일하게 취급한다 ({@link #equals}, {@link #toIsbn13()}).
+ * 저장은 입력한 형식 그대로(구분자만 제거) 하고, 중복 확인/색인에는 ISBN-13 형식을 사용한다.
+ *
+ * 대량 처리 경로에서는 객체를 만들지 않는 {@link #isValid(CharSequence)}, {@link #toIsbn13Number(CharSequence)}를 사용한다.
+ */
+public final class Isbn {
+
+    /**
+     * {@link #toIsbn13Number(CharSequence)}의 해석 실패 값
+     */
+    public static final long INVALID = -1L;
+
+    private static final long ISBN_978_PREFIX = 978_000_000_000L;
+    // "978"의 ISBN-13 가중합 (9*1 + 7*3 + 8*1)
+    private static final int ISBN_978_WEIGHTED_SUM = 38;
+
+    private final String value;
+    private final long isbn13;
+
+    private Isbn(String value, long isbn13) {
+        this.value = value;
+        this.isbn13 = isbn13;
+    }
+
+    /**
+     * @throws InvalidBookException 자릿수나 체크 숫자가 올바르지 않은 경우
+     */
+    public static Isbn parse(CharSequence text) {
+        long isbn13 = toIsbn13Number(text);
+        if (isbn13 == INVALID) {
+            throw new InvalidBookException(describeError(text));
+        }
+        return new Isbn(compact(text), isbn13);
+    }
+
+    public static boolean isValid(CharSequence text) {
+        return toIsbn13Number(text) != INVALID;
+    }
+
+    /**
+     * ISBN-13 형식 문자열로 정규화
+     *
+     * @return 올바른 ISBN이 아니면 null
+     */
+    public static String normalize(CharSequence text) {
+        long isbn13 = toIsbn13Number(text);
+        return isbn13 == INVALID ? null : format13(isbn13);
+    }
+
+    /**
+     * ISBN-10/13을 해석해 ISBN-13 값을 숫자로 돌려준다 (객체 생성 없음)
+     *
+     * @return 자릿수, 문자, 체크 숫자 중 하나라도 올바르지 않으면 {@link #INVALID}
+     */
+    public static long toIsbn13Number(CharSequence text) {
+        if (text == null) {
+            return INVALID;
+        }
+        int count = 0;
+        long number = 0;
+        int sum10 = 0;          // ISBN-10 가중합 (10, 9, ..., 1)
+        int sum13 = 0;          // ISBN-13 가중합 (1, 3, 1, 3, ...)
+        int sum13From10 = 0;    // ISBN-10 앞 9자리를 978 뒤에 붙였을 때의 가중합 (3, 1, 3, ...)
+        boolean checkX = false;
+
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            if (checkX || count == 13) {
+                return INVALID;
+            }
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if ((c == 'X' || c == 'x') && count == 9) {
+                digit = 10;
+                checkX = true;
+            } else {
+                return INVALID;
+            }
+            if (count < 10) {
+                sum10 += (10 - count) * digit;
+            }
+            sum13 += ((count & 1) == 0 ? 1 : 3) * digit;
+            if (count < 9) {
+                sum13From10 += ((count & 1) == 0 ? 3 : 1) * digit;
+            }
+            number = number * 10 + (checkX ? 0 : digit);
+            count++;
+        }
+
+        if (count == 13) {
+            long prefix = number / 10_000_000_000L;
+            return sum13 % 10 == 0 && (prefix == 978 || prefix == 979) ? number : INVALID;
+        }
+        if (count == 10) {
+            if (sum10 % 11 != 0) {
+                return INVALID;
+            }
+            long first9 = number / 10;
+            int check = (10 - (ISBN_978_WEIGHTED_SUM + sum13From10) % 10) % 10;
+            return (ISBN_978_PREFIX + first9) * 10 + check;
+        }
+        return INVALID;
+    }
+
+    /**
+     * 입력 형식 그대로의 구분자 없는 값 (ISBN-10이면 10자리, 체크 문자 X는 대문자)
+     */
+    public String value() {
+        return value;
+    }
+
+    public String toIsbn13() {
+        return format13(isbn13);
+    }
+
+    /**
+     * ISBN-10 형식 (979 접두어 ISBN-13은 ISBN-10이 없으므로 null)
+     */
+    public String toIsbn10() {
+        if (isbn13 / 10_000_000_000L != 978) {
+            return null;
+        }
+        long first9 = (isbn13 / 10) % 1_000_000_000L;
+        int sum = 0;
+        long remaining = first9;
+        for (int weight = 2; weight <= 10; weight++) {
+            sum += weight * (int) (remaining % 10);
+            remaining /= 10;
+        }
+        int check = (11 - sum % 11) % 11;
+        return String.format("%09d", first9) + (check == 10 ? "X" : String.valueOf(check));
+    }
+
+    /**
+     * 저장된 도서를 찾을 때 비교할 값 목록 - 같은 책의 ISBN-13과 ISBN-10 형식
+     */
+    public List<String> lookupKeys() {
+        String isbn10 = toIsbn10();
+        return isbn10 == null ? List.of(toIsbn13()) : List.of(toIsbn13(), isbn10);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Isbn other && isbn13 == other.isbn13);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(isbn13);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    private static String format13(long isbn13) {
+        return String.format("%013d", isbn13);
+    }
+
+    // 구분자나 소문자 x가 없으면 (대부분의 입력) 새 문자열을 만들지 않는다
+    private static String compact(CharSequence text) {
+        boolean clean = true;
+        for (int i = 0; i < text.length() && clean; i++) {
+            char c = text.charAt(i);
+            clean = c != '-' && c != ' ' && c != 'x';
+        }
+        if (clean) {
+            return text.toString();
+        }
+        StringBuilder builder = new StringBuilder(13);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '-' && c != ' ') {
+                builder.append(c == 'x' ? 'X' : c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // 실패 경로에서만 호출되므로 형식 오류와 체크 숫자 오류를 구분하기 위해 다시 훑는다
+    private static String describeError(CharSequence text) {
+        String compact = text == null ? "" : compact(text);
+        boolean wellFormed = compact.length() == 13 && compact.chars().allMatch(Character::isDigit)
+                || compact.length() == 10 && compact.substring(0, 9).chars().allMatch(Character::isDigit)
+                && (Character.isDigit(compact.charAt(9)) || compact.charAt(9) == 'X');
+        return wellFormed
+                ? "올바르지 않은 ISBN입니다 (체크 숫자 또는 접두어 오류): " + text
+                : "ISBN은 10자리 또는 13자리 숫자여야 합니다.";
+    }
+}
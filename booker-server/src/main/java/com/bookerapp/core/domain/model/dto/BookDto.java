@@ -4,12 +4,16 @@ import com.bookerapp.core.domain.model.entity.Book;
 import com.bookerapp.core.domain.model.entity.BookLocation;
 import com.bookerapp.core.domain.model.enums.BookStatus;
 import com.bookerapp.core.domain.model.enums.Floor;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 public class BookDto {
 
     @Getter
@@ -43,9 +47,9 @@ public class BookDto {
 
         @NotBlank(message = "ISBN은 필수입니다")
         @Schema(
-            description = "ISBN - 국제 표준 도서 번호 (10자리 또는 13자리 숫자만 허용). 하이픈(-) 없이 숫자만 입력하세요",
+            description = "ISBN - 국제 표준 도서 번호 (ISBN-10 또는 ISBN-13, 체크 숫자 검증). 하이픈(-)은 제거되어 저장됩니다",
             example = "9780132350884",
-            pattern = "^\\d{10}|\\d{13}$",
+            pattern = "^(\\d{9}[\\dX]|\\d{13})$",
             required = true
         )
         private String isbn;
@@ -200,6 +204,80 @@ public class BookDto {
         }
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(name = "BookSuggestion", description = "도서 자동완성 후보 - 제목 또는 저자 문구")
+    public static class SuggestionResponse {
+        @Schema(description = "후보 문구 (등록된 표기 그대로)", example = "Clean Code")
+        private String text;
+
+        @Schema(description = "후보 종류 - TITLE(제목), AUTHOR(저자)", example = "TITLE", allowableValues = { "TITLE", "AUTHOR" })
+        private String type;
+
+        @Schema(description = "해당 문구를 가진 도서 수", example = "1")
+        private int bookCount;
+
+        public static SuggestionResponse of(String text, String type, int bookCount) {
+            SuggestionResponse response = new SuggestionResponse();
+            response.text = text;
+            response.type = type;
+            response.bookCount = bookCount;
+            return response;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @Schema(name = "BookStats", description = "도서/대출 현황 집계 - 인메모리 카운터 값 (주기적으로 DB와 재집계)")
+    public static class StatsResponse {
+        @Schema(description = "전체 도서 수 (삭제된 도서 제외)", example = "1200")
+        private long totalBooks;
+
+        @Schema(description = "상태별 도서 수", example = "{\"AVAILABLE\": 1000, \"LOANED\": 180, \"RESERVED\": 10, \"PROCESSING\": 5, \"UNAVAILABLE\": 5}")
+        private Map<BookStatus, Long> byStatus;
+
+        @Schema(description = "층별 도서 수", example = "{\"FOURTH\": 700, \"TWELFTH\": 400}")
+        private Map<Floor, Long> byFloor;
+
+        @Schema(description = "위치가 지정되지 않은 도서 수", example = "100")
+        private long booksWithoutLocation;
+
+        @Schema(description = "상태별 대출 건수", example = "{\"PENDING\": 0, \"WAITING\": 25, \"ACTIVE\": 170, \"OVERDUE\": 10, \"RETURNED\": 5000, \"CANCELLED\": 30}")
+        private Map<LoanStatus, Long> loansByStatus;
+
+        @Schema(description = "대출 중인 건수 (ACTIVE + OVERDUE)", example = "180")
+        private long activeLoans;
+
+        @Schema(description = "연체 건수", example = "10")
+        private long overdueLoans;
+
+        @Schema(description = "대기 중인 예약 건수", example = "25")
+        private long waitingLoans;
+
+        @Schema(description = "마지막 DB 재집계 시각 (기동 직후 재집계 전에는 null)", example = "2024-01-15T10:30:00")
+        private LocalDateTime reconciledAt;
+
+        @Schema(description = "마지막 재집계에서 보정된 차이 (0이면 카운터가 DB와 일치했음)", example = "0")
+        private long lastDrift;
+
+        public static StatsResponse of(Map<BookStatus, Long> byStatus, Map<Floor, Long> byFloor, long booksWithoutLocation,
+                                       Map<LoanStatus, Long> loansByStatus, LocalDateTime reconciledAt, long lastDrift) {
+            StatsResponse response = new StatsResponse();
+            response.totalBooks = byStatus.values().stream().mapToLong(Long::longValue).sum();
+            response.byStatus = byStatus;
+            response.byFloor = byFloor;
+            response.booksWithoutLocation = booksWithoutLocation;
+            response.loansByStatus = loansByStatus;
+            response.activeLoans = loansByStatus.get(LoanStatus.ACTIVE) + loansByStatus.get(LoanStatus.OVERDUE);
+            response.overdueLoans = loansByStatus.get(LoanStatus.OVERDUE);
+            response.waitingLoans = loansByStatus.get(LoanStatus.WAITING);
+            response.reconciledAt = reconciledAt;
+            response.lastDrift = lastDrift;
+            return response;
+        }
+    }
+
     @Getter
     @Setter
     @Schema(name = "BookSearchRequest", description = "도서 검색 및 필터링 요청 모델")
@@ -218,6 +296,13 @@ public class BookDto {
         )
         private String author;
 
+        @Schema(
+            description = "통합 검색어 - 제목/저자/출판사/ISBN 전체에서 검색하며 관련도 순으로 정렬됨",
+            example = "클린 코드",
+            nullable = true
+        )
+        private String keyword;
+
         @Schema(
             description = "도서 상태로 필터링 - AVAILABLE(대출가능), LOANED(대출중), PROCESSING(처리중), RESERVED(예약됨), UNAVAILABLE(이용불가)",
             example = "AVAILABLE",
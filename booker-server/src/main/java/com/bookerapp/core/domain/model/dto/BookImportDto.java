@@ -0,0 +1,113 @@
+package com.bookerapp.core.domain.model.dto;
+
+import com.bookerapp.core.domain.exception.InvalidBookException;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Locale;
+
+public class BookImportDto {
+
+    /**
+     * 가져오기 파일 형식
+     */
+    public enum Format {
+        CSV, JSONL;
+
+        /**
+         * 명시된 형식이 없으면 파일 확장자로 판단한다 (.jsonl/.ndjson → JSONL, 그 외 CSV)
+         */
+        public static Format resolve(String format, String filename) {
+            if (format != null && !format.isBlank()) {
+                try {
+                    return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidBookException("지원하지 않는 가져오기 형식입니다: " + format);
+                }
+            }
+            String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+            return name.endsWith(".jsonl") || name.endsWith(".ndjson") ? JSONL : CSV;
+        }
+    }
+
+    /**
+     * 파일에서 읽은 한 행
+     *
+     * @param line 원본 파일의 줄 번호 (CSV 헤더 포함, 1부터)
+     * @param parseError 행을 해석하지 못한 경우의 사유 (정상이면 null)
+     */
+    public record Row(long line, String title, String author, String isbn, String publisher,
+                      String coverImageUrl, String parseError) {
+
+        public static Row failed(long line, String parseError) {
+            return new Row(line, null, null, null, null, null, parseError);
+        }
+
+        public Row withIsbn(String isbn) {
+            return new Row(line, title, author, isbn, publisher, coverImageUrl, parseError);
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @Schema(name = "BookImportRowError", description = "가져오기에 실패한 행")
+    public static class RowError {
+        @Schema(description = "원본 파일의 줄 번호", example = "42")
+        private long line;
+
+        @Schema(description = "행의 ISBN (읽지 못한 경우 null)", example = "9780132350884")
+        private String isbn;
+
+        @Schema(description = "실패 사유", example = "ISBN은 10자리 또는 13자리 숫자여야 합니다.")
+        private String message;
+
+        public static RowError of(long line, String isbn, String message) {
+            RowError error = new RowError();
+            error.line = line;
+            error.isbn = isbn;
+            error.message = message;
+            return error;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @Schema(name = "BookImportResult", description = "도서 일괄 가져오기 결과")
+    public static class Result {
+        @Schema(description = "읽은 데이터 행 수", example = "100000")
+        private long totalRows;
+
+        @Schema(description = "등록된 도서 수", example = "99870")
+        private long imported;
+
+        @Schema(description = "이미 등록되었거나 파일 안에서 중복된 ISBN이라 건너뛴 행 수", example = "120")
+        private long duplicates;
+
+        @Schema(description = "유효성 검증/저장에 실패한 행 수", example = "10")
+        private long failed;
+
+        @Schema(description = "실패 행 목록 (최대 개수까지만 포함, 중복은 포함하지 않음)")
+        private List<RowError> errors;
+
+        @Schema(description = "실패 행 목록이 최대 개수를 넘어 잘렸는지 여부", example = "false")
+        private boolean errorsTruncated;
+
+        @Schema(description = "처리 시간 (ms)", example = "5230")
+        private long elapsedMillis;
+
+        public static Result of(long totalRows, long imported, long duplicates, long failed,
+                                List<RowError> errors, boolean errorsTruncated, long elapsedMillis) {
+            Result result = new Result();
+            result.totalRows = totalRows;
+            result.imported = imported;
+            result.duplicates = duplicates;
+            result.failed = failed;
+            result.errors = errors;
+            result.errorsTruncated = errorsTruncated;
+            result.elapsedMillis = elapsedMillis;
+            return result;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bookerapp.core.domain.model.dto;
 
 import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.domain.model.entity.MemberFeeBalance;
 import com.bookerapp.core.domain.model.enums.LoanStatus;
 
 import lombok.Getter;
@@ -67,10 +68,10 @@ public class BookLoanDto {
                 example = "ACTIVE")
         private LoanStatus status;
 
-        @Schema(description = "연체 여부 - 반납예정일 초과 시 true", example = "false")
+        @Schema(description = "연체 여부 - OVERDUE(연체) 상태이면 true", example = "false")
         private boolean overdue;
 
-        @Schema(description = "연체료 (원) - 연체일 × 100원, 반납 전에만 표시", example = "0")
+        @Schema(description = "연체료 (원) - 연체 하루마다 100원씩 연체료 원장에 적립된 합계 (반납 후에도 유지)", example = "0")
         private Integer overdueFee;
 
         @Schema(description = "연장 횟수 - 최대 1회까지 가능", example = "0")
@@ -79,6 +80,9 @@ public class BookLoanDto {
         @Schema(description = "대기 순서 - WAITING 상태인 경우만 표시", example = "3")
         private Integer waitingPosition;
 
+        @Schema(description = "수령 기한 - 대기자 인계로 보관 중(PENDING)인 경우만 표시, 지나면 다음 대기자에게 인계", example = "2025-08-09T10:30:00")
+        private LocalDateTime holdExpiresAt;
+
         public static Response from(BookLoan loan) {
             Response response = new Response();
             response.id = loan.getId();
@@ -92,14 +96,40 @@ public class BookLoanDto {
             response.dueDate = loan.getDueDate();
             response.returnDate = loan.getReturnDate();
             response.status = loan.getStatus();
-            response.overdue = loan.isOverdue();
-            response.overdueFee = loan.calculateOverdueFee();
+            response.overdue = loan.getStatus() == LoanStatus.OVERDUE;
+            response.overdueFee = loan.getOverdueFee();
             response.extensionCount = loan.getExtensionCount();
+            response.holdExpiresAt = loan.getStatus() == LoanStatus.PENDING ? loan.getHoldExpiresAt() : null;
             // waitingPosition은 서비스 레이어에서 설정
             return response;
         }
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(name = "OverdueFeeBalanceResponse", description = "회원 연체료 잔액")
+    public static class FeeBalanceResponse {
+        @Schema(description = "회원 ID", example = "f882b4bd-b04e-4d2a-aaac-f45ab772af72")
+        private String memberId;
+
+        @Schema(description = "적립된 연체료 합계 (원) - 연체 하루마다 100원", example = "700")
+        private long balance;
+
+        @Schema(description = "마지막 적립 시각 - 적립된 연체료가 없으면 null", example = "2025-08-27T00:40:00")
+        private LocalDateTime updatedAt;
+
+        public static FeeBalanceResponse of(String memberId, MemberFeeBalance balance) {
+            FeeBalanceResponse response = new FeeBalanceResponse();
+            response.memberId = memberId;
+            if (balance != null) {
+                response.balance = balance.getBalance();
+                response.updatedAt = balance.getUpdatedAt();
+            }
+            return response;
+        }
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -11,7 +11,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class EventDto {
@@ -32,10 +35,10 @@ public class EventDto {
         @Schema(description = "신청일시", example = "2025-01-15T10:30:00")
         private LocalDateTime registrationDate;
 
-        @Schema(description = "대기 번호 (대기 상태인 경우)", example = "1")
+        @Schema(description = "대기 순위 (대기 상태인 경우, 등록 순서 기준으로 계산)", example = "1")
         private Integer waitingNumber;
 
-        public static ParticipantDto from(EventParticipation participation) {
+        public static ParticipantDto from(EventParticipation participation, Integer waitingPosition) {
             if (participation == null) {
                 return null;
             }
@@ -44,7 +47,7 @@ public class EventDto {
                     .member(MemberDto.from(participation.getParticipant()))
                     .status(participation.getStatus())
                     .registrationDate(participation.getRegistrationDate())
-                    .waitingNumber(participation.getWaitingNumber())
+                    .waitingNumber(waitingPosition)
                     .build();
         }
     }
@@ -121,7 +124,7 @@ public class EventDto {
         @Schema(description = "발표자/진행자 정보")
         private MemberDto presenter;
 
-        @Schema(description = "참여자 목록")
+        @Schema(description = "참여자 목록 (상세 조회에서만 포함, 목록 조회 시 null)")
         private List<ParticipantDto> participants;
 
         @Schema(description = "정원 마감 여부 - 확정 참여자가 최대 인원에 도달했는지 여부", example = "false")
@@ -130,17 +133,42 @@ public class EventDto {
         @Schema(description = "확정 참여자 수", example = "25")
         private int confirmedCount;
 
+        @Schema(description = "대기 인원 수", example = "5")
+        private int waitingCount;
+
         @Schema(description = "참가 가능 여부 - 추가 참가가 가능한지 여부 (정원 마감 시 false)", example = "true")
         private boolean available;
 
         public static Response from(Event event) {
-            long confirmedCount = event.getParticipants() != null ?
-                    event.getParticipants().stream()
-                            .filter(p -> p.getStatus() == ParticipationStatus.CONFIRMED)
-                            .count() : 0;
+            Map<EventParticipation, Integer> waitingPositions = waitingPositions(event.getParticipants());
+            return baseBuilder(event)
+                    .participants(event.getParticipants().stream()
+                            .map(p -> ParticipantDto.from(p, waitingPositions.get(p)))
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+        // 대기 순위는 저장하지 않고 등록 순서(waitingNumber)로 정렬하여 계산한다
+        private static Map<EventParticipation, Integer> waitingPositions(List<EventParticipation> participants) {
+            List<EventParticipation> waiting = participants.stream()
+                    .filter(p -> p.getStatus() == ParticipationStatus.WAITING)
+                    .sorted(Comparator.comparing(EventParticipation::getWaitingNumber))
+                    .toList();
+            Map<EventParticipation, Integer> positions = new IdentityHashMap<>();
+            for (int i = 0; i < waiting.size(); i++) {
+                positions.put(waiting.get(i), i + 1);
+            }
+            return positions;
+        }
 
-            boolean isFullyBooked = confirmedCount >= event.getMaxParticipants();
+        /**
+         * 목록 조회용 응답 - participants 컬렉션을 로딩하지 않고 집계 컬럼만 사용한다.
+         */
+        public static Response summaryFrom(Event event) {
+            return baseBuilder(event).build();
+        }
 
+        private static ResponseBuilder baseBuilder(Event event) {
             return Response.builder()
                     .id(event.getId())
                     .title(event.getTitle())
@@ -150,15 +178,10 @@ public class EventDto {
                     .endTime(event.getEndTime())
                     .maxParticipants(event.getMaxParticipants())
                     .presenter(MemberDto.from(event.getPresenter()))
-                    .participants(event.getParticipants() != null ?
-                            event.getParticipants().stream()
-                                    .map(ParticipantDto::from)
-                                    .collect(Collectors.toList()) :
-                            List.of())
-                    .isFullyBooked(isFullyBooked)
-                    .confirmedCount((int) confirmedCount)
-                    .available(!isFullyBooked)
-                    .build();
+                    .isFullyBooked(event.isFullyBooked())
+                    .confirmedCount(event.getConfirmedCount())
+                    .waitingCount(event.getWaitingCount())
+                    .available(!event.isFullyBooked());
         }
     }
 }
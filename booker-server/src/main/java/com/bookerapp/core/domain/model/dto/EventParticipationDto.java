@@ -72,7 +72,7 @@ public class EventParticipationDto {
         private LocalDateTime registrationDate;
 
         @Schema(
-                description = "대기 번호 - WAITING 상태인 경우만 존재",
+                description = "대기 순위 - WAITING 상태인 경우만 존재",
                 example = "3"
         )
         private Integer waitingNumber;
@@ -103,5 +103,19 @@ public class EventParticipationDto {
             response.strategy = strategy;
             return response;
         }
+
+        /**
+         * Entity를 Response DTO로 변환 (대기 순위 지정)
+         *
+         * @param participation EventParticipation 엔티티
+         * @param strategy 사용된 동시성 제어 전략
+         * @param waitingPosition 대기 순위 (WAITING이 아니면 null)
+         * @return Response DTO
+         */
+        public static Response from(EventParticipation participation, String strategy, Integer waitingPosition) {
+            Response response = from(participation, strategy);
+            response.waitingNumber = waitingPosition;
+            return response;
+        }
     }
 }
@@ -0,0 +1,65 @@
+package com.bookerapp.core.domain.model.dto;
+
+import com.bookerapp.core.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ *
+ * 마지막으로 반환한 행의 정렬 키(createdAt 또는 startTime)와 ID를 담아 다음 조회의 탐색 시작점으로 쓴다.
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 토큰으로만 노출한다.
+ * 정렬 키가 없는 경우(관련도 순 검색 결과)에는 ID만 담는다.
+ */
+public record SliceCursor(LocalDateTime key, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static SliceCursor of(LocalDateTime key, Long id) {
+        return new SliceCursor(key, id);
+    }
+
+    /**
+     * 키셋 조회에 쓸 정렬 키
+     * 관련도 순 검색 결과에서 받은 커서는 ID만 있으므로 키셋 조회를 이어갈 수 없다 (비교 대상이 null이면 빈 페이지가 된다).
+     *
+     * @throws InvalidCursorException 정렬 키가 없는 경우
+     */
+    public LocalDateTime requireKey() {
+        if (key == null) {
+            throw new InvalidCursorException(encode());
+        }
+        return key;
+    }
+
+    public String encode() {
+        String raw = (key != null ? key.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 이전 응답의 nextCursor (null 또는 빈 값이면 첫 조회)
+     * @return 첫 조회이면 null
+     * @throws InvalidCursorException 형식이 잘못된 경우
+     */
+    public static SliceCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            String key = raw.substring(0, separator);
+            return new SliceCursor(key.isEmpty() ? null : LocalDateTime.parse(key),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.bookerapp.core.domain.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Schema(name = "SliceResponse", description = "커서 기반 페이징 응답 (COUNT 쿼리 없음)")
+public class SliceResponse<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    @Schema(description = "데이터 목록")
+    private final List<T> content;
+
+    @Schema(description = "요청한 조회 크기", example = "20")
+    private final int size;
+
+    @Schema(description = "다음 데이터 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "다음 조회에 그대로 전달할 커서 (마지막이면 null)", example = "MjAyNS0wMS0xNVQxMDozMDp8NDI", nullable = true)
+    private final String nextCursor;
+
+    @Schema(description = "전체 데이터 개수 - withTotal=true로 요청한 경우에만 포함", example = "100", nullable = true)
+    private final Long totalElements;
+
+    private SliceResponse(List<T> content, int size, boolean hasNext, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    /**
+     * 조회 크기 보정 (1 ~ {@link #MAX_SIZE})
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 응답 생성 - 초과분이 있으면 다음 데이터가 있는 것으로 보고 잘라낸다.
+     *
+     * @param fetched size + 1건까지 조회한 결과
+     * @param size 요청 크기
+     * @param cursorOf 마지막 행의 커서
+     * @param totalElements 전체 개수 (요청하지 않았으면 null)
+     */
+    public static <T> SliceResponse<T> of(List<T> fetched, int size, Function<T, SliceCursor> cursorOf, Long totalElements) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new SliceResponse<>(content, size, hasNext, nextCursor, totalElements);
+    }
+
+    public <R> SliceResponse<R> map(Function<T, R> mapper) {
+        return new SliceResponse<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor, totalElements);
+    }
+}
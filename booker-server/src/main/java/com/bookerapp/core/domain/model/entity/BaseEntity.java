@@ -2,6 +2,8 @@ package com.bookerapp.core.domain.model.entity;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -10,11 +12,24 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
+/**
+ * 공통 감사/버전/삭제 표시 컬럼
+ *
+ * 삭제 표시(is_deleted)된 행은 {@link #NOT_DELETED_FILTER} 필터로 모든 엔티티 조회(JPQL/Criteria/파생 쿼리)에서 제외된다.
+ * 필터는 모든 EntityManager에서 켜져 있으며 (SoftDeleteFilterConfig), 다음 경로에는 적용되지 않는다.
+ * - findById/getReferenceById 등 ID 직접 로딩과 지연 로딩되는 to-one 연관: 호출한 쪽에서 {@link #isDeleted()}를 확인한다.
+ * - 네이티브 쿼리와 JDBC: SQL에 is_deleted 조건을 직접 쓴다.
+ * 오래된 삭제 행은 SoftDeletePurgeJob이 보관 테이블(*_archive)로 옮긴다.
+ */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
+@FilterDef(name = BaseEntity.NOT_DELETED_FILTER, defaultCondition = "is_deleted = false")
+@Filter(name = BaseEntity.NOT_DELETED_FILTER)
 @Getter
 public abstract class BaseEntity {
 
+    public static final String NOT_DELETED_FILTER = "notDeleted";
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -1,7 +1,11 @@
 package com.bookerapp.core.domain.model.entity;
 
 import com.bookerapp.core.domain.exception.InvalidBookException;
+import com.bookerapp.core.domain.model.Isbn;
 import com.bookerapp.core.domain.model.enums.BookStatus;
+import com.bookerapp.core.infrastructure.cache.BookCacheInvalidationListener;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
+import com.bookerapp.core.infrastructure.stats.CatalogStatisticsListener;
 
 import jakarta.persistence.*;
 import lombok.Builder;
@@ -9,7 +13,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_deleted_created_at_id", columnList = "is_deleted, created_at, id"),
+        @Index(name = "idx_books_deleted_status", columnList = "is_deleted, status")
+})
+@EntityListeners({BookCacheInvalidationListener.class, CatalogStatisticsListener.class})
 @Getter
 @NoArgsConstructor
 public class Book extends BaseEntity {
@@ -40,16 +48,20 @@ public class Book extends BaseEntity {
     @ManyToOne(cascade = CascadeType.ALL)
     private BookLocation location;
 
+    // 현황 집계에 마지막으로 반영된 상태 (로딩/저장 시점, DB에 저장하지 않음)
+    @Transient
+    private CatalogStatistics.BookState countedState;
+
     @Builder(builderClassName = "BookBuilder")
     private Book(String title, String author, String isbn, String publisher,
             String coverImageUrl, BookLocation location) {
         validateTitle(title);
         validateAuthor(author);
-        validateIsbn(isbn);
+        String normalizedIsbn = normalizeIsbn(isbn);
 
         this.title = title;
         this.author = author;
-        this.isbn = isbn;
+        this.isbn = normalizedIsbn;
         this.publisher = publisher;
         this.coverImageUrl = coverImageUrl;
         this.location = location;
@@ -67,10 +79,13 @@ public class Book extends BaseEntity {
         }
     }
 
-    private static void validateIsbn(String isbn) {
-        if (isbn != null && !isbn.matches("^\\d{10}|\\d{13}$")) {
-            throw new InvalidBookException("ISBN은 10자리 또는 13자리 숫자여야 합니다.");
-        }
+    // 체크 숫자까지 검증하고 구분자(하이픈/공백)를 제거한 값을 저장한다
+    private static String normalizeIsbn(String isbn) {
+        return isbn == null ? null : Isbn.parse(isbn).value();
+    }
+
+    public void markCounted(CatalogStatistics.BookState countedState) {
+        this.countedState = countedState;
     }
 
     public boolean isAvailableForLoan() {
@@ -89,11 +104,11 @@ public class Book extends BaseEntity {
             String publisher, String coverImageUrl, BookLocation location) {
         validateTitle(title);
         validateAuthor(author);
-        validateIsbn(isbn);
+        String normalizedIsbn = normalizeIsbn(isbn);
 
         this.title = title;
         this.author = author;
-        this.isbn = isbn;
+        this.isbn = normalizedIsbn;
         this.publisher = publisher;
         this.coverImageUrl = coverImageUrl;
         this.location = location;
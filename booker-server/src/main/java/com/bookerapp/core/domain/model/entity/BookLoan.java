@@ -11,9 +11,17 @@ import java.time.LocalDateTime;
 
 import com.bookerapp.core.domain.model.enums.BookStatus;
 import com.bookerapp.core.domain.model.enums.LoanStatus;
+import com.bookerapp.core.infrastructure.overdue.LoanDeadlineListener;
+import com.bookerapp.core.infrastructure.stats.CatalogStatisticsListener;
 
 @Entity
-@Table(name = "book_loans")
+@Table(name = "book_loans", indexes = {
+        @Index(name = "idx_book_loans_deleted_member_created", columnList = "is_deleted, member_id, created_at, id"),
+        @Index(name = "idx_book_loans_deleted_book_status", columnList = "is_deleted, book_id, status, created_at"),
+        @Index(name = "idx_book_loans_deleted_status", columnList = "is_deleted, status"),
+        @Index(name = "idx_book_loans_deleted_status_fee", columnList = "is_deleted, status, fee_accrued_through")
+})
+@EntityListeners({CatalogStatisticsListener.class, LoanDeadlineListener.class})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -23,7 +31,7 @@ public class BookLoan extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(name = "member_id", nullable = false)
     private String memberId;
 
     @Column
@@ -46,10 +54,35 @@ public class BookLoan extends BaseEntity {
     @Column(name = "extension_count", nullable = false)
     private int extensionCount = 0;
 
+    // 반납 예정 알림을 보낸 시각 (연장하면 새 반납 기한에 다시 알린다)
+    @Column(name = "due_reminder_sent_at")
+    private LocalDateTime dueReminderSentAt;
+
+    // 반납된 도서를 대기자에게 보관해 두는 기한 (WaitlistHandOff가 WAITING → PENDING 전환 시 설정)
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
+    // 연체료 원장(overdue_fee_ledger)에 적립된 연체료 합계와 마지막 적립 연체일의 시작 시각 (OverdueLoanSweeper가 하루 단위로 적립)
+    @Column(name = "overdue_fee", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private int overdueFee = 0;
+
+    @Column(name = "fee_accrued_through")
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime feeAccruedThrough;
+
+    // 현황 집계에 마지막으로 반영된 상태 (로딩/저장 시점, DB에 저장하지 않음)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private LoanStatus countedStatus;
+
     private final int DEFAULT_LOAN_DURATION = 2;
     private final int EXTEND_DURATION = 1;
-    private final int WARNING_DUE_DAY = 3;
-    private static final int OVERDUE_FEE_PER_DAY = 100;
+    private final int WARNING_DUE_DAY = DUE_REMINDER_DAYS;
+    // 연체 하루당 연체료 (OverdueLoanSweeper가 원장에 적립)
+    public static final int OVERDUE_FEE_PER_DAY = 100;
+    // 반납 기한 며칠 전에 알림을 보낼지 (LoanDeadlineWheel)
+    public static final int DUE_REMINDER_DAYS = 3;
 
     public BookLoan(Book book, String memberId) {
         this.book = book;
@@ -61,6 +94,10 @@ public class BookLoan extends BaseEntity {
         this.status = status;
     }
 
+    public void markCounted(LoanStatus countedStatus) {
+        this.countedStatus = countedStatus;
+    }
+
     public static BookLoan createWaitingLoan(Book book, String memberId) {
         BookLoan loan = new BookLoan(book, memberId);
         loan.setStatus(LoanStatus.WAITING);
@@ -77,6 +114,31 @@ public class BookLoan extends BaseEntity {
         this.book.updateStatus(BookStatus.LOANED);
     }
 
+    /**
+     * 대기자 인계 - 반납된 도서를 holdExpiresAt까지 보관하고 수령(processLoan)을 기다린다.
+     */
+    public void startHold(LocalDateTime holdExpiresAt) {
+        if (status != LoanStatus.WAITING) {
+            throw new IllegalStateException("보관 처리는 WAITING 상태에서만 가능합니다.");
+        }
+        this.status = LoanStatus.PENDING;
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
+    public boolean isHoldExpired(LocalDateTime now) {
+        return status == LoanStatus.PENDING && holdExpiresAt != null && !now.isBefore(holdExpiresAt);
+    }
+
+    /**
+     * 보관 기한 안에 수령하지 않은 대출 취소 (도서는 다음 대기자에게 인계)
+     */
+    public void expireHold() {
+        if (status != LoanStatus.PENDING) {
+            throw new IllegalStateException("보관 만료는 PENDING 상태에서만 가능합니다.");
+        }
+        this.status = LoanStatus.CANCELLED;
+    }
+
     public void processReturn() {
         if (status != LoanStatus.ACTIVE && status != LoanStatus.OVERDUE) {
             throw new IllegalStateException("반납 처리는 ACTIVE 또는 OVERDUE 상태에서만 가능합니다.");
@@ -99,15 +161,7 @@ public class BookLoan extends BaseEntity {
         }
         this.dueDate = this.dueDate.plusWeeks(EXTEND_DURATION);
         this.extensionCount++;
-    }
-
-    public int calculateOverdueFee() {
-        if (!isOverdue() || returnDate != null) {
-            return 0;
-        }
-
-        long overdueDays = java.time.temporal.ChronoUnit.DAYS.between(dueDate, LocalDateTime.now());
-        return (int) (overdueDays * OVERDUE_FEE_PER_DAY);
+        this.dueReminderSentAt = null;
     }
 
     public boolean isOverdue() {
@@ -120,13 +174,4 @@ public class BookLoan extends BaseEntity {
             this.status = LoanStatus.OVERDUE;
         }
     }
-
-    public void notifyDueDateApproaching() {
-        if (status == LoanStatus.ACTIVE) {
-            LocalDateTime warningDate = dueDate.minusDays(WARNING_DUE_DAY);
-            if (LocalDateTime.now().isAfter(warningDate)) {
-                // TODO: 알림 서비스 연동
-            }
-        }
-    }
 }
@@ -1,5 +1,6 @@
 package com.bookerapp.core.domain.model.entity;
 
+import com.bookerapp.core.domain.model.Isbn;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,7 +11,11 @@ import org.hibernate.annotations.Where;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "book_orders")
+@Table(name = "book_orders", indexes = {
+        @Index(name = "idx_book_orders_deleted_created_at_id", columnList = "is_deleted, created_at, id"),
+        @Index(name = "idx_book_orders_deleted_status_created_at_id", columnList = "is_deleted, status, created_at, id"),
+        @Index(name = "idx_book_orders_deleted_requester_created", columnList = "is_deleted, requester_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -71,7 +76,7 @@ public class BookOrder extends BaseEntity {
         this.title = title;
         this.author = author;
         this.publisher = publisher;
-        this.isbn = isbn;
+        this.isbn = isbn == null || isbn.isBlank() ? null : Isbn.parse(isbn).value();
         this.requesterId = requesterId;
         this.requesterName = requesterName;
         this.status = BookOrderStatus.PENDING;
@@ -0,0 +1,33 @@
+package com.bookerapp.core.domain.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 연체료 잔액 - 연체료 원장(overdue_fee_ledger) 적립 시 같은 트랜잭션에서 누적한다.
+ *
+ * 회원 ID 기본 키 조회 한 번으로 잔액을 응답하며, 갱신은 OverdueFeeJdbcRepository의 조건부 UPDATE/INSERT로만 한다.
+ */
+@Entity
+@Table(name = "member_fee_balances")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberFeeBalance {
+
+    @Id
+    @Column(name = "member_id")
+    private String memberId;
+
+    @Column(nullable = false)
+    private long balance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
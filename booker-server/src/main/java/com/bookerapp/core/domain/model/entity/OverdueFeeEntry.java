@@ -0,0 +1,52 @@
+package com.bookerapp.core.domain.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연체료 원장 행 - 연체 대출의 연체 하루마다 한 행을 추가만 한다.
+ *
+ * 적립은 OverdueFeeJdbcRepository의 배치 INSERT로만 하며, 엔티티는 테이블 매핑(ddl-auto) 용도다.
+ * (loan_id, overdue_day) unique로 같은 날을 두 번 적립하지 않는다.
+ * 대출 보관(삭제 표시 정리) 후에도 남아야 하므로 대출을 외래 키로 참조하지 않고 BaseEntity를 상속하지 않는다.
+ */
+@Entity
+@Table(name = "overdue_fee_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_overdue_fee_ledger_loan_day", columnNames = {"loan_id", "overdue_day"}),
+        indexes = @Index(name = "idx_overdue_fee_ledger_member_accrued", columnList = "member_id, accrued_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OverdueFeeEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "loan_id", nullable = false)
+    private Long loanId;
+
+    @Column(name = "member_id", nullable = false)
+    private String memberId;
+
+    // 반납 기한으로부터 몇 번째 연체일인지 (1부터)
+    @Column(name = "overdue_day", nullable = false)
+    private int overdueDay;
+
+    @Column(nullable = false)
+    private int amount;
+
+    // 이 연체일이 시작된 시각 (반납 기한 + overdueDay일)
+    @Column(name = "accrued_at", nullable = false)
+    private LocalDateTime accruedAt;
+}
@@ -0,0 +1,34 @@
+package com.bookerapp.core.domain.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 임대(lease) 행 - 여러 노드 중 한 노드만 작업을 실행하도록 작업 이름별로 한 행을 둔다.
+ *
+ * 획득/반납은 SchedulerLeaseRepository의 조건부 UPDATE로만 하며, 엔티티는 테이블 매핑(ddl-auto) 용도다.
+ * 삭제 표시 대상이 아니므로 BaseEntity를 상속하지 않는다.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(length = 200, nullable = false)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -1,18 +1,24 @@
 package com.bookerapp.core.domain.model.event;
 
 import com.bookerapp.core.domain.model.entity.BaseEntity;
+import com.bookerapp.core.infrastructure.participation.EventParticipationChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Filter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 @Entity
+@Table(name = "event", indexes = {
+        @Index(name = "idx_event_deleted_start_time_id", columnList = "is_deleted, start_time, id"),
+        @Index(name = "idx_event_deleted_type_start_time_id", columnList = "is_deleted, type, start_time, id")
+})
+@EntityListeners(EventParticipationChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Event extends BaseEntity {
@@ -31,7 +37,7 @@ public class Event extends BaseEntity {
     @Column(nullable = false)
     private EventType type;
 
-    @Column(nullable = false)
+    @Column(name = "start_time", nullable = false)
     private LocalDateTime startTime;
 
     @Column(nullable = false)
@@ -40,11 +46,23 @@ public class Event extends BaseEntity {
     @Column(nullable = false)
     private int maxParticipants;
 
+    // 참여 집계 컬럼 - 확정/대기 판단과 목록 조회 시 participants 컬렉션을 로딩하지 않기 위해 비정규화
+    // 엔티티 경로는 아래 도메인 메서드로, 네이티브 경로는 EventRepository의 UPDATE(version 증가 포함)로 함께 갱신한다.
+    @Column(name = "confirmed_count", nullable = false, columnDefinition = "int default 0")
+    private int confirmedCount = 0;
+
+    @Column(name = "waiting_count", nullable = false, columnDefinition = "int default 0")
+    private int waitingCount = 0;
 
-    @ManyToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @Column(name = "last_waiting_number", nullable = false, columnDefinition = "int default 0")
+    private int lastWaitingNumber = 0;
+
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Member presenter;
 
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // 엔티티의 삭제 표시 필터는 컬렉션 로딩에 적용되지 않으므로 컬렉션에도 건다
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.NOT_DELETED_FILTER)
     @JsonIgnoreProperties("event")
     private List<EventParticipation> participants = new ArrayList<>();
 
@@ -59,21 +77,33 @@ public class Event extends BaseEntity {
         this.presenter = presenter;
     }
 
-    public void addParticipant(Member member) {
+    /**
+     * 참여자 추가
+     * 정원이 남아 있으면 확정, 아니면 다음 대기 순번으로 등록한다.
+     * participants는 bag이므로 추가 시 컬렉션이 초기화되지 않는다.
+     *
+     * @return 생성된 참여 정보
+     */
+    public EventParticipation addParticipant(Member member) {
+        EventParticipation participation;
         if (isFullyBooked()) {
-            int nextWaitingNumber = getNextWaitingNumber();
-            EventParticipation participation = new EventParticipation(this, member, ParticipationStatus.WAITING, nextWaitingNumber);
-            participants.add(participation);
-            return;
+            participation = new EventParticipation(this, member, ParticipationStatus.WAITING, ++lastWaitingNumber);
+            waitingCount++;
+        } else {
+            participation = new EventParticipation(this, member, ParticipationStatus.CONFIRMED);
+            confirmedCount++;
         }
-
-        EventParticipation participation = new EventParticipation(this, member, ParticipationStatus.CONFIRMED);
         participants.add(participation);
+        return participation;
     }
 
-    public void removeParticipant(Member member) {
-        participants.removeIf(p -> p.getParticipant().equals(member));
-        promoteFromWaitingList();
+    /**
+     * 참여 취소
+     * 해당 참여 행과 이벤트 집계만 갱신하며 다른 대기자의 순번은 건드리지 않는다.
+     */
+    public void cancelParticipation(EventParticipation participation) {
+        decrementCount(participation);
+        participation.cancelParticipation();
     }
 
     public void updateSchedule(LocalDateTime startTime, LocalDateTime endTime) {
@@ -84,50 +114,39 @@ public class Event extends BaseEntity {
     public void cancelEvent() {
         participants.forEach(EventParticipation::cancelParticipation);
         participants.clear();
+        confirmedCount = 0;
+        waitingCount = 0;
+        lastWaitingNumber = 0;
     }
 
     public boolean isFullyBooked() {
-        return getConfirmedParticipants().size() >= maxParticipants;
-    }
-
-    public void promoteFromWaitingList() {
-        if (isFullyBooked()) {
-            return;
-        }
-
-        List<EventParticipation> waitingParticipants = getWaitingParticipants();
-        if (!waitingParticipants.isEmpty()) {
-            EventParticipation nextParticipation = waitingParticipants.get(0);
-            nextParticipation.promoteToParticipant();
-            reorderWaitingList();
-        }
+        return confirmedCount >= maxParticipants;
     }
 
-    private List<EventParticipation> getConfirmedParticipants() {
-        return participants.stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.CONFIRMED)
-                .toList();
+    public boolean hasPromotableWaiter() {
+        return !isFullyBooked() && waitingCount > 0;
     }
 
-    private List<EventParticipation> getWaitingParticipants() {
-        return participants.stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.WAITING)
-                .sorted(Comparator.comparing(EventParticipation::getWaitingNumber))
-                .toList();
-    }
-
-    private int getNextWaitingNumber() {
-        return participants.stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.WAITING)
-                .map(EventParticipation::getWaitingNumber)
-                .max(Integer::compareTo)
-                .orElse(0) + 1;
+    /**
+     * 대기자 승격
+     * 대기 순위는 waitingNumber(등록 순서)로부터 계산되므로 승격된 행만 갱신하면 된다.
+     *
+     * @param waiting 대기열 선두 참여 정보
+     */
+    public void promote(EventParticipation waiting) {
+        if (isFullyBooked()) {
+            throw new IllegalStateException("정원이 가득 차 대기자를 승격할 수 없습니다.");
+        }
+        waiting.promoteToParticipant();
+        confirmedCount++;
+        waitingCount--;
     }
 
-    private void reorderWaitingList() {
-        List<EventParticipation> waitingParticipants = getWaitingParticipants();
-        for (int i = 0; i < waitingParticipants.size(); i++) {
-            waitingParticipants.get(i).updateWaitingNumber(i + 1);
+    private void decrementCount(EventParticipation participation) {
+        if (participation.getStatus() == ParticipationStatus.CONFIRMED) {
+            confirmedCount--;
+        } else if (participation.getStatus() == ParticipationStatus.WAITING) {
+            waitingCount--;
         }
     }
 }
@@ -10,6 +10,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_participation_deleted_waiting", columnList = "is_deleted, event_id, status, waiting_number"),
+        @Index(name = "idx_event_participation_deleted_participant", columnList = "is_deleted, participant_id, event_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EventParticipation extends BaseEntity {
@@ -30,6 +34,8 @@ public class EventParticipation extends BaseEntity {
 
     private LocalDateTime registrationDate;
 
+    // 대기 등록 순서 (이벤트별 단조 증가, 재부여하지 않음)
+    // 실제 대기 순위는 같은 이벤트의 WAITING 중 이 값보다 작거나 같은 행의 수로 계산한다.
     private Integer waitingNumber;
 
     public EventParticipation(Event event, Member participant, ParticipationStatus status) {
@@ -56,17 +62,14 @@ public class EventParticipation extends BaseEntity {
     }
 
     public void promoteToParticipant() {
+        if (this.status != ParticipationStatus.WAITING) {
+            throw new IllegalStateException("대기 상태의 참여만 승격할 수 있습니다.");
+        }
         this.status = ParticipationStatus.CONFIRMED;
         this.waitingNumber = null;
         notifyStatusChange();
     }
 
-    public void updateWaitingNumber(int newWaitingNumber) {
-        if (this.status == ParticipationStatus.WAITING) {
-            this.waitingNumber = newWaitingNumber;
-        }
-    }
-
     public void notifyStatusChange() {
         // TODO: Implement notification logic
     }
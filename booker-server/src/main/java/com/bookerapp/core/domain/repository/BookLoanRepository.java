@@ -5,29 +5,71 @@ import com.bookerapp.core.domain.model.enums.LoanStatus;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookLoanRepository extends JpaRepository<BookLoan, Long> {
 
+    // 목록 조회는 응답에 쓰는 도서(와 즉시 로딩되는 위치)를 같은 쿼리로 함께 조회한다 - 행마다 도서 SELECT를 하지 않는다
+    @EntityGraph(attributePaths = {"book", "book.location"})
     Page<BookLoan> findByMemberIdAndStatusIn(String memberId, List<LoanStatus> statuses, Pageable pageable);
 
+    // 키셋 페이지네이션 - (createdAt, id) 내림차순
+    @EntityGraph(attributePaths = {"book", "book.location"})
+    @Query("SELECT bl FROM BookLoan bl WHERE bl.memberId = :memberId AND bl.status IN :statuses " +
+           "ORDER BY bl.createdAt DESC, bl.id DESC")
+    List<BookLoan> findSliceFirst(@Param("memberId") String memberId,
+                                  @Param("statuses") List<LoanStatus> statuses,
+                                  Pageable limit);
+
+    @EntityGraph(attributePaths = {"book", "book.location"})
+    @Query("SELECT bl FROM BookLoan bl WHERE bl.memberId = :memberId AND bl.status IN :statuses AND " +
+           "(bl.createdAt < :createdAt OR (bl.createdAt = :createdAt AND bl.id < :id)) " +
+           "ORDER BY bl.createdAt DESC, bl.id DESC")
+    List<BookLoan> findSliceAfter(@Param("memberId") String memberId,
+                                  @Param("statuses") List<LoanStatus> statuses,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable limit);
+
+    long countByMemberIdAndStatusIn(String memberId, List<LoanStatus> statuses);
+
     Optional<BookLoan> findByBookIdAndStatus(Long bookId, LoanStatus status);
 
     boolean existsByBookIdAndStatusIn(Long bookId, List<LoanStatus> statuses);
 
-    List<BookLoan> findByStatus(LoanStatus status);
+    /**
+     * 도서의 대기열 맨 앞 대출 한 건 - (createdAt, id) 순 첫 행만 읽는다 (idx_book_loans_deleted_book_status, LIMIT 1).
+     */
+    Optional<BookLoan> findFirstByBookIdAndStatusOrderByCreatedAtAscIdAsc(Long bookId, LoanStatus status);
 
-    // TODO: QueryDSL로 이전 예정 - OrderBy 처리를 위해 현재는 @Query 사용
-    @Query("SELECT bl FROM BookLoan bl WHERE bl.book.id = :bookId AND bl.status = :status ORDER BY bl.createdAt")
-    List<BookLoan> findWaitingListByBookId(
-            @Param("bookId") Long bookId,
-            @Param("status") LoanStatus status
-    );
+    /**
+     * 보관 기한이 지난 PENDING 대출을 id 키셋으로 조회
+     */
+    @Query("SELECT bl.id AS loanId, bl.book.id AS bookId FROM BookLoan bl " +
+           "WHERE bl.status = com.bookerapp.core.domain.model.enums.LoanStatus.PENDING " +
+           "AND bl.holdExpiresAt <= :now AND bl.id > :afterId ORDER BY bl.id")
+    List<HoldExpiry> findExpiredHolds(@Param("now") LocalDateTime now,
+                                      @Param("afterId") Long afterId,
+                                      Pageable limit);
+
+    /**
+     * 대기자가 있지만 보관 중인 대출이 없는 대출 가능/보관 도서 (인계가 실패했거나 반납과 대기 신청이 엇갈린 경우)
+     */
+    @Query("SELECT DISTINCT bl.book.id FROM BookLoan bl " +
+           "WHERE bl.status = com.bookerapp.core.domain.model.enums.LoanStatus.WAITING " +
+           "AND bl.book.status IN (com.bookerapp.core.domain.model.enums.BookStatus.AVAILABLE, " +
+           "com.bookerapp.core.domain.model.enums.BookStatus.RESERVED) " +
+           "AND NOT EXISTS (SELECT 1 FROM BookLoan held WHERE held.book = bl.book " +
+           "AND held.status = com.bookerapp.core.domain.model.enums.LoanStatus.PENDING)")
+    List<Long> findBookIdsAwaitingHandOff(Pageable limit);
 
     long countByBookIdAndStatus(Long bookId, LoanStatus status);
 
@@ -35,7 +77,39 @@ public interface BookLoanRepository extends JpaRepository<BookLoan, Long> {
         return countByBookIdAndStatus(bookId, status);
     }
 
-    @Query("SELECT COUNT(bl) + 1 FROM BookLoan bl WHERE bl.book.id = :bookId " +
-           "AND bl.status = 'WAITING' AND bl.createdAt < :createdAt")
-    Integer findWaitingPosition(@Param("bookId") Long bookId, @Param("createdAt") java.time.LocalDateTime createdAt);
+    /**
+     * 현황 재집계용 상태별 대출 건수
+     */
+    @Query("SELECT bl.status AS status, COUNT(bl) AS count FROM BookLoan bl GROUP BY bl.status")
+    List<StatusCount> countGroupByStatus();
+
+    /**
+     * 대기 순번 일괄 조회 - 도서별 WAITING 대출을 (createdAt, id) 순으로 번호 매겨 요청한 대출의 순번만 돌려준다.
+     * 목록 한 페이지의 대기 대출 순번을 대출마다 COUNT 쿼리로 구하지 않고 한 번에 계산한다
+     * (idx_book_loans_deleted_book_status 범위 스캔). 네이티브 쿼리라 삭제 표시 조건을 직접 쓴다.
+     *
+     * @param bookIds 대상 대출들의 도서 ID
+     * @param loanIds 순번이 필요한 WAITING 대출 ID
+     */
+    @Query(value = "SELECT ranked.id AS loanId, ranked.waiting_position AS waitingPosition FROM (" +
+                   "SELECT bl.id, ROW_NUMBER() OVER (PARTITION BY bl.book_id ORDER BY bl.created_at, bl.id) AS waiting_position " +
+                   "FROM book_loans bl WHERE bl.is_deleted = false AND bl.status = 'WAITING' AND bl.book_id IN (:bookIds)" +
+                   ") ranked WHERE ranked.id IN (:loanIds)", nativeQuery = true)
+    List<WaitingPosition> findWaitingPositions(@Param("bookIds") Collection<Long> bookIds,
+                                               @Param("loanIds") Collection<Long> loanIds);
+
+    interface StatusCount {
+        LoanStatus getStatus();
+        long getCount();
+    }
+
+    interface HoldExpiry {
+        Long getLoanId();
+        Long getBookId();
+    }
+
+    interface WaitingPosition {
+        Long getLoanId();
+        Long getWaitingPosition();
+    }
 }
@@ -2,34 +2,149 @@ package com.bookerapp.core.domain.repository;
 
 import com.bookerapp.core.domain.model.entity.Book;
 import com.bookerapp.core.domain.model.enums.BookStatus;
+import com.bookerapp.core.domain.model.enums.Floor;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 도서 저장소
+ *
+ * JPQL/파생 쿼리는 삭제 표시 필터(BaseEntity.NOT_DELETED_FILTER)로 삭제된 도서를 자동으로 제외한다.
+ */
 public interface BookRepository extends JpaRepository<Book, Long> {
 
     Optional<Book> findByIsbn(String isbn);
 
+    /**
+     * 삭제 표시되지 않은 도서 - ID 직접 로딩에는 삭제 표시 필터가 적용되지 않으므로 여기서 거른다.
+     */
+    default Optional<Book> findActiveById(Long id) {
+        return findById(id).filter(book -> !book.isDeleted());
+    }
+
+    /**
+     * 대출을 위한 도서 선점 - AVAILABLE인 도서만 LOANED로 바꾼다 (행 잠금으로 동시 요청 중 한 요청만 1을 돌려받는다).
+     * 엔티티를 거치지 않으므로 version도 함께 올려 같은 도서를 엔티티로 들고 있는 경로가 이전 상태로 덮어쓰지 못하게 하고,
+     * 캐시 무효화와 현황 집계 반영은 호출한 쪽에서 한다. 같은 영속성 컨텍스트에 도서를 로딩하기 전에 호출한다.
+     *
+     * @return 선점했으면 1, 이미 대출 중/대출 불가/삭제된 도서면 0
+     */
+    @Modifying
+    @Query(value = "UPDATE books SET status = 'LOANED', version = version + 1 " +
+                   "WHERE id = :id AND status = 'AVAILABLE' AND is_deleted = false", nativeQuery = true)
+    int reserveForLoan(@Param("id") Long id);
+
+    /**
+     * 도서 행을 잠그고 조회 (SELECT ... FOR UPDATE) - 대기자 인계/보관 만료를 도서별로 한 번에 하나씩 처리한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id = :id")
+    Optional<Book> findWithPessimisticLockById(@Param("id") Long id);
+
+    /**
+     * ISBN 후보({@link com.bookerapp.core.domain.model.Isbn#lookupKeys()})로 도서 ID 조회 - unique 인덱스 조회
+     * isbn 컬럼이 unique이므로 삭제 표시된 도서도 포함한다 (네이티브 쿼리라 삭제 표시 필터가 적용되지 않음).
+     */
+    @Query(value = "SELECT b.id FROM books b WHERE b.isbn IN (:isbns)", nativeQuery = true)
+    List<Long> findIdsByIsbnIn(@Param("isbns") Collection<String> isbns);
+
     @Query("SELECT b FROM Book b WHERE " +
            "(:title IS NULL OR b.title LIKE %:title%) AND " +
            "(:author IS NULL OR b.author LIKE %:author%) AND " +
-           "(:status IS NULL OR b.status = :status) AND " +
-           "b.isDeleted = false")
+           "(:keyword IS NULL OR b.title LIKE %:keyword% OR b.author LIKE %:keyword% " +
+           " OR b.publisher LIKE %:keyword% OR b.isbn = :keyword) AND " +
+           "(:status IS NULL OR b.status = :status)")
     Page<Book> searchBooks(
             @Param("title") String title,
             @Param("author") String author,
+            @Param("keyword") String keyword,
             @Param("status") BookStatus status,
             Pageable pageable
     );
 
+    // 키셋 페이지네이션 - (createdAt, id) 내림차순으로 커서 다음 행부터 limit건 조회 (OFFSET/COUNT 없음)
+    String SLICE_FILTER =
+            "(:title IS NULL OR b.title LIKE %:title%) AND " +
+            "(:author IS NULL OR b.author LIKE %:author%) AND " +
+            "(:keyword IS NULL OR b.title LIKE %:keyword% OR b.author LIKE %:keyword% " +
+            " OR b.publisher LIKE %:keyword% OR b.isbn = :keyword) AND " +
+            "(:status IS NULL OR b.status = :status)";
+
+    @Query("SELECT b FROM Book b WHERE " + SLICE_FILTER + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<Book> findSliceFirst(@Param("title") String title,
+                              @Param("author") String author,
+                              @Param("keyword") String keyword,
+                              @Param("status") BookStatus status,
+                              Pageable limit);
+
+    @Query("SELECT b FROM Book b WHERE " + SLICE_FILTER + " AND " +
+           "(b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Book> findSliceAfter(@Param("title") String title,
+                              @Param("author") String author,
+                              @Param("keyword") String keyword,
+                              @Param("status") BookStatus status,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") Long id,
+                              Pageable limit);
+
+    @Query("SELECT COUNT(b) FROM Book b WHERE " + SLICE_FILTER)
+    long countSlice(@Param("title") String title,
+                    @Param("author") String author,
+                    @Param("keyword") String keyword,
+                    @Param("status") BookStatus status);
+
+    /**
+     * 검색 색인 적재용 경량 조회 - 연관 엔티티(location)를 로딩하지 않고 id 기준 키셋으로 나누어 읽는다.
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author, b.publisher AS publisher, b.isbn AS isbn " +
+           "FROM Book b WHERE b.id > :afterId ORDER BY b.id")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 이미 등록된 ISBN (삭제 표시된 도서 포함 - isbn 컬럼이 unique이므로 네이티브 쿼리로 필터 없이 조회)
+     */
+    @Query(value = "SELECT b.isbn FROM books b WHERE b.isbn IN (:isbns)", nativeQuery = true)
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT b.id FROM Book b WHERE b.id IN :ids AND b.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") BookStatus status);
+
     List<Book> findByStatusAndIsDeletedFalse(BookStatus status);
 
-    @Query("SELECT COUNT(b) FROM Book b WHERE b.status = :status AND b.isDeleted = false")
+    @Query("SELECT COUNT(b) FROM Book b WHERE b.status = :status")
     long countByStatus(@Param("status") BookStatus status);
+
+    /**
+     * 현황 재집계용 상태 × 층 도서 수 (위치가 없으면 floor null)
+     */
+    @Query("SELECT b.status AS status, l.floor AS floor, COUNT(b) AS count FROM Book b LEFT JOIN b.location l " +
+           "GROUP BY b.status, l.floor")
+    List<StatusFloorCount> countGroupByStatusAndFloor();
+
+    interface StatusFloorCount {
+        BookStatus getStatus();
+        Floor getFloor();
+        long getCount();
+    }
+
+    interface SearchDocument {
+        Long getId();
+        String getTitle();
+        String getAuthor();
+        String getPublisher();
+        String getIsbn();
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -79,4 +80,64 @@ public interface EventParticipationRepository extends JpaRepository<EventPartici
     Optional<EventParticipation> findByEventIdAndParticipantMemberId(
             @Param("eventId") Long eventId,
             @Param("memberId") String memberId);
+
+    /**
+     * 이벤트에 참여 중인(확정/대기) 회원 ID 목록 조회
+     *
+     * @param eventId 이벤트 ID
+     * @return 회원 ID (Member.memberId) 목록
+     */
+    @Query("SELECT ep.participant.memberId FROM EventParticipation ep " +
+           "WHERE ep.event.id = :eventId AND ep.status IN ('CONFIRMED', 'WAITING')")
+    List<String> findActiveMemberIdsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * 확정/대기 상태의 참여 여부 확인
+     *
+     * @param eventId 이벤트 ID
+     * @param memberId 회원 ID (Member.memberId)
+     * @return 참여 여부
+     */
+    @Query("SELECT CASE WHEN COUNT(ep) > 0 THEN true ELSE false END FROM EventParticipation ep " +
+           "WHERE ep.event.id = :eventId AND ep.participant.memberId = :memberId " +
+           "AND ep.status IN ('CONFIRMED', 'WAITING')")
+    boolean existsActiveParticipation(@Param("eventId") Long eventId,
+                                      @Param("memberId") String memberId);
+
+    /**
+     * 주어진 회원 중 이벤트에 참여 중인(확정/대기) 회원 ID 목록 조회
+     *
+     * @param eventId 이벤트 ID
+     * @param memberIds 회원 ID (Member.memberId) 목록
+     * @return 참여 중인 회원 ID 목록
+     */
+    @Query("SELECT ep.participant.memberId FROM EventParticipation ep " +
+           "WHERE ep.event.id = :eventId AND ep.participant.memberId IN :memberIds " +
+           "AND ep.status IN ('CONFIRMED', 'WAITING')")
+    List<String> findActiveMemberIdsByEventIdAndMemberIdIn(@Param("eventId") Long eventId,
+                                                           @Param("memberIds") Collection<String> memberIds);
+
+    /**
+     * 이벤트와 회원으로 활성(확정/대기) 참여 정보 조회
+     *
+     * @param eventId 이벤트 ID
+     * @param memberId 회원 ID (Member.memberId)
+     * @return 참여 정보
+     */
+    @Query("SELECT ep FROM EventParticipation ep " +
+           "WHERE ep.event.id = :eventId AND ep.participant.memberId = :memberId " +
+           "AND ep.status IN ('CONFIRMED', 'WAITING')")
+    Optional<EventParticipation> findActiveByEventIdAndMemberId(@Param("eventId") Long eventId,
+                                                                @Param("memberId") String memberId);
+
+    /**
+     * 대기열 선두 조회
+     * (event_id, status, waiting_number) 인덱스를 따라 첫 행만 읽는다.
+     *
+     * @param eventId 이벤트 ID
+     * @param status 참여 상태 (WAITING)
+     * @return 가장 먼저 대기 등록한 참여 정보
+     */
+    Optional<EventParticipation> findFirstByEventIdAndStatusOrderByWaitingNumberAsc(Long eventId,
+                                                                                   ParticipationStatus status);
 }
@@ -4,17 +4,130 @@ import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    // 목록 조회는 발표자만 함께 조회하고 participants는 로딩하지 않는다 (집계는 Event 컬럼 사용)
+    @Override
+    @EntityGraph(attributePaths = "presenter")
+    Page<Event> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "presenter")
     Page<Event> findByType(EventType type, Pageable pageable);
 
+    // 키셋 페이지네이션 - (startTime, id) 내림차순, type이 null이면 전체
+    @EntityGraph(attributePaths = "presenter")
+    @Query("SELECT e FROM Event e WHERE (:type IS NULL OR e.type = :type) " +
+           "ORDER BY e.startTime DESC, e.id DESC")
+    List<Event> findSliceFirst(@Param("type") EventType type, Pageable limit);
+
+    @EntityGraph(attributePaths = "presenter")
+    @Query("SELECT e FROM Event e WHERE (:type IS NULL OR e.type = :type) AND " +
+           "(e.startTime < :startTime OR (e.startTime = :startTime AND e.id < :id)) " +
+           "ORDER BY e.startTime DESC, e.id DESC")
+    List<Event> findSliceAfter(@Param("type") EventType type,
+                               @Param("startTime") LocalDateTime startTime,
+                               @Param("id") Long id,
+                               Pageable limit);
+
+    long countByType(EventType type);
+
+    // 상세 조회용 - 참여자와 참여 회원을 한 번에 조회
+    @EntityGraph(attributePaths = {"presenter", "participants", "participants.participant"})
+    Optional<Event> findWithParticipantsById(Long id);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Event> findWithPessimisticLockById(Long id);
+
+    /**
+     * 이벤트 행을 잠그고 정원/참여 집계를 조회 (SELECT ... FOR UPDATE)
+     */
+    @Query(value = "SELECT max_participants AS maxParticipants, confirmed_count AS confirmedCount, " +
+                   "waiting_count AS waitingCount, last_waiting_number AS lastWaitingNumber " +
+                   "FROM event WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<SeatSnapshot> lockSeatSnapshotById(@Param("id") Long id);
+
+    /**
+     * 정원/참여 집계 조회 (잠금 없음)
+     */
+    @Query(value = "SELECT max_participants AS maxParticipants, confirmed_count AS confirmedCount, " +
+                   "waiting_count AS waitingCount, last_waiting_number AS lastWaitingNumber " +
+                   "FROM event WHERE id = :id", nativeQuery = true)
+    Optional<SeatSnapshot> findSeatSnapshotById(@Param("id") Long id);
+
+    // 아래 네이티브 UPDATE는 엔티티를 거치지 않으므로 version도 함께 올려
+    // 같은 이벤트를 엔티티로 들고 있는 낙관적 락 경로가 오래된 집계로 덮어쓰지 못하게 한다.
+
+    @Modifying
+    @Query(value = "UPDATE event SET confirmed_count = confirmed_count + 1, version = version + 1 " +
+                   "WHERE id = :id AND confirmed_count < max_participants", nativeQuery = true)
+    int reserveSeat(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE event SET last_waiting_number = last_waiting_number + 1, " +
+                   "waiting_count = waiting_count + 1, version = version + 1 WHERE id = :id", nativeQuery = true)
+    int reserveWaitingNumber(@Param("id") Long id);
+
+    /**
+     * 참여 집계 반영 (엔티티를 로딩하지 않는 참여 경로용)
+     *
+     * @param confirmedDelta 확정 인원 증감
+     * @param waitingDelta 대기 인원 증감
+     * @param lastWaitingNumber 이번에 부여한 가장 큰 대기 순번 (없으면 0)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE event SET confirmed_count = confirmed_count + :confirmedDelta, " +
+                   "waiting_count = waiting_count + :waitingDelta, " +
+                   "last_waiting_number = GREATEST(last_waiting_number, :lastWaitingNumber), " +
+                   "version = version + 1 WHERE id = :id", nativeQuery = true)
+    int applyParticipationCounts(@Param("id") Long id,
+                                 @Param("confirmedDelta") int confirmedDelta,
+                                 @Param("waitingDelta") int waitingDelta,
+                                 @Param("lastWaitingNumber") int lastWaitingNumber);
+
+    /**
+     * 집계 컬럼이 생기기 전의 이벤트에 참여 집계를 채운다
+     *
+     * 집계가 모두 0인데 활성 참여 행이 있는 이벤트만 대상으로 하므로 여러 번 실행해도 결과가 같다.
+     * (새 코드 경로는 참여 행과 집계를 같은 트랜잭션에서 바꾸므로 커밋된 이벤트가 이 조건에 걸리지 않는다)
+     *
+     * @return 갱신된 이벤트 수
+     */
+    @Modifying
+    @Query(value = "UPDATE event SET " +
+                   "confirmed_count = (SELECT COUNT(*) FROM event_participation p " +
+                   "WHERE p.event_id = event.id AND p.is_deleted = false AND p.status = 'CONFIRMED'), " +
+                   "waiting_count = (SELECT COUNT(*) FROM event_participation p " +
+                   "WHERE p.event_id = event.id AND p.is_deleted = false AND p.status = 'WAITING'), " +
+                   "last_waiting_number = (SELECT COALESCE(MAX(p.waiting_number), 0) FROM event_participation p " +
+                   "WHERE p.event_id = event.id), " +
+                   "version = version + 1 " +
+                   "WHERE confirmed_count = 0 AND waiting_count = 0 AND last_waiting_number = 0 " +
+                   "AND EXISTS (SELECT 1 FROM event_participation p WHERE p.event_id = event.id " +
+                   "AND p.is_deleted = false AND p.status IN ('CONFIRMED', 'WAITING'))", nativeQuery = true)
+    int backfillParticipationCounts();
+
+    interface SeatSnapshot {
+        int getMaxParticipants();
+
+        int getConfirmedCount();
+
+        int getWaitingCount();
+
+        int getLastWaitingNumber();
+    }
 }
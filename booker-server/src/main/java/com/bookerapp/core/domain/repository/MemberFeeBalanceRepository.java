@@ -0,0 +1,10 @@
+package com.bookerapp.core.domain.repository;
+
+import com.bookerapp.core.domain.model.entity.MemberFeeBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 회원별 연체료 잔액 조회 (갱신은 OverdueFeeJdbcRepository)
+ */
+public interface MemberFeeBalanceRepository extends JpaRepository<MemberFeeBalance, String> {
+}
@@ -4,10 +4,13 @@ import com.bookerapp.core.domain.model.event.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByMemberId(String memberId);
     Optional<Member> findByEmail(String email);
+    List<Member> findByMemberIdIn(Collection<String> memberIds);
 }
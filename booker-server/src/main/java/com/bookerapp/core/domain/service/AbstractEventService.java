@@ -1,20 +1,31 @@
 package com.bookerapp.core.domain.service;
 
 import com.bookerapp.core.domain.model.dto.EventDto;
+import com.bookerapp.core.domain.model.dto.SliceCursor;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventParticipation;
 import com.bookerapp.core.domain.model.event.EventType;
 import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
 import com.bookerapp.core.domain.repository.EventRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 public abstract class AbstractEventService {
 
     protected final EventRepository eventRepository;
+    protected final EventParticipationRepository participationRepository;
 
-    protected AbstractEventService(EventRepository eventRepository) {
+    protected AbstractEventService(EventRepository eventRepository,
+                                   EventParticipationRepository participationRepository) {
         this.eventRepository = eventRepository;
+        this.participationRepository = participationRepository;
     }
 
     @Transactional
@@ -64,11 +75,22 @@ public abstract class AbstractEventService {
         handleParticipantAddition(event, member);
     }
 
+    /**
+     * 참여자 제거
+     * 취소된 참여 행과 승격되는 대기열 선두 한 행만 갱신한다. (다른 대기자의 순번은 재부여하지 않음)
+     */
     @Transactional
     public void removeParticipant(Long eventId, Member member) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
-        event.removeParticipant(member);
+        EventParticipation participation = participationRepository.findActiveByEventIdAndMemberId(eventId, member.getMemberId())
+                .orElseThrow(() -> new RuntimeException("Participation not found"));
+
+        event.cancelParticipation(participation);
+        if (event.hasPromotableWaiter()) {
+            participationRepository.findFirstByEventIdAndStatusOrderByWaitingNumberAsc(eventId, ParticipationStatus.WAITING)
+                    .ifPresent(event::promote);
+        }
         handleParticipantRemoval(event, member);
     }
 
@@ -77,6 +99,28 @@ public abstract class AbstractEventService {
         return eventRepository.findAll(pageable);
     }
 
+    /**
+     * 이벤트 목록 (커서 기반) - (startTime, id) 키셋으로 조회하여 OFFSET 스캔과 COUNT 쿼리를 하지 않는다.
+     *
+     * @param type 이벤트 유형 필터 (null이면 전체)
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     * @param withTotal 전체 개수 포함 여부
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<Event> findEventsSlice(EventType type, String cursor, int size, boolean withTotal) {
+        int limitSize = SliceResponse.normalizeSize(size);
+        SliceCursor after = SliceCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, limitSize + 1);
+
+        List<Event> events = after == null
+                ? eventRepository.findSliceFirst(type, limit)
+                : eventRepository.findSliceAfter(type, after.requireKey(), after.id(), limit);
+        Long total = withTotal
+                ? (type != null ? eventRepository.countByType(type) : eventRepository.count())
+                : null;
+        return SliceResponse.of(events, limitSize, event -> SliceCursor.of(event.getStartTime(), event.getId()), total);
+    }
+
     @Transactional(readOnly = true)
     public Page<Event> findEventsByType(EventType type, Pageable pageable) {
         return eventRepository.findByType(type, pageable);
@@ -84,7 +128,7 @@ public abstract class AbstractEventService {
 
     @Transactional(readOnly = true)
     public Event findEventById(Long eventId) {
-        return eventRepository.findById(eventId)
+        return eventRepository.findWithParticipantsById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
     }
 
@@ -0,0 +1,204 @@
+package com.bookerapp.core.domain.service;
+
+import com.bookerapp.core.domain.exception.InvalidBookException;
+import com.bookerapp.core.domain.model.Isbn;
+import com.bookerapp.core.domain.model.dto.BookImportDto;
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.infrastructure.importer.BookImportReader;
+import com.bookerapp.core.infrastructure.repository.BookImportJdbcRepository;
+import com.bookerapp.core.infrastructure.search.BookSearchEngine;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 도서 일괄 가져오기
+ *
+ * CSV/JSONL 파일을 스트리밍으로 읽어 batch-size 단위 청크로 처리한다. 청크마다
+ * 1) Book 생성 규칙(제목/저자 필수, ISBN 10/13자리)으로 검증하고,
+ * 2) 이미 등록된 ISBN을 IN 조회 한 번으로 걸러낸 뒤 (ISBN-10/13 형식이 달라도 같은 책이면 중복),
+ * 3) 하나의 JDBC 배치로 저장하고 커밋 후 검색 색인과 현황 집계에 반영한다.
+ * 청크 단위로 커밋하므로 중간에 실패해도 앞서 저장된 청크는 유지된다.
+ *
+ * 검증 전에 동시에 같은 ISBN이 등록되어 배치가 실패하면 해당 청크만 행 단위로 다시 저장해 실패 행을 찾는다.
+ */
+@Service
+@Slf4j
+public class BookImportService {
+
+    private final BookRepository bookRepository;
+    private final BookImportJdbcRepository bookImportJdbcRepository;
+    private final BookSearchEngine bookSearchEngine;
+    private final CatalogStatistics catalogStatistics;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public BookImportService(BookRepository bookRepository,
+                             BookImportJdbcRepository bookImportJdbcRepository,
+                             BookSearchEngine bookSearchEngine,
+                             CatalogStatistics catalogStatistics,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${booker.book-import.batch-size:1000}") int batchSize,
+                             @Value("${booker.book-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.bookRepository = bookRepository;
+        this.bookImportJdbcRepository = bookImportJdbcRepository;
+        this.bookSearchEngine = bookSearchEngine;
+        this.catalogStatistics = catalogStatistics;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * @param inputStream 가져올 파일 (호출한 쪽에서 닫는다)
+     * @throws InvalidBookException CSV 헤더가 올바르지 않은 경우
+     */
+    public BookImportDto.Result importBooks(InputStream inputStream, BookImportDto.Format format) {
+        long startNanos = System.nanoTime();
+        Progress progress = new Progress(maxReportedErrors);
+        Set<Long> seenIsbns = new HashSet<>();
+        List<BookImportDto.Row> chunk = new ArrayList<>(batchSize);
+
+        BookImportReader reader = new BookImportReader(inputStream, format);
+        BookImportDto.Row row;
+        while ((row = reader.next()) != null) {
+            progress.totalRows++;
+            try {
+                row = validate(row);
+            } catch (InvalidBookException e) {
+                progress.fail(row, e.getMessage());
+                continue;
+            }
+            if (row.isbn() != null && !seenIsbns.add(Isbn.toIsbn13Number(row.isbn()))) {
+                progress.duplicates++;
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == batchSize) {
+                saveChunk(chunk, progress);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        saveChunk(chunk, progress);
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Book import finished - Format: {}, Rows: {}, Imported: {}, Duplicates: {}, Failed: {}, Elapsed: {}ms",
+                format, progress.totalRows, progress.imported, progress.duplicates, progress.failed, elapsedMillis);
+        return BookImportDto.Result.of(progress.totalRows, progress.imported, progress.duplicates, progress.failed,
+                progress.errors, progress.errorsTruncated, elapsedMillis);
+    }
+
+    /**
+     * 파일 경로로 가져오기 (CLI 실행용)
+     */
+    public BookImportDto.Result importBooks(Path path, BookImportDto.Format format) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return importBooks(inputStream, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Book 엔티티 생성 규칙으로 검증하고 정규화된 ISBN(구분자 제거)을 행에 반영한다.
+     * 저장은 JDBC로 하므로 생성한 엔티티는 버린다.
+     */
+    private static BookImportDto.Row validate(BookImportDto.Row row) {
+        if (row.parseError() != null) {
+            throw new InvalidBookException(row.parseError());
+        }
+        Book book = Book.builder()
+                .title(row.title())
+                .author(row.author())
+                .isbn(row.isbn())
+                .publisher(row.publisher())
+                .coverImageUrl(row.coverImageUrl())
+                .build();
+        return row.withIsbn(book.getIsbn());
+    }
+
+    private void saveChunk(List<BookImportDto.Row> chunk, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> lookupKeys = chunk.stream()
+                .map(BookImportDto.Row::isbn)
+                .filter(Objects::nonNull)
+                .flatMap(isbn -> Isbn.parse(isbn).lookupKeys().stream())
+                .toList();
+        Set<Long> existing = new HashSet<>();
+        if (!lookupKeys.isEmpty()) {
+            bookRepository.findExistingIsbns(lookupKeys).forEach(isbn -> existing.add(Isbn.toIsbn13Number(isbn)));
+        }
+        List<BookImportDto.Row> rows = chunk.stream()
+                .filter(row -> row.isbn() == null || !existing.contains(Isbn.toIsbn13Number(row.isbn())))
+                .toList();
+        progress.duplicates += chunk.size() - rows.size();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(rows);
+            progress.imported += rows.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Book import batch rejected, retrying {} rows individually: {}",
+                    rows.size(), e.getMostSpecificCause().getMessage());
+            for (BookImportDto.Row row : rows) {
+                try {
+                    insert(List.of(row));
+                    progress.imported++;
+                } catch (DataIntegrityViolationException rowException) {
+                    progress.fail(row, "저장 실패: " + rowException.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<BookImportDto.Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> ids = bookImportJdbcRepository.batchInsert(rows);
+            bookSearchEngine.onImported(ids, rows);
+            catalogStatistics.booksImported(ids.size());
+        });
+    }
+
+    private static final class Progress {
+        private final int maxReportedErrors;
+        private final List<BookImportDto.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long duplicates;
+        private long failed;
+        private boolean errorsTruncated;
+
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(BookImportDto.Row row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(BookImportDto.RowError.of(row.line(), row.isbn(), message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
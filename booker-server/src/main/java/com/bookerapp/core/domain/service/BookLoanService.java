@@ -1,11 +1,18 @@
 package com.bookerapp.core.domain.service;
 
 import com.bookerapp.core.domain.model.dto.BookLoanDto;
+import com.bookerapp.core.domain.model.dto.SliceCursor;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.model.entity.Book;
 import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.domain.model.enums.BookStatus;
 import com.bookerapp.core.domain.model.enums.LoanStatus;
 import com.bookerapp.core.domain.repository.BookLoanRepository;
 import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.domain.repository.MemberFeeBalanceRepository;
+import com.bookerapp.core.infrastructure.cache.BookCache;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
+import com.bookerapp.core.infrastructure.waitlist.WaitlistHandOff;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,8 +21,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,38 +34,43 @@ public class BookLoanService {
 
     private final BookLoanRepository bookLoanRepository;
     private final BookRepository bookRepository;
-
+    private final BookCache bookCache;
+    private final CatalogStatistics catalogStatistics;
+    private final WaitlistHandOff waitlistHandOff;
+    private final MemberFeeBalanceRepository memberFeeBalanceRepository;
+
+    /**
+     * 대출 신청 - 도서 행을 조건부 UPDATE(AVAILABLE → LOANED)로 먼저 선점한다.
+     * 같은 도서에 동시에 신청해도 선점에 성공한 한 요청만 ACTIVE가 되고, 나머지는 WAITING으로 등록된다.
+     * (대출 여부를 조회한 뒤 insert하면 두 요청이 모두 대출 가능으로 보고 함께 ACTIVE가 될 수 있다)
+     */
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public BookLoanDto.Response createLoan(String memberId, BookLoanDto.Request request) {
-        Book book = bookRepository.findById(request.getBookId())
+        boolean reserved = bookRepository.reserveForLoan(request.getBookId()) == 1;
+        Book book = bookRepository.findActiveById(request.getBookId())
             .orElseThrow(() -> new EntityNotFoundException("도서를 찾을 수 없습니다: " + request.getBookId()));
         
-        boolean isBookAvailable = !bookLoanRepository.existsByBookIdAndStatusIn(
-            book.getId(), Arrays.asList(LoanStatus.ACTIVE, LoanStatus.PENDING));
-        
         BookLoan loan = new BookLoan(book, memberId);
         
-        if (isBookAvailable) {
+        if (reserved) {
+            // 선점 UPDATE는 엔티티 콜백을 거치지 않으므로 캐시 무효화와 현황 집계를 직접 반영한다
+            bookCache.invalidateAfterCommit(book.getId());
+            catalogStatistics.bookChanged(
+                    new CatalogStatistics.BookState(BookStatus.AVAILABLE, book.getLocation(), false),
+                    CatalogStatistics.BookState.of(book));
             loan.processLoan();
         } else {
             loan.setStatus(LoanStatus.WAITING);
         }
 
         BookLoan savedLoan = bookLoanRepository.save(loan);
-        BookLoanDto.Response response = BookLoanDto.Response.from(savedLoan);
-
-        // WAITING 상태인 경우 대기 순서 계산
-        if (savedLoan.getStatus() == LoanStatus.WAITING) {
-            Integer position = bookLoanRepository.findWaitingPosition(
-                savedLoan.getBook().getId(),
-                savedLoan.getCreatedAt()
-            );
-            response.setWaitingPosition(position);
-        }
-
-        return response;
+        return toResponse(savedLoan, waitingPositionsOf(List.of(savedLoan)));
     }
 
+    /**
+     * 반납 - 대기자가 있으면 새 대출 신청이 먼저 가져가지 않도록 도서를 RESERVED로 두고,
+     * 커밋 후 {@link WaitlistHandOff}가 대기열 맨 앞 대출에 인계한다 (대기 목록 전체를 읽지 않는다).
+     */
     @Transactional
     public BookLoanDto.Response returnBook(String memberId, Long loanId) {
         BookLoan loan = bookLoanRepository.findById(loanId)
@@ -65,15 +81,37 @@ public class BookLoanService {
         }
 
         loan.processReturn();
+        Long bookId = loan.getBook().getId();
+        if (bookLoanRepository.existsByBookIdAndStatusIn(bookId, List.of(LoanStatus.WAITING))) {
+            loan.getBook().updateStatus(BookStatus.RESERVED);
+            waitlistHandOff.handOffAfterCommit(bookId);
+        }
         BookLoan savedLoan = bookLoanRepository.save(loan);
 
-        List<BookLoan> waitingList = bookLoanRepository.findWaitingListByBookId(loan.getBook().getId(), LoanStatus.WAITING);
-        if (!waitingList.isEmpty()) {
-            BookLoan nextLoan = waitingList.get(0);
-            // TODO: 대기자에게 알림 발송
-            // notificationService.sendBookAvailableNotification(nextLoan.getMemberId(), loan.getBook());
+        return BookLoanDto.Response.from(savedLoan);
+    }
+
+    /**
+     * 보관 도서 수령 - 대기자 인계로 PENDING이 된 대출을 수령 기한 안에 ACTIVE로 전환한다.
+     * 같은 대출의 보관 만료와 겹치면 버전 충돌로 한쪽만 반영된다.
+     */
+    @Transactional
+    public BookLoanDto.Response pickUpLoan(String memberId, Long loanId) {
+        BookLoan loan = bookLoanRepository.findById(loanId)
+                .orElseThrow(() -> new EntityNotFoundException("대출 기록을 찾을 수 없습니다: " + loanId));
+
+        if (!loan.getMemberId().equals(memberId)) {
+            throw new IllegalStateException("본인의 대출 기록만 수령할 수 있습니다.");
+        }
+        if (loan.getStatus() != LoanStatus.PENDING || loan.getHoldExpiresAt() == null) {
+            throw new IllegalStateException("보관 중인 대출만 수령할 수 있습니다.");
+        }
+        if (loan.isHoldExpired(LocalDateTime.now())) {
+            throw new IllegalStateException("수령 기한이 지났습니다.");
         }
 
+        loan.processLoan();
+        BookLoan savedLoan = bookLoanRepository.save(loan);
         return BookLoanDto.Response.from(savedLoan);
     }
 
@@ -98,26 +136,70 @@ public class BookLoanService {
 
     @Transactional(readOnly = true)
     public Page<BookLoanDto.Response> getMyLoans(String memberId, BookLoanDto.SearchRequest request) {
-        List<LoanStatus> statuses = request.getStatuses() != null && !request.getStatuses().isEmpty()
+        Page<BookLoan> loans = bookLoanRepository.findByMemberIdAndStatusIn(
+                memberId,
+                statusesOf(request),
+                PageRequest.of(request.getPage(), request.getSize())
+        );
+        Map<Long, Integer> positions = waitingPositionsOf(loans.getContent());
+        return loans.map(loan -> toResponse(loan, positions));
+    }
+
+    /**
+     * 내 대출 목록 (커서 기반) - (createdAt, id) 키셋으로 조회하여 OFFSET 스캔과 COUNT 쿼리를 하지 않는다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     * @param withTotal 전체 개수 포함 여부
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<BookLoanDto.Response> getMyLoansSlice(String memberId, BookLoanDto.SearchRequest request,
+                                                                String cursor, boolean withTotal) {
+        int size = SliceResponse.normalizeSize(request.getSize());
+        SliceCursor after = SliceCursor.decode(cursor);
+        List<LoanStatus> statuses = statusesOf(request);
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<BookLoan> loans = after == null
+                ? bookLoanRepository.findSliceFirst(memberId, statuses, limit)
+                : bookLoanRepository.findSliceAfter(memberId, statuses, after.requireKey(), after.id(), limit);
+        Long total = withTotal ? bookLoanRepository.countByMemberIdAndStatusIn(memberId, statuses) : null;
+        SliceResponse<BookLoan> slice =
+                SliceResponse.of(loans, size, loan -> SliceCursor.of(loan.getCreatedAt(), loan.getId()), total);
+        Map<Long, Integer> positions = waitingPositionsOf(slice.getContent());
+        return slice.map(loan -> toResponse(loan, positions));
+    }
+
+    private List<LoanStatus> statusesOf(BookLoanDto.SearchRequest request) {
+        return request.getStatuses() != null && !request.getStatuses().isEmpty()
                 ? request.getStatuses()
                 : Arrays.asList(LoanStatus.values());
+    }
 
-        return bookLoanRepository.findByMemberIdAndStatusIn(
-                memberId,
-                statuses,
-                PageRequest.of(request.getPage(), request.getSize())
-        ).map(loan -> {
-            BookLoanDto.Response response = BookLoanDto.Response.from(loan);
-            // WAITING 상태인 경우 대기 순서 계산
-            if (loan.getStatus() == LoanStatus.WAITING) {
-                Integer position = bookLoanRepository.findWaitingPosition(
-                    loan.getBook().getId(),
-                    loan.getCreatedAt()
-                );
-                response.setWaitingPosition(position);
-            }
-            return response;
-        });
+    /**
+     * WAITING 대출의 대기 순번을 한 번의 쿼리로 조회 (WAITING 대출이 없으면 조회하지 않는다)
+     *
+     * @return 대출 ID별 대기 순번
+     */
+    private Map<Long, Integer> waitingPositionsOf(List<BookLoan> loans) {
+        List<BookLoan> waiting = loans.stream()
+                .filter(loan -> loan.getStatus() == LoanStatus.WAITING)
+                .toList();
+        if (waiting.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> bookIds = waiting.stream().map(loan -> loan.getBook().getId()).collect(Collectors.toSet());
+        List<Long> loanIds = waiting.stream().map(BookLoan::getId).toList();
+        return bookLoanRepository.findWaitingPositions(bookIds, loanIds).stream()
+                .collect(Collectors.toMap(BookLoanRepository.WaitingPosition::getLoanId,
+                        position -> position.getWaitingPosition().intValue()));
+    }
+
+    private BookLoanDto.Response toResponse(BookLoan loan, Map<Long, Integer> waitingPositions) {
+        BookLoanDto.Response response = BookLoanDto.Response.from(loan);
+        if (loan.getStatus() == LoanStatus.WAITING) {
+            response.setWaitingPosition(waitingPositions.get(loan.getId()));
+        }
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -129,33 +211,19 @@ public class BookLoanService {
             throw new IllegalStateException("본인의 대출 기록만 조회할 수 있습니다.");
         }
 
-        BookLoanDto.Response response = BookLoanDto.Response.from(loan);
-
-        // WAITING 상태인 경우 대기 순서 계산
-        if (loan.getStatus() == LoanStatus.WAITING) {
-            Integer position = bookLoanRepository.findWaitingPosition(
-                loan.getBook().getId(),
-                loan.getCreatedAt()
-            );
-            response.setWaitingPosition(position);
-        }
+        return toResponse(loan, waitingPositionsOf(List.of(loan)));
+    }
 
-        return response;
+    /**
+     * 연체료 잔액 - 연체 전환 작업이 적립할 때 누적해 둔 회원별 잔액을 기본 키로 한 번 조회한다 (대출을 읽지 않는다).
+     */
+    @Transactional(readOnly = true)
+    public BookLoanDto.FeeBalanceResponse getFeeBalance(String memberId) {
+        return BookLoanDto.FeeBalanceResponse.of(memberId, memberFeeBalanceRepository.findById(memberId).orElse(null));
     }
 
     @Transactional(readOnly = true)
     public long getWaitingCount(Long bookId) {
         return bookLoanRepository.countByBookIdAndStatus(bookId, LoanStatus.WAITING);
     }
-
-    @Transactional
-    public void checkAndUpdateOverdueStatus() {
-        List<BookLoan> activeLoans = bookLoanRepository.findByStatus(LoanStatus.ACTIVE);
-        for (BookLoan loan : activeLoans) {
-            loan.checkAndUpdateOverdueStatus();
-            if (loan.isOverdue()) {
-                bookLoanRepository.save(loan);
-            }
-        }
-    }
 }
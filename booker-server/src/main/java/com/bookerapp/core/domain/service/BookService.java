@@ -1,33 +1,58 @@
 package com.bookerapp.core.domain.service;
 
 import com.bookerapp.core.domain.exception.DuplicateIsbnException;
+import com.bookerapp.core.domain.exception.InvalidCursorException;
+import com.bookerapp.core.domain.model.Isbn;
 import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.domain.model.dto.SliceCursor;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.model.entity.Book;
 import com.bookerapp.core.domain.model.entity.BookLocation;
+import com.bookerapp.core.domain.model.enums.BookStatus;
 import com.bookerapp.core.domain.model.enums.Floor;
 import com.bookerapp.core.domain.model.auth.UserContext;
 import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.infrastructure.cache.BookCache;
+import com.bookerapp.core.infrastructure.search.BookSearchEngine;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class BookService {
 
+    private static final int STATUS_FILTER_CHUNK_SIZE = 1000;
+    private static final int MAX_SUGGESTIONS = 10;
+
     private final BookRepository bookRepository;
+    private final BookSearchEngine bookSearchEngine;
+    private final BookCache bookCache;
+    private final CatalogStatistics catalogStatistics;
 
     @Transactional
     public BookDto.Response createBook(BookDto.Request request, UserContext userContext) {
         try {
-            if (bookRepository.findByIsbn(request.getIsbn()).isPresent()) {
+            if (request.getIsbn() != null && findIdByIsbn(Isbn.parse(request.getIsbn())).isPresent()) {
                 throw new DuplicateIsbnException(request.getIsbn());
             }
             Book book = request.toEntity();
             Book savedBook = bookRepository.save(book);
+            bookSearchEngine.onSaved(savedBook);
             return BookDto.Response.from(savedBook);
         } catch (Exception e) {
             System.err.println("=== BookService.createBook 에러 발생 ===");
@@ -38,31 +63,152 @@ public class BookService {
         }
     }
 
+    /**
+     * 도서 단건 조회 - 캐시에 있으면 DB(Book + BookLocation)를 거치지 않는다.
+     */
     @Transactional(readOnly = true)
     public BookDto.Response getBook(Long id) {
-        Book book = bookRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("도서를 찾을 수 없습니다: " + id));
-        return BookDto.Response.from(book);
+        return bookCache.get(id, bookId -> bookRepository.findActiveById(bookId)
+                .map(BookDto.Response::from)
+                .orElseThrow(() -> new EntityNotFoundException("도서를 찾을 수 없습니다: " + bookId)));
     }
 
+    /**
+     * 도서 검색
+     *
+     * 검색어가 있으면 검색 엔진에서 관련도 순 ID 목록을 받아 상태로 거른 뒤,
+     * 요청한 페이지의 ID만 한 번의 findAllById로 조회한다 (LIKE '%..%' 전체 스캔과 COUNT 쿼리 제거).
+     * 검색어가 없거나 엔진을 쓸 수 없으면 기존 쿼리를 사용한다.
+     */
     @Transactional(readOnly = true)
     public Page<BookDto.Response> searchBooks(BookDto.SearchRequest request) {
         PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
-        return bookRepository.searchBooks(request.getTitle(), request.getAuthor(), request.getStatus(), pageRequest)
+        Optional<List<Long>> rankedIds = bookSearchEngine.findRankedIds(
+                request.getTitle(), request.getAuthor(), request.getKeyword());
+        if (rankedIds.isEmpty()) {
+            return bookRepository.searchBooks(request.getTitle(), request.getAuthor(), request.getKeyword(),
+                            request.getStatus(), pageRequest)
+                    .map(BookDto.Response::from);
+        }
+
+        List<Long> ids = filterByStatus(rankedIds.get(), request.getStatus());
+        int from = (int) Math.min(pageRequest.getOffset(), ids.size());
+        int to = Math.min(from + pageRequest.getPageSize(), ids.size());
+        List<Long> pageIds = ids.subList(from, to);
+
+        return new PageImpl<>(findResponsesInOrder(pageIds), pageRequest, ids.size());
+    }
+
+    /**
+     * 도서 검색 (커서 기반)
+     *
+     * 검색 엔진 결과가 있으면 관련도 순 ID 목록에서 커서(마지막 도서 ID) 다음 위치부터 잘라 조회하고,
+     * 그렇지 않으면 (createdAt, id) 키셋으로 조회한다. 어느 쪽도 DB OFFSET 스캔이나 COUNT 쿼리를 하지 않는다.
+     *
+     * 관련도 순 페이징의 한계:
+     * - 페이지마다 전체 결과를 다시 순위 매기고 커서 위치를 찾으므로 비용은 페이지 깊이가 아니라 결과 수에 비례한다.
+     *   인메모리 OFFSET과 같으며, DB 조회는 페이지 크기만큼만 한다.
+     * - 페이지 사이에 색인이 바뀌면 순위가 바뀌어 항목이 빠지거나 겹칠 수 있다. 커서 도서가 결과에서 빠지면 빈 페이지로 끝난다.
+     * - 관련도 순 커서에는 정렬 키가 없으므로, 그 사이 검색 엔진이 재구축 중이거나 준비되지 않아 키셋 경로로 가면
+     *   {@link InvalidCursorException}(400)으로 거절한다. 클라이언트는 첫 페이지부터 다시 조회한다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 조회는 null)
+     * @param withTotal 전체 개수 포함 여부 (키셋 경로에서는 COUNT 쿼리 1회 추가)
+     * @throws InvalidCursorException 커서 형식이 잘못되었거나 관련도 순 커서로 키셋 조회를 이어가려는 경우
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<BookDto.Response> searchBooksSlice(BookDto.SearchRequest request, String cursor, boolean withTotal) {
+        int size = SliceResponse.normalizeSize(request.getSize());
+        SliceCursor after = SliceCursor.decode(cursor);
+        Optional<List<Long>> rankedIds = bookSearchEngine.findRankedIds(
+                request.getTitle(), request.getAuthor(), request.getKeyword());
+
+        if (rankedIds.isPresent()) {
+            List<Long> ids = filterByStatus(rankedIds.get(), request.getStatus());
+            int from = after == null ? 0 : ids.indexOf(after.id()) + 1;
+            if (after != null && from == 0) {
+                // 커서 도서가 그 사이 검색 결과에서 빠진 경우
+                return SliceResponse.<BookDto.Response>of(List.of(), size, book -> null, withTotal ? (long) ids.size() : null);
+            }
+            List<Long> sliceIds = ids.subList(from, Math.min(from + size + 1, ids.size()));
+            return SliceResponse.of(findResponsesInOrder(sliceIds), size, book -> SliceCursor.of(null, book.getId()),
+                    withTotal ? (long) ids.size() : null);
+        }
+
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Book> books = after == null
+                ? bookRepository.findSliceFirst(request.getTitle(), request.getAuthor(), request.getKeyword(),
+                        request.getStatus(), limit)
+                : bookRepository.findSliceAfter(request.getTitle(), request.getAuthor(), request.getKeyword(),
+                        request.getStatus(), after.requireKey(), after.id(), limit);
+        Long total = withTotal
+                ? bookRepository.countSlice(request.getTitle(), request.getAuthor(), request.getKeyword(), request.getStatus())
+                : null;
+        return SliceResponse.of(books, size, book -> SliceCursor.of(book.getCreatedAt(), book.getId()), total)
                 .map(BookDto.Response::from);
     }
 
+    /**
+     * 제목/저자 자동완성 - DB를 거치지 않고 인메모리 트라이에서 상위 후보만 돌려준다.
+     */
+    public List<BookDto.SuggestionResponse> suggestBooks(String query, int size) {
+        return bookSearchEngine.suggest(query, Math.min(size, MAX_SUGGESTIONS)).stream()
+                .map(s -> BookDto.SuggestionResponse.of(s.text(), s.type().name(), s.bookCount()))
+                .toList();
+    }
+
+    /**
+     * 도서/대출 현황 - 엔티티 변경으로 갱신되는 인메모리 카운터를 돌려준다 (COUNT 쿼리 없음)
+     */
+    public BookDto.StatsResponse getStats() {
+        return catalogStatistics.snapshot();
+    }
+
+    // ISBN-10/13 어느 형식으로 저장되어 있어도 같은 책으로 본다
+    private Optional<Long> findIdByIsbn(Isbn isbn) {
+        return bookCache.findIdByIsbn(isbn, key -> bookRepository.findIdsByIsbnIn(key.lookupKeys()).stream().findFirst());
+    }
+
+    // 검색 결과 ID 순서대로 도서 응답 조회 - 캐시에 없는 ID만 한 번의 findAllById로 읽는다
+    private List<BookDto.Response> findResponsesInOrder(List<Long> ids) {
+        Map<Long, BookDto.Response> responsesById = bookCache.getAll(ids, this::loadResponses);
+        return ids.stream()
+                .map(responsesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, BookDto.Response> loadResponses(Collection<Long> ids) {
+        return bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, BookDto.Response::from));
+    }
+
+    // 대출 상태는 자주 바뀌므로 색인하지 않고 PK IN 조회로 거른다 (순위 순서 유지)
+    private List<Long> filterByStatus(List<Long> rankedIds, BookStatus status) {
+        if (status == null || rankedIds.isEmpty()) {
+            return rankedIds;
+        }
+        Set<Long> matching = new HashSet<>();
+        for (int i = 0; i < rankedIds.size(); i += STATUS_FILTER_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(i, Math.min(i + STATUS_FILTER_CHUNK_SIZE, rankedIds.size()));
+            matching.addAll(bookRepository.findIdsByIdInAndStatus(chunk, status));
+        }
+        return rankedIds.stream().filter(matching::contains).toList();
+    }
+
     @Transactional
     public BookDto.Response updateBook(Long id, BookDto.Request request) {
-        Book book = bookRepository.findById(id)
+        Book book = bookRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException("도서를 찾을 수 없습니다: " + id));
 
         // ISBN이 변경되는 경우에만 중복 체크
-        if (!book.getIsbn().equals(request.getIsbn())) {
-            bookRepository.findByIsbn(request.getIsbn()).ifPresent(existingBook -> {
+        String previousIsbn = book.getIsbn();
+        if (request.getIsbn() != null && !Objects.equals(previousIsbn, request.getIsbn())) {
+            findIdByIsbn(Isbn.parse(request.getIsbn())).filter(existingId -> !existingId.equals(id)).ifPresent(existingId -> {
+                String existingTitle = bookRepository.findById(existingId).map(Book::getTitle).orElse(null);
                 throw new DuplicateIsbnException(
                     String.format("이미 등록된 ISBN입니다: %s (도서 ID: %d, 제목: %s)",
-                        request.getIsbn(), existingBook.getId(), existingBook.getTitle())
+                        request.getIsbn(), existingId, existingTitle)
                 );
             });
         }
@@ -84,13 +230,22 @@ public class BookService {
         );
 
         Book updatedBook = bookRepository.save(book);
+        bookSearchEngine.onSaved(updatedBook);
+        // 엔티티 리스너는 변경 후 ISBN만 알 수 있으므로 이전 ISBN 매핑은 여기서 지운다
+        bookCache.invalidateAfterCommit(id, previousIsbn);
         return BookDto.Response.from(updatedBook);
     }
 
+    /**
+     * 도서 삭제 - 삭제 표시만 하고 행은 남긴다 (대출 이력이 도서를 참조하므로).
+     * 캐시와 현황 집계는 엔티티 리스너가 반영하고, 오래된 삭제 행은 SoftDeletePurgeJob이 보관 테이블로 옮긴다.
+     */
     @Transactional
     public void deleteBook(Long id) {
-        Book book = bookRepository.findById(id)
+        Book book = bookRepository.findActiveById(id)
                 .orElseThrow(() -> new EntityNotFoundException("도서를 찾을 수 없습니다: " + id));
-        bookRepository.delete(book);
+        book.markAsDeleted();
+        bookRepository.save(book);
+        bookSearchEngine.onDeleted(id);
     }
 }
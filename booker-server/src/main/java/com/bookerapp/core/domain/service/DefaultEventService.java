@@ -3,14 +3,15 @@ package com.bookerapp.core.domain.service;
 import com.bookerapp.core.domain.model.dto.EventDto;
 import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
 import com.bookerapp.core.domain.repository.EventRepository;
 import org.springframework.stereotype.Service;
 
 @Service
 public class DefaultEventService extends AbstractEventService {
 
-    public DefaultEventService(EventRepository eventRepository) {
-        super(eventRepository);
+    public DefaultEventService(EventRepository eventRepository, EventParticipationRepository participationRepository) {
+        super(eventRepository, participationRepository);
     }
 
     @Override
@@ -1,30 +1,33 @@
 package com.bookerapp.core.domain.service;
 
+import com.bookerapp.core.domain.exception.AlreadyParticipatingException;
 import com.bookerapp.core.domain.model.dto.CasRetryCountDto;
 import com.bookerapp.core.domain.model.dto.EventParticipationDto;
 import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventParticipation;
 import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.model.event.ParticipationStatus;
 import com.bookerapp.core.domain.repository.EventParticipationRepository;
 import com.bookerapp.core.domain.repository.EventRepository;
 import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.lock.EventLockRegistry;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import com.bookerapp.core.infrastructure.retry.ContentionAwareRetryPolicy;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Event Participation Service
  * 이벤트 참여 신청 비즈니스 로직 처리
  *
  * 동시성 제어 전략:
- * 1. Synchronized: 메서드 레벨 동기화 + Pessimistic Lock
- * 2. CAS (Compare-And-Swap): Optimistic Lock + Retry 메커니즘
+ * 1. Synchronized: 이벤트 단위 스트라이프 락 + Pessimistic Lock
+ * 2. CAS (Compare-And-Swap): Optimistic Lock + 경합 인지 재시도 정책
  */
 @Service
 @RequiredArgsConstructor
@@ -34,21 +37,20 @@ public class EventParticipationService {
     private final EventParticipationRepository participationRepository;
     private final EventRepository eventRepository;
     private final MemberRepository memberRepository;
-
-    // CAS 재시도 횟수 저장 (thread-safe)
-    private final AtomicInteger casRetryCount = new AtomicInteger(0);
-
-    // 최대 재시도 횟수
-    private static final int MAX_RETRIES = 10;
+    private final EventLockRegistry eventLockRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentionAwareRetryPolicy retryPolicy;
+    private final ParticipationMetrics participationMetrics;
 
     /**
      * Synchronized 방식 참여 신청
      *
      * Pessimistic Lock을 사용하여 이벤트 엔티티를 잠금 후 처리
-     * synchronized 키워드로 메서드 레벨에서 동시성 제어
+     * 이벤트 ID별 스트라이프 락으로 애플리케이션 레벨에서 동시성 제어
+     * (락 안에서 트랜잭션을 시작하고 커밋 후 락 해제)
      *
-     * 장점: 확실한 동시성 제어, 재시도 불필요
-     * 단점: 성능 저하 (단일 스레드 처리)
+     * 장점: 확실한 동시성 제어, 재시도 불필요, 서로 다른 이벤트는 병렬 처리
+     * 단점: 같은 이벤트에 대한 요청은 순차 처리
      *
      * @param eventId 이벤트 ID
      * @param request 참여 신청 요청 (memberId 포함)
@@ -56,13 +58,22 @@ public class EventParticipationService {
      * @throws IllegalStateException 이미 참여한 이벤트인 경우
      * @throws EntityNotFoundException 이벤트 또는 회원을 찾을 수 없는 경우
      */
-    @Transactional
-    public synchronized EventParticipationDto.Response participateWithSynchronized(
+    public EventParticipationDto.Response participateWithSynchronized(
             Long eventId, EventParticipationDto.Request request) {
 
         log.info("Starting synchronized participation - EventId: {}, MemberId: {}",
                  eventId, request.getMemberId());
 
+        long waitStartNanos = System.nanoTime();
+        return eventLockRegistry.executeWithLock(eventId, () -> {
+            participationMetrics.recordLockWait("v1-synchronized", eventId, System.nanoTime() - waitStartNanos);
+            return transactionTemplate.execute(status -> participateWithPessimisticLock(eventId, request));
+        });
+    }
+
+    private EventParticipationDto.Response participateWithPessimisticLock(
+            Long eventId, EventParticipationDto.Request request) {
+
         // 1. 중복 참여 검증
         validateDuplicateParticipation(eventId, request.getMemberId());
 
@@ -75,7 +86,7 @@ public class EventParticipationService {
                 .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다: " + request.getMemberId()));
 
         // 4. 참여자 추가 (Event 엔티티 내부 로직 활용)
-        event.addParticipant(member);
+        EventParticipation added = event.addParticipant(member);
 
         // 5. 변경사항 저장
         eventRepository.save(event);
@@ -86,7 +97,7 @@ public class EventParticipationService {
         log.info("Synchronized participation successful - ParticipationId: {}, Status: {}",
                  participation.getId(), participation.getStatus());
 
-        return EventParticipationDto.Response.from(participation, "SYNCHRONIZED");
+        return EventParticipationDto.Response.from(participation, "SYNCHRONIZED", waitingPositionOf(event, added));
     }
 
     /**
@@ -94,6 +105,8 @@ public class EventParticipationService {
      *
      * Optimistic Lock을 사용하여 버전 충돌 시 재시도
      * BaseEntity의 @Version 필드를 활용한 낙관적 잠금
+     * 시도마다 새 트랜잭션을 열고, 재시도/fallback 판단은 ContentionAwareRetryPolicy가 담당
+     * (충돌이 잦은 이벤트는 Synchronized 경로로 전환)
      *
      * 장점: 높은 처리량, 낮은 경합 상황에서 효율적
      * 단점: 재시도 필요, 높은 경합 시 실패 가능성
@@ -101,85 +114,58 @@ public class EventParticipationService {
      * @param eventId 이벤트 ID
      * @param request 참여 신청 요청 (memberId 포함)
      * @return 참여 신청 응답
-     * @throws IllegalStateException 최대 재시도 횟수 초과 또는 이미 참여한 경우
+     * @throws IllegalStateException 이미 참여한 경우
      * @throws EntityNotFoundException 이벤트 또는 회원을 찾을 수 없는 경우
      */
-    @Transactional
     public EventParticipationDto.Response participateWithCAS(
             Long eventId, EventParticipationDto.Request request) {
 
         log.info("Starting CAS participation - EventId: {}, MemberId: {}",
                  eventId, request.getMemberId());
 
-        int attempt = 0;
-
-        while (attempt < MAX_RETRIES) {
-            try {
-                // 1. 중복 참여 검증
-                validateDuplicateParticipation(eventId, request.getMemberId());
-
-                // 2. 이벤트 조회 (Optimistic Lock - @Version 활용)
-                Event event = eventRepository.findById(eventId)
-                        .orElseThrow(() -> new EntityNotFoundException("이벤트를 찾을 수 없습니다: " + eventId));
-
-                // 3. 회원 조회
-                Member member = memberRepository.findByMemberId(request.getMemberId())
-                        .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다: " + request.getMemberId()));
-
-                // 4. 참여자 추가
-                event.addParticipant(member);
-
-                // 5. 저장 (버전 충돌 가능 - OptimisticLockException)
-                eventRepository.save(event);
+        // 재시도와 백오프 대기는 트랜잭션 바깥에서 수행 (대기 중 커넥션 점유 방지)
+        return retryPolicy.execute("v1-cas", eventId,
+                () -> transactionTemplate.execute(status -> attemptCasParticipation(eventId, request)),
+                () -> participateWithSynchronized(eventId, request));
+    }
 
-                // 6. 성공 시 응답 생성
-                EventParticipation participation = findLatestParticipation(eventId, request.getMemberId());
+    private EventParticipationDto.Response attemptCasParticipation(
+            Long eventId, EventParticipationDto.Request request) {
 
-                // 재시도 횟수 누적 (성공 시에만)
-                casRetryCount.addAndGet(attempt);
+        // 1. 중복 참여 검증
+        validateDuplicateParticipation(eventId, request.getMemberId());
 
-                log.info("CAS participation successful - ParticipationId: {}, Status: {}, Attempts: {}",
-                         participation.getId(), participation.getStatus(), attempt);
+        // 2. 이벤트 조회 (Optimistic Lock - @Version 활용)
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EntityNotFoundException("이벤트를 찾을 수 없습니다: " + eventId));
 
-                return EventParticipationDto.Response.from(participation, "CAS");
+        // 3. 회원 조회
+        Member member = memberRepository.findByMemberId(request.getMemberId())
+                .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다: " + request.getMemberId()));
 
-            } catch (OptimisticLockException e) {
-                attempt++;
-                casRetryCount.incrementAndGet();
+        // 4. 참여자 추가
+        EventParticipation added = event.addParticipant(member);
 
-                log.warn("CAS participation conflict detected - Attempt: {}/{}, EventId: {}",
-                         attempt, MAX_RETRIES, eventId);
+        // 5. 저장 (버전 충돌 가능 - OptimisticLockException)
+        eventRepository.save(event);
 
-                if (attempt >= MAX_RETRIES) {
-                    log.error("CAS participation failed - Max retries exceeded: {}", MAX_RETRIES);
-                    throw new IllegalStateException(
-                            "CAS 재시도 횟수 초과: " + MAX_RETRIES + "회. 나중에 다시 시도해주세요.");
-                }
+        // 6. 성공 시 응답 생성
+        EventParticipation participation = findLatestParticipation(eventId, request.getMemberId());
 
-                // 재시도 전 대기 (Exponential Backoff)
-                try {
-                    long sleepTime = 50L * attempt;
-                    Thread.sleep(sleepTime);
-                    log.debug("CAS retry backoff - Sleeping for {}ms", sleepTime);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    log.error("CAS retry interrupted", ie);
-                    throw new IllegalStateException("재시도 중 인터럽트 발생", ie);
-                }
-            }
-        }
+        log.info("CAS participation successful - ParticipationId: {}, Status: {}",
+                 participation.getId(), participation.getStatus());
 
-        throw new IllegalStateException("예상치 못한 오류 발생");
+        return EventParticipationDto.Response.from(participation, "CAS", waitingPositionOf(event, added));
     }
 
     /**
      * CAS 재시도 횟수 조회
+     * (재시도 정책이 Micrometer 카운터 booker.participation.retry{strategy=v1-cas}에 기록한 값)
      *
      * @return 재시도 횟수 정보
      */
-    @Transactional(readOnly = true)
     public CasRetryCountDto getCasRetryCount() {
-        int count = casRetryCount.get();
+        int count = (int) participationMetrics.retryCount("v1-cas");
         LocalDateTime now = LocalDateTime.now();
 
         log.info("CAS retry count queried - Count: {}, Time: {}", count, now);
@@ -193,7 +179,7 @@ public class EventParticipationService {
      * @return 초기화된 재시도 횟수 정보
      */
     public CasRetryCountDto resetCasRetryCount() {
-        casRetryCount.set(0);
+        participationMetrics.resetRetryCount("v1-cas");
         LocalDateTime now = LocalDateTime.now();
 
         log.info("CAS retry count reset - Time: {}", now);
@@ -202,19 +188,27 @@ public class EventParticipationService {
     }
 
     /**
-     * 중복 참여 검증
+     * 중복 참여 검증 (확정/대기 상태만 - 취소한 회원은 다시 신청할 수 있다)
      *
      * @param eventId 이벤트 ID
      * @param memberId 회원 ID
-     * @throws IllegalStateException 이미 참여한 경우
+     * @throws AlreadyParticipatingException 이미 참여한 경우
      */
     private void validateDuplicateParticipation(Long eventId, String memberId) {
-        if (participationRepository.existsByEventIdAndParticipantMemberId(eventId, memberId)) {
+        if (participationRepository.existsActiveParticipation(eventId, memberId)) {
             log.warn("Duplicate participation attempt - EventId: {}, MemberId: {}", eventId, memberId);
-            throw new IllegalStateException("이미 참여한 이벤트입니다.");
+            throw new AlreadyParticipatingException();
         }
     }
 
+    /**
+     * 방금 추가된 참여의 대기 순위
+     * 새 대기자는 항상 대기열 끝이므로 현재 대기 인원과 같다.
+     */
+    private Integer waitingPositionOf(Event event, EventParticipation added) {
+        return added.getStatus() == ParticipationStatus.WAITING ? event.getWaitingCount() : null;
+    }
+
     /**
      * 최신 참여 정보 조회
      *
@@ -224,7 +218,7 @@ public class EventParticipationService {
      * @throws EntityNotFoundException 참여 내역을 찾을 수 없는 경우
      */
     private EventParticipation findLatestParticipation(Long eventId, String memberId) {
-        return participationRepository.findByEventIdAndParticipantMemberId(eventId, memberId)
+        return participationRepository.findActiveByEventIdAndMemberId(eventId, memberId)
                 .orElseThrow(() -> new EntityNotFoundException("참여 내역을 찾을 수 없습니다."));
     }
 }
@@ -0,0 +1,162 @@
+package com.bookerapp.core.infrastructure.cache;
+
+import com.bookerapp.core.domain.model.Isbn;
+import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.infrastructure.transaction.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 도서 조회 캐시 (read-through)
+ *
+ * ID → 도서 응답, ISBN-13 → 도서 ID 두 가지를 크기/TTL 제한이 있는 Caffeine 캐시에 보관한다.
+ * 엔티티가 아닌 응답 스냅샷을 캐시하므로 영속성 컨텍스트와 무관하게 여러 요청에서 공유해도 안전하다.
+ * 도서를 변경하는 트랜잭션(정보 수정, 삭제, 대출에 따른 상태 변경)은 커밋 후 해당 항목을 무효화한다.
+ * ISBN 조회는 존재하는 경우만 캐시한다 (없는 ISBN을 캐시하면 직후 등록된 도서를 놓친다).
+ *
+ * 부하 테스트 비교를 위해 런타임에 켜고 끌 수 있다. 꺼져 있으면 항상 저장소를 조회한다.
+ * 메트릭: cache.gets{cache, result=hit|miss}, cache.evictions, cache.size, booker.book.cache.invalidations
+ */
+@Component
+@Slf4j
+public class BookCache {
+
+    static final String BOOKS = "books";
+    static final String BOOK_IDS_BY_ISBN = "bookIdsByIsbn";
+
+    private final Cache<Long, BookDto.Response> books;
+    private final Cache<String, Long> bookIdsByIsbn;
+    private final Counter invalidationCounter;
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private volatile boolean enabled;
+
+    public BookCache(MeterRegistry meterRegistry,
+                     @Value("${booker.book-cache.enabled:true}") boolean enabled,
+                     @Value("${booker.book-cache.maximum-size:10000}") long maximumSize,
+                     @Value("${booker.book-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.books = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.bookIdsByIsbn = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, books, BOOKS);
+        CaffeineCacheMetrics.monitor(meterRegistry, bookIdsByIsbn, BOOK_IDS_BY_ISBN);
+        this.invalidationCounter = Counter.builder("booker.book.cache.invalidations")
+                .description("도서 변경에 따른 캐시 무효화 횟수")
+                .register(meterRegistry);
+        this.enabled = enabled;
+
+        log.info("Book cache initialized - Enabled: {}, MaximumSize: {}, TTL: {}s", enabled, maximumSize, ttlSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 사용 여부 변경 - 끌 때는 기존 항목을 비워 다시 켰을 때 오래된 값이 보이지 않게 한다.
+     */
+    public void setEnabled(boolean enabled) {
+        if (!enabled) {
+            books.invalidateAll();
+            bookIdsByIsbn.invalidateAll();
+        }
+        this.enabled = enabled;
+        log.info("Book cache {}", enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * ID로 도서 응답 조회
+     *
+     * @param loader 캐시에 없을 때 저장소에서 읽는 함수 (예외는 그대로 전파되고 캐시되지 않음)
+     */
+    public BookDto.Response get(Long id, Function<Long, BookDto.Response> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return books.get(id, loader);
+    }
+
+    /**
+     * 여러 ID의 도서 응답 조회 - 캐시에 없는 ID만 모아 한 번에 읽는다.
+     *
+     * 일괄 적재 결과는 로더가 끝난 뒤 캐시에 들어가므로 단건 조회처럼 무효화와 직렬화되지 않는다.
+     * 적재하는 동안 무효화가 있었으면 방금 넣은 항목을 다시 지워, 커밋 전에 읽은 값이 TTL 동안 남지 않게 한다.
+     *
+     * @param loader 누락된 ID 목록을 받아 ID별 응답을 돌려주는 함수
+     * @return ID별 응답 (존재하지 않는 ID는 제외)
+     */
+    public Map<Long, BookDto.Response> getAll(Collection<Long> ids,
+                                              Function<Collection<Long>, Map<Long, BookDto.Response>> loader) {
+        if (!enabled) {
+            return loader.apply(ids);
+        }
+        long sequence = invalidationSequence.get();
+        List<Long> loadedIds = new ArrayList<>();
+        Map<Long, BookDto.Response> result = books.getAll(ids, missing -> {
+            Map<Long, BookDto.Response> loaded = loader.apply(List.copyOf(missing));
+            loadedIds.addAll(loaded.keySet());
+            return loaded;
+        });
+        if (!loadedIds.isEmpty() && invalidationSequence.get() != sequence) {
+            books.invalidateAll(loadedIds);
+        }
+        return result;
+    }
+
+    /**
+     * ISBN으로 도서 ID 조회 (존재하는 경우만 캐시)
+     *
+     * ISBN-13 형식을 키로 쓰므로 같은 책의 ISBN-10/13 중 어느 쪽으로 조회해도 같은 항목을 사용한다.
+     * 단건 조회와 같이 캐시의 compute 안에서 읽으므로 같은 키의 무효화는 적재가 끝난 뒤 실행된다.
+     */
+    public Optional<Long> findIdByIsbn(Isbn isbn, Function<Isbn, Optional<Long>> loader) {
+        if (!enabled) {
+            return loader.apply(isbn);
+        }
+        return Optional.ofNullable(bookIdsByIsbn.get(isbn.toIsbn13(), key -> loader.apply(isbn).orElse(null)));
+    }
+
+    /**
+     * 도서 변경 무효화 - 트랜잭션이 있으면 커밋 후에 지운다.
+     * (커밋 전에 지우면 동시에 실행된 조회가 커밋 전 값을 다시 채울 수 있다)
+     *
+     * @param id 도서 ID
+     * @param isbns 무효화할 ISBN (변경 전/후)
+     */
+    public void invalidateAfterCommit(Long id, String... isbns) {
+        Runnable invalidation = () -> {
+            // 순번을 먼저 올려야 진행 중인 일괄 적재가 지우기 전/후 어느 쪽에 끝나도 오래된 값을 남기지 않는다
+            invalidationSequence.incrementAndGet();
+            books.invalidate(id);
+            for (String isbn : isbns) {
+                String key = Isbn.normalize(isbn);
+                if (key != null) {
+                    bookIdsByIsbn.invalidate(key);
+                }
+            }
+            invalidationCounter.increment();
+        };
+        TransactionCallbacks.afterCommit(invalidation);
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookerapp.core.infrastructure.cache;
+
+import com.bookerapp.core.domain.model.entity.Book;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서 엔티티 변경 시 캐시 무효화
+ *
+ * 정보 수정뿐 아니라 대출/반납에 따른 상태 변경(Book.updateStatus)도 flush 시점에 여기로 들어온다.
+ * Hibernate가 SpringBeanContainer로 생성하므로 생성자 주입을 받는다.
+ * JPQL/네이티브 벌크 UPDATE는 엔티티 콜백을 거치지 않으므로 호출한 쪽에서 직접 무효화해야 한다.
+ */
+@RequiredArgsConstructor
+public class BookCacheInvalidationListener {
+
+    private final BookCache bookCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Book book) {
+        bookCache.invalidateAfterCommit(book.getId(), book.getIsbn());
+    }
+}
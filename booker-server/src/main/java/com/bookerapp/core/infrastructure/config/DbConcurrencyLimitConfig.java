@@ -0,0 +1,39 @@
+package com.bookerapp.core.infrastructure.config;
+
+import com.bookerapp.core.infrastructure.datasource.ConcurrencyLimitingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 동시 사용 제한 설정
+ *
+ * booker.db-concurrency.enabled=true 일 때 애플리케이션 DataSource를
+ * {@link ConcurrencyLimitingDataSource}로 감싼다. virtual 프로필에서 활성화된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "booker.db-concurrency", name = "enabled", havingValue = "true")
+public class DbConcurrencyLimitConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment,
+                                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    int maxConcurrency = environment.getProperty("booker.db-concurrency.max-concurrent", Integer.class, 50);
+                    long timeoutMillis = environment.getProperty("booker.db-concurrency.acquire-timeout-ms", Long.class, 30000L);
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, timeoutMillis, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
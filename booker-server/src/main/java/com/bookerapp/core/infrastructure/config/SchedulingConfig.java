@@ -0,0 +1,12 @@
+package com.bookerapp.core.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 - 현황 집계 재집계 등
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
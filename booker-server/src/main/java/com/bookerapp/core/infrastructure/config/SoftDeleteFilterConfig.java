@@ -0,0 +1,34 @@
+package com.bookerapp.core.infrastructure.config;
+
+import com.bookerapp.core.domain.model.entity.BaseEntity;
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * 삭제 표시 필터({@link BaseEntity#NOT_DELETED_FILTER})를 모든 EntityManager에서 켠다.
+ *
+ * EntityManagerFactory의 초기화 콜백은 트랜잭션용(JpaTransactionManager), open-in-view용,
+ * 트랜잭션 없는 공유 EntityManager용 세션 모두에 적용된다.
+ * 삭제된 행까지 읽어야 하는 경우에는 해당 세션에서 disableFilter로 끈다.
+ */
+@Configuration
+public class SoftDeleteFilterConfig {
+
+    // 팩토리 빈 초기화(afterPropertiesSet) 전에 콜백을 등록해야 하므로 BeanPostProcessor로 설정한다
+    @Bean
+    public static BeanPostProcessor softDeleteFilterInitializer() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setEntityManagerInitializer(entityManager ->
+                            entityManager.unwrap(Session.class).enableFilter(BaseEntity.NOT_DELETED_FILTER));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.bookerapp.core.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시 커넥션 사용 수를 세마포어로 제한하는 DataSource
+ *
+ * 가상 스레드 환경에서는 요청 스레드 수에 사실상 제한이 없으므로
+ * 수천 개의 요청이 커넥션 풀 대기열에 몰리지 않도록 풀 앞단에서 허가(permit)를 먼저 받게 한다.
+ * 세마포어 대기는 캐리어 스레드를 점유하지 않는다.
+ * 허가는 커넥션을 얻을 때 획득하고 커넥션을 close 할 때 반납한다.
+ */
+@Slf4j
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrency,
+                                         long acquireTimeoutMillis, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.waitTimer = Timer.builder("booker.db.permit.wait")
+                .description("DB 커넥션 허가 대기 시간")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("booker.db.permit.timeout")
+                .description("DB 커넥션 허가 획득 시간 초과 횟수")
+                .register(meterRegistry);
+        Gauge.builder("booker.db.permit.available", permits, Semaphore::availablePermits)
+                .description("사용 가능한 DB 커넥션 허가 수")
+                .register(meterRegistry);
+
+        log.info("DB concurrency limit enabled - Permits: {}, Timeout: {}ms", maxConcurrency, acquireTimeoutMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        long startNanos = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 허가 대기 중 인터럽트가 발생했습니다.", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            timeoutCounter.increment();
+            throw new SQLTransientConnectionException(
+                    "DB 커넥션 허가를 " + acquireTimeoutMillis + "ms 내에 얻지 못했습니다.");
+        }
+    }
+
+    /**
+     * close 시 허가를 한 번만 반납하도록 커넥션을 감싼다.
+     */
+    private Connection releasing(Connection target) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
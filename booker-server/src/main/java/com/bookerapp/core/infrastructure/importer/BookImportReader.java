@@ -0,0 +1,198 @@
+package com.bookerapp.core.infrastructure.importer;
+
+import com.bookerapp.core.domain.exception.InvalidBookException;
+import com.bookerapp.core.domain.model.dto.BookImportDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 도서 가져오기 파일을 한 행씩 읽는 스트리밍 리더
+ *
+ * 파일 전체를 메모리에 올리지 않고 {@link #next()} 호출마다 한 행만 해석한다.
+ * 행 단위 해석 오류는 예외 대신 {@link BookImportDto.Row#parseError()}로 돌려주어 나머지 행을 계속 처리한다.
+ *
+ * - CSV: 첫 줄은 헤더 (title, author, isbn, publisher, coverImageUrl - 순서 무관, 대소문자 무시).
+ *   RFC 4180 따옴표 규칙을 따르며 따옴표 안의 줄바꿈도 허용한다.
+ * - JSONL: 한 줄에 JSON 객체 하나. 빈 줄은 건너뛴다.
+ */
+public class BookImportReader implements Closeable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String[] COLUMNS = {"title", "author", "isbn", "publisher", "coverimageurl"};
+    private static final List<String> QUOTE_NOT_CLOSED = Collections.unmodifiableList(new ArrayList<>());
+
+    private final BufferedReader reader;
+    private final BookImportDto.Format format;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private long lineNumber;
+
+    public BookImportReader(InputStream inputStream, BookImportDto.Format format) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    /**
+     * 다음 행
+     *
+     * @return 파일 끝이면 null
+     * @throws InvalidBookException CSV 헤더가 없거나 필수 컬럼(title, author)이 빠진 경우
+     */
+    public BookImportDto.Row next() {
+        try {
+            return format == BookImportDto.Format.CSV ? nextCsv() : nextJsonLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BookImportDto.Row nextJsonLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(line);
+            if (node == null || !node.isObject()) {
+                return BookImportDto.Row.failed(lineNumber, "JSON 객체가 아닙니다.");
+            }
+            return new BookImportDto.Row(lineNumber, text(node, "title"), text(node, "author"), text(node, "isbn"),
+                    text(node, "publisher"), text(node, "coverImageUrl"), null);
+        } catch (JsonProcessingException e) {
+            return BookImportDto.Row.failed(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private BookImportDto.Row nextCsv() throws IOException {
+        if (columnIndexes.isEmpty()) {
+            readHeader();
+        }
+        List<String> fields;
+        long startLine;
+        do {
+            startLine = lineNumber + 1;
+            fields = readCsvRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields == QUOTE_NOT_CLOSED) {
+            return BookImportDto.Row.failed(startLine, "닫히지 않은 따옴표가 있습니다.");
+        }
+        return new BookImportDto.Row(startLine, column(fields, "title"), column(fields, "author"),
+                column(fields, "isbn"), column(fields, "publisher"), column(fields, "coverimageurl"), null);
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvRecord();
+        if (header == null || header == QUOTE_NOT_CLOSED) {
+            throw new InvalidBookException("CSV 헤더가 없습니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip().replace("_", "").toLowerCase(Locale.ROOT);
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == '\uFEFF') {
+                name = name.substring(1);
+            }
+            for (String column : COLUMNS) {
+                if (column.equals(name)) {
+                    columnIndexes.putIfAbsent(column, i);
+                }
+            }
+        }
+        if (!columnIndexes.containsKey("title") || !columnIndexes.containsKey("author")) {
+            throw new InvalidBookException("CSV 헤더에 title, author 컬럼이 필요합니다: " + header);
+        }
+    }
+
+    private String column(List<String> fields, String column) {
+        Integer index = columnIndexes.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * CSV 레코드 하나 (따옴표 안의 줄바꿈이면 다음 줄까지 이어 읽는다)
+     *
+     * @return 파일 끝이면 null, 따옴표가 닫히지 않은 채 파일이 끝나면 {@link #QUOTE_NOT_CLOSED}
+     */
+    private List<String> readCsvRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    return QUOTE_NOT_CLOSED;
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
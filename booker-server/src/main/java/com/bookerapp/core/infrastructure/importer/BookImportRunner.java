@@ -0,0 +1,66 @@
+package com.bookerapp.core.infrastructure.importer;
+
+import com.bookerapp.core.domain.model.dto.BookImportDto;
+import com.bookerapp.core.domain.service.BookImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 도서 일괄 가져오기 CLI 실행기
+ *
+ * booker.book-import.file이 지정된 경우에만 등록되며, 기동 시 파일을 가져온 뒤 결과를 로그로 남기고 종료한다.
+ * 실패 행이 있으면 종료 코드 1을 돌려준다.
+ *
+ * 예) java -jar booker-server.jar --spring.main.web-application-type=none \
+ *       --booker.book-import.file=/data/books.csv
+ */
+@Component
+@ConditionalOnProperty(name = "booker.book-import.file")
+@Slf4j
+public class BookImportRunner implements ApplicationRunner {
+
+    private final BookImportService bookImportService;
+    private final ConfigurableApplicationContext applicationContext;
+    private final String file;
+    private final String format;
+    private final boolean exitOnFinish;
+
+    public BookImportRunner(BookImportService bookImportService,
+                            ConfigurableApplicationContext applicationContext,
+                            @Value("${booker.book-import.file}") String file,
+                            @Value("${booker.book-import.format:}") String format,
+                            @Value("${booker.book-import.exit-on-finish:true}") boolean exitOnFinish) {
+        this.bookImportService = bookImportService;
+        this.applicationContext = applicationContext;
+        this.file = file;
+        this.format = format;
+        this.exitOnFinish = exitOnFinish;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        BookImportDto.Format resolved = BookImportDto.Format.resolve(format, file);
+        log.info("Importing books from {} ({})", file, resolved);
+
+        BookImportDto.Result result = bookImportService.importBooks(Path.of(file), resolved);
+        for (BookImportDto.RowError error : result.getErrors()) {
+            log.warn("Book import row failed - Line: {}, ISBN: {}, Reason: {}", error.getLine(), error.getIsbn(), error.getMessage());
+        }
+        if (result.isErrorsTruncated()) {
+            log.warn("Book import errors truncated - Failed: {}, Reported: {}", result.getFailed(), result.getErrors().size());
+        }
+
+        if (exitOnFinish) {
+            int exitCode = result.getFailed() > 0 ? 1 : 0;
+            System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+        }
+    }
+}
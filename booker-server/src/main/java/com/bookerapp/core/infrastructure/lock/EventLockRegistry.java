@@ -0,0 +1,100 @@
+package com.bookerapp.core.infrastructure.lock;
+
+import com.bookerapp.core.domain.exception.LockAcquisitionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 이벤트 ID 기반 스트라이프 락 레지스트리
+ *
+ * 고정 개수의 ReentrantLock을 이벤트 ID 해시로 나누어 사용한다.
+ * 같은 스트라이프에 속한 이벤트끼리만 경합하므로 한 이벤트에 요청이 몰려도
+ * 다른 이벤트의 참여 신청은 병렬로 처리된다. 락 개수가 고정이라 이벤트 수에 따라 메모리가 늘지 않는다.
+ *
+ * 락은 트랜잭션 바깥에서 잡아야 커밋 이후에 해제된다.
+ */
+@Component
+@Slf4j
+public class EventLockRegistry {
+
+    private final ReentrantLock[] stripes;
+    private final Timer[] waitTimers;
+    private final Counter timeoutCounter;
+    private final long timeoutMillis;
+
+    public EventLockRegistry(MeterRegistry meterRegistry,
+                             @Value("${booker.event-lock.stripes:64}") int stripeCount,
+                             @Value("${booker.event-lock.fair:false}") boolean fair,
+                             @Value("${booker.event-lock.timeout-ms:3000}") long timeoutMillis) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.waitTimers = new Timer[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(fair);
+            waitTimers[i] = Timer.builder("booker.event.lock.wait")
+                    .description("이벤트 락 획득 대기 시간")
+                    .tag("stripe", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        this.timeoutCounter = Counter.builder("booker.event.lock.timeout")
+                .description("이벤트 락 획득 시간 초과 횟수")
+                .register(meterRegistry);
+        this.timeoutMillis = timeoutMillis;
+
+        log.info("Event lock registry initialized - Stripes: {}, Fair: {}, Timeout: {}ms", size, fair, timeoutMillis);
+    }
+
+    /**
+     * 이벤트 락을 잡은 상태로 작업 실행
+     *
+     * @param eventId 이벤트 ID
+     * @param action 실행할 작업
+     * @return 작업 결과
+     * @throws LockAcquisitionException 제한 시간 내에 락을 얻지 못한 경우
+     */
+    public <T> T executeWithLock(Long eventId, Supplier<T> action) {
+        int stripe = stripeOf(eventId);
+        ReentrantLock lock = stripes[stripe];
+
+        long startNanos = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockAcquisitionException("락 대기 중 인터럽트가 발생했습니다. EventId: " + eventId);
+        } finally {
+            waitTimers[stripe].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            timeoutCounter.increment();
+            log.warn("Event lock timeout - EventId: {}, Stripe: {}, Timeout: {}ms", eventId, stripe, timeoutMillis);
+            throw new LockAcquisitionException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요. EventId: " + eventId);
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int stripeOf(Long eventId) {
+        int h = eventId.hashCode();
+        h ^= (h >>> 16);
+        return h & (stripes.length - 1);
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+}
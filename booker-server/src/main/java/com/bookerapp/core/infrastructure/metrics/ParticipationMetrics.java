@@ -0,0 +1,183 @@
+package com.bookerapp.core.infrastructure.metrics;
+
+import com.bookerapp.core.domain.exception.AlreadyParticipatingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 참여 신청 전략별 메트릭
+ *
+ * 모든 메트릭은 strategy 태그와 event_bucket 태그를 가진다.
+ * 이벤트 ID를 그대로 태그로 쓰면 시계열이 이벤트 수만큼 늘어나므로 eventId % buckets 로 묶는다.
+ *
+ * - booker.participation.latency : 참여 신청 전체 처리 시간 (outcome 태그, 히스토그램 포함)
+ * - booker.participation.outcome : 결과별 건수 (CONFIRMED / WAITING / ALREADY / FAILED)
+ * - booker.participation.lock.wait : 락(스트라이프 락, 행 잠금, 조건부 UPDATE) 획득 대기 시간
+ * - booker.participation.attempt : 낙관적 시도 1회의 처리 시간 (result=success/conflict)
+ */
+@Component
+public class ParticipationMetrics {
+
+    public enum Outcome {
+        CONFIRMED, WAITING, ALREADY, FAILED;
+
+        /**
+         * 응답 상태 문자열을 결과로 변환 (ALREADY_PARTICIPATING → ALREADY)
+         */
+        public static Outcome fromStatus(String status) {
+            if (status == null) {
+                return FAILED;
+            }
+            return switch (status) {
+                case "CONFIRMED" -> CONFIRMED;
+                case "WAITING" -> WAITING;
+                case "ALREADY_PARTICIPATING" -> ALREADY;
+                default -> FAILED;
+            };
+        }
+
+        /**
+         * 참여 신청 중 발생한 예외를 결과로 변환 (중복 신청 예외는 오류가 아니므로 ALREADY)
+         */
+        public static Outcome fromException(Throwable error) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause instanceof AlreadyParticipatingException ? ALREADY : FAILED;
+        }
+    }
+
+    private static final String RETRY_COUNTER = "booker.participation.retry";
+
+    private final MeterRegistry meterRegistry;
+    private final int eventBuckets;
+    private final Map<String, Double> retryBaselines = new ConcurrentHashMap<>();
+
+    public ParticipationMetrics(MeterRegistry meterRegistry,
+                                @Value("${booker.metrics.event-buckets:8}") int eventBuckets) {
+        this.meterRegistry = meterRegistry;
+        this.eventBuckets = Math.max(1, eventBuckets);
+    }
+
+    /**
+     * 참여 신청 처리 시간과 결과 기록
+     *
+     * @param outcomeOf 응답에서 결과를 추출하는 함수
+     * @throws RuntimeException participation에서 발생한 예외는 FAILED(중복 신청 예외는 ALREADY)로 기록한 뒤 그대로 전파
+     */
+    public <T> T record(String strategy, Long eventId, Supplier<T> participation, Function<T, Outcome> outcomeOf) {
+        long startNanos = System.nanoTime();
+        try {
+            T response = participation.get();
+            recordOutcome(strategy, eventId, outcomeOf.apply(response), System.nanoTime() - startNanos);
+            return response;
+        } catch (RuntimeException e) {
+            recordOutcome(strategy, eventId, Outcome.fromException(e), System.nanoTime() - startNanos);
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 참여 신청 처리 시간과 결과 기록 (완료 시점까지 측정)
+     */
+    public <T> CompletableFuture<T> recordAsync(String strategy, Long eventId,
+                                                Supplier<CompletableFuture<T>> participation,
+                                                Function<T, Outcome> outcomeOf) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = participation.get();
+        } catch (RuntimeException e) {
+            recordOutcome(strategy, eventId, Outcome.fromException(e), System.nanoTime() - startNanos);
+            throw e;
+        }
+        return future.whenComplete((response, error) -> recordOutcome(strategy, eventId,
+                error != null ? Outcome.fromException(error) : outcomeOf.apply(response), System.nanoTime() - startNanos));
+    }
+
+    /**
+     * 락 획득 작업을 실행하며 대기 시간 기록
+     */
+    public <T> T recordLockWait(String strategy, Long eventId, Supplier<T> acquire) {
+        long startNanos = System.nanoTime();
+        try {
+            return acquire.get();
+        } finally {
+            recordLockWait(strategy, eventId, System.nanoTime() - startNanos);
+        }
+    }
+
+    public void recordLockWait(String strategy, Long eventId, long waitNanos) {
+        Timer.builder("booker.participation.lock.wait")
+                .description("참여 신청 락 획득 대기 시간")
+                .tags("strategy", strategy, "event_bucket", eventBucket(eventId))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 낙관적 시도 1회 기록
+     *
+     * @param conflict 버전 충돌로 실패한 시도인지 여부
+     */
+    public void recordAttempt(String strategy, Long eventId, long elapsedNanos, boolean conflict) {
+        Timer.builder("booker.participation.attempt")
+                .description("낙관적 참여 시도 1회 처리 시간")
+                .tags("strategy", strategy, "event_bucket", eventBucket(eventId), "result", conflict ? "conflict" : "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 마지막 초기화 이후 전략별 재시도 횟수 (Prometheus 카운터는 누적값을 유지하고 기준값만 옮긴다)
+     */
+    public long retryCount(String strategy) {
+        return Math.round(totalRetries(strategy) - retryBaselines.getOrDefault(strategy, 0.0));
+    }
+
+    public void resetRetryCount(String strategy) {
+        retryBaselines.put(strategy, totalRetries(strategy));
+    }
+
+    /**
+     * 이벤트 ID를 태그용 버킷 값으로 변환
+     */
+    public String eventBucket(Long eventId) {
+        if (eventId == null) {
+            return "none";
+        }
+        return String.valueOf(Math.floorMod(eventId, eventBuckets));
+    }
+
+    private double totalRetries(String strategy) {
+        return meterRegistry.find(RETRY_COUNTER).tag("strategy", strategy).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private void recordOutcome(String strategy, Long eventId, Outcome outcome, long elapsedNanos) {
+        String bucket = eventBucket(eventId);
+        Timer.builder("booker.participation.latency")
+                .description("참여 신청 전체 처리 시간")
+                .tags("strategy", strategy, "event_bucket", bucket, "outcome", outcome.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("booker.participation.outcome")
+                .description("참여 신청 결과별 건수")
+                .tags("strategy", strategy, "event_bucket", bucket, "outcome", outcome.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
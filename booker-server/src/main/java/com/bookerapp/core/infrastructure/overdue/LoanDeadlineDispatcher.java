@@ -0,0 +1,126 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.infrastructure.repository.OverdueLoanJdbcRepository;
+import com.bookerapp.core.infrastructure.repository.OverdueLoanJdbcRepository.ActiveLoanDue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반납 기한 타이밍 휠 구동
+ *
+ * 기동 시 ACTIVE 대출을 id 키셋으로 나누어 읽어 {@link LoanDeadlineWheel}을 다시 채우고,
+ * 이후 tick-ms마다 휠을 진행해 만료된 반납 예정 알림과 연체 전환을 처리한다.
+ * - 연체 전환: {@link OverdueLoanSweeper#markDue}로 전환 후 {@link LoansOverdueEvent} 발행
+ * - 반납 예정 알림: 알림 발송 시각을 기록한 대출만 {@link LoanDueReminderEvent}로 발행
+ * 두 경우 모두 DB 조건(상태, 반납 기한, 알림 여부)을 행 잠금과 함께 다시 확인하므로 모든 노드가 같은 대출을 가지고 있어도 한 번만 처리된다.
+ * 처리 중 오류로 놓친 연체 전환은 {@link OverdueLoanSweeper}가 보정한다.
+ *
+ * 메트릭: booker.loan.deadline.reminded (알림 발행 건수)
+ */
+@Component
+@Slf4j
+public class LoanDeadlineDispatcher {
+
+    private final LoanDeadlineWheel loanDeadlineWheel;
+    private final OverdueLoanJdbcRepository overdueLoanRepository;
+    private final OverdueLoanSweeper overdueLoanSweeper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int loadChunkSize;
+    private final Counter remindedCounter;
+    private volatile boolean loaded;
+
+    public LoanDeadlineDispatcher(LoanDeadlineWheel loanDeadlineWheel,
+                                  OverdueLoanJdbcRepository overdueLoanRepository,
+                                  OverdueLoanSweeper overdueLoanSweeper,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${booker.loan-deadline.enabled:true}") boolean enabled,
+                                  @Value("${booker.loan-deadline.load-chunk-size:1000}") int loadChunkSize) {
+        this.loanDeadlineWheel = loanDeadlineWheel;
+        this.overdueLoanRepository = overdueLoanRepository;
+        this.overdueLoanSweeper = overdueLoanSweeper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.loadChunkSize = loadChunkSize;
+        this.remindedCounter = Counter.builder("booker.loan.deadline.reminded")
+                .description("반납 예정 알림을 발행한 대출 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long afterId = 0;
+        int total = 0;
+        while (true) {
+            List<ActiveLoanDue> chunk = overdueLoanRepository.findActiveDueDates(afterId, loadChunkSize);
+            for (ActiveLoanDue due : chunk) {
+                loanDeadlineWheel.schedule(due.id(), due.dueDate(), due.reminded());
+            }
+            total += chunk.size();
+            if (chunk.size() < loadChunkSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+        loaded = true;
+        log.info("Loan deadline wheel rebuilt - Loans: {}, Elapsed: {}ms",
+                total, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${booker.loan-deadline.tick-ms:1000}")
+    public void tick() {
+        if (enabled && loaded) {
+            dispatch(loanDeadlineWheel.advance(System.currentTimeMillis()), LocalDateTime.now());
+        }
+    }
+
+    void dispatch(List<LoanDeadlineWheel.Deadline> fired, LocalDateTime now) {
+        if (fired.isEmpty()) {
+            return;
+        }
+        List<Long> reminders = new ArrayList<>();
+        List<Long> overdue = new ArrayList<>();
+        for (LoanDeadlineWheel.Deadline deadline : fired) {
+            (deadline.kind() == LoanDeadlineWheel.Kind.REMINDER ? reminders : overdue).add(deadline.loanId());
+        }
+        overdueLoanSweeper.markDue(overdue, now);
+        remind(reminders, now);
+    }
+
+    private void remind(List<Long> loanIds, LocalDateTime now) {
+        if (loanIds.isEmpty()) {
+            return;
+        }
+        List<Long> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = overdueLoanRepository.lockReminderIdsIn(
+                    loanIds, now, now.plusDays(BookLoan.DUE_REMINDER_DAYS));
+            overdueLoanRepository.markReminded(ids, now);
+            return ids;
+        });
+        if (claimed != null && !claimed.isEmpty()) {
+            remindedCounter.increment(claimed.size());
+            eventPublisher.publishEvent(new LoanDueReminderEvent(claimed, now));
+        }
+    }
+}
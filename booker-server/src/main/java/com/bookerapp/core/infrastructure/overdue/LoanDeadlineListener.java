@@ -0,0 +1,36 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대출 저장 시 반납 기한 타이밍 휠({@link LoanDeadlineWheel}) 갱신
+ *
+ * processLoan/extend로 ACTIVE 대출의 반납 기한이 정해지거나 바뀌면 다시 등록하고,
+ * processReturn 등으로 ACTIVE가 아니게 되거나 삭제 표시되면 취소한다 (flush 시점, 커밋 후 반영).
+ * Hibernate가 SpringBeanContainer로 생성하므로 생성자 주입을 받는다.
+ */
+@RequiredArgsConstructor
+public class LoanDeadlineListener {
+
+    private final LoanDeadlineWheel loanDeadlineWheel;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(BookLoan loan) {
+        if (loan.getStatus() == LoanStatus.ACTIVE && !loan.isDeleted() && loan.getDueDate() != null) {
+            loanDeadlineWheel.scheduleAfterCommit(loan.getId(), loan.getDueDate(), loan.getDueReminderSentAt() != null);
+        } else {
+            loanDeadlineWheel.cancelAfterCommit(loan.getId());
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(BookLoan loan) {
+        loanDeadlineWheel.cancelAfterCommit(loan.getId());
+    }
+}
@@ -0,0 +1,124 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ACTIVE 대출의 반납 기한 타이밍 휠
+ *
+ * 대출마다 반납 예정 알림(반납 기한 - {@link BookLoan#DUE_REMINDER_DAYS}일)과 연체 전환(반납 기한) 두 시각을
+ * {@link TimingWheel}에 등록해 두고, {@link LoanDeadlineDispatcher}가 틱마다 만료된 항목을 가져간다.
+ * 전체 대출을 주기적으로 조회하지 않고 등록/취소 O(1)로 유지한다.
+ *
+ * 대출 엔티티 저장 시({@link LoanDeadlineListener}) 커밋 후 반영하며, 메모리에만 있으므로 기동 시 DB에서 다시 채운다.
+ * 다른 노드에서 반납/연장된 대출은 이 휠에 남아 있을 수 있으므로 만료 처리 쪽에서 DB 조건으로 다시 확인한다.
+ * 엔티티 리스너가 주입받으므로 저장소/트랜잭션 빈에 의존하지 않는다 (EntityManagerFactory 생성 중 순환 참조).
+ *
+ * 메트릭: booker.loan.deadline.scheduled (등록된 항목 수)
+ */
+@Component
+public class LoanDeadlineWheel {
+
+    public enum Kind {
+        REMINDER,
+        OVERDUE
+    }
+
+    public record Deadline(long loanId, Kind kind) {
+    }
+
+    private record LoanTimers(LocalDateTime dueDate,
+                              TimingWheel.Timeout<Deadline> reminder,
+                              TimingWheel.Timeout<Deadline> overdue) {
+    }
+
+    private final long tickMillis;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final TimingWheel<Deadline> wheel;
+    private final Map<Long, LoanTimers> timers = new HashMap<>();
+
+    public LoanDeadlineWheel(MeterRegistry meterRegistry,
+                             @Value("${booker.loan-deadline.tick-ms:1000}") long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.wheel = new TimingWheel<>(System.currentTimeMillis() / tickMillis);
+        Gauge.builder("booker.loan.deadline.scheduled", this, LoanDeadlineWheel::size)
+                .description("반납 기한 타이밍 휠에 등록된 알림/연체 전환 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대출의 반납 기한 등록 (이미 같은 반납 기한으로 등록돼 있으면 그대로 둔다)
+     *
+     * @param reminded 현재 반납 기한에 대한 알림을 이미 보냈으면 알림은 등록하지 않는다
+     */
+    public synchronized void schedule(long loanId, LocalDateTime dueDate, boolean reminded) {
+        LoanTimers existing = timers.get(loanId);
+        if (existing != null) {
+            if (existing.dueDate().equals(dueDate)) {
+                return;
+            }
+            cancelTimers(existing);
+        }
+        TimingWheel.Timeout<Deadline> reminder = reminded ? null : wheel.schedule(new Deadline(loanId, Kind.REMINDER),
+                tickOf(dueDate.minusDays(BookLoan.DUE_REMINDER_DAYS)));
+        TimingWheel.Timeout<Deadline> overdue = wheel.schedule(new Deadline(loanId, Kind.OVERDUE), tickOf(dueDate));
+        timers.put(loanId, new LoanTimers(dueDate, reminder, overdue));
+    }
+
+    public synchronized void cancel(long loanId) {
+        LoanTimers existing = timers.remove(loanId);
+        if (existing != null) {
+            cancelTimers(existing);
+        }
+    }
+
+    public void scheduleAfterCommit(long loanId, LocalDateTime dueDate, boolean reminded) {
+        TransactionCallbacks.afterCommit(() -> schedule(loanId, dueDate, reminded));
+    }
+
+    public void cancelAfterCommit(long loanId) {
+        TransactionCallbacks.afterCommit(() -> cancel(loanId));
+    }
+
+    /**
+     * nowMillis까지 진행하고 만료된 항목을 돌려준다 (연체 전환이 만료된 대출은 휠에서 빠진다)
+     */
+    public synchronized List<Deadline> advance(long nowMillis) {
+        List<Deadline> fired = new ArrayList<>();
+        wheel.advanceTo(nowMillis / tickMillis, deadline -> {
+            fired.add(deadline);
+            if (deadline.kind() == Kind.OVERDUE) {
+                timers.remove(deadline.loanId());
+            }
+        });
+        return fired;
+    }
+
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    private void cancelTimers(LoanTimers loanTimers) {
+        if (loanTimers.reminder() != null) {
+            wheel.cancel(loanTimers.reminder());
+        }
+        wheel.cancel(loanTimers.overdue());
+    }
+
+    // 만료 시각 이후의 첫 틱 (일찍 만료되지 않도록 올림)
+    private long tickOf(LocalDateTime time) {
+        long millis = time.atZone(zone).toInstant().toEpochMilli();
+        return Math.floorDiv(millis + tickMillis - 1, tickMillis);
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 반납 기한이 다가온 대출 (알림 발송 기록 커밋 후 발행, 대출당 반납 기한마다 한 번)
+ *
+ * @param loanIds 알림 대상 대출 ID (오름차순)
+ * @param detectedAt 알림 시각
+ */
+public record LoanDueReminderEvent(List<Long> loanIds, LocalDateTime detectedAt) {
+}
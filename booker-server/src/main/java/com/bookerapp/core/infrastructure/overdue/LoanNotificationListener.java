@@ -0,0 +1,36 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import com.bookerapp.core.infrastructure.waitlist.LoanHoldStartedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대출 알림 단계 - 연체 전환({@link LoansOverdueEvent})과 반납 예정({@link LoanDueReminderEvent}) 대출 ID,
+ * 대기자 인계({@link LoanHoldStartedEvent})를 받는다.
+ *
+ * 외부 발송 채널이 없으므로 받은 알림을 로그로만 남기는 소비자다. 발송 채널이 생기면 같은 이벤트를 받는
+ * 리스너를 따로 두면 되고, 이 리스너는 운영 로그 용도로 그대로 둔다.
+ */
+@Component
+@Slf4j
+public class LoanNotificationListener {
+
+    @EventListener
+    public void onLoansOverdue(LoansOverdueEvent event) {
+        log.info("Loans marked overdue - Count: {}, First: {}, Last: {}", event.loanIds().size(),
+                event.loanIds().get(0), event.loanIds().get(event.loanIds().size() - 1));
+    }
+
+    @EventListener
+    public void onLoansDueSoon(LoanDueReminderEvent event) {
+        log.info("Loans due soon - Count: {}, First: {}, Last: {}", event.loanIds().size(),
+                event.loanIds().get(0), event.loanIds().get(event.loanIds().size() - 1));
+    }
+
+    @EventListener
+    public void onLoanHoldStarted(LoanHoldStartedEvent event) {
+        log.info("Loan hold started - Loan: {}, Member: {}, Book: {}, ExpiresAt: {}",
+                event.loanId(), event.memberId(), event.bookId(), event.holdExpiresAt());
+    }
+}
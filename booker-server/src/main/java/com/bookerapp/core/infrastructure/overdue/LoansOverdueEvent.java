@@ -0,0 +1,13 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 연체로 전환된 대출 (청크 단위, 전환 트랜잭션 커밋 후 발행)
+ *
+ * @param loanIds 전환된 대출 ID (오름차순)
+ * @param detectedAt 연체 판단 기준 시각
+ */
+public record LoansOverdueEvent(List<Long> loanIds, LocalDateTime detectedAt) {
+}
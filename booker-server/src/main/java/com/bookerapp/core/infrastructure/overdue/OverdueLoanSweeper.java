@@ -0,0 +1,242 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import com.bookerapp.core.infrastructure.repository.OverdueFeeJdbcRepository;
+import com.bookerapp.core.infrastructure.repository.OverdueFeeJdbcRepository.AccrualCandidate;
+import com.bookerapp.core.infrastructure.repository.OverdueLoanJdbcRepository;
+import com.bookerapp.core.infrastructure.repository.SchedulerLeaseRepository;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 연체 전환 작업
+ *
+ * 반납 기한이 지난 ACTIVE 대출을 엔티티 로딩 없이 batch-size 단위 청크로 OVERDUE 전환한다.
+ * 청크마다 별도 트랜잭션(ID 키셋 조회 FOR UPDATE → 벌크 UPDATE)이므로 대출이 많아도 메모리와 잠금 시간이 청크 크기로 제한되고,
+ * 커밋된 청크의 대출 ID는 {@link LoansOverdueEvent}로 알림 단계에 넘긴다.
+ * 반납 기한 시각의 전환은 {@link LoanDeadlineDispatcher}가 {@link #markDue}로 맡고, 이 작업은 재기동/장애로 놓친 전환을 보정한다.
+ *
+ * 전환 후에는 연체료를 적립한다({@link #accrueFees}). 마지막 적립 후 하루 이상 지난 OVERDUE 대출에 지난 연체일마다
+ * 원장(overdue_fee_ledger) 행을 추가하고, 대출의 적립 합계와 회원별 잔액(member_fee_balances)에 같은 트랜잭션에서 더한다.
+ * 적립 시각은 반납 기한 + n일로 정해지므로 실행이 늦어져도 밀린 연체일을 한 번에 같은 결과로 적립한다.
+ *
+ * 여러 노드에서 같은 주기로 실행되므로 scheduler_lease 행의 임대를 얻은 노드만 실행한다.
+ * 실행이 lease-ms보다 길어져 다른 노드가 함께 실행해도 행 잠금과 status 조건으로 같은 대출을 두 번 전환하지 않는다.
+ *
+ * 메트릭: booker.loan.overdue.sweep (실행 시간), booker.loan.overdue.marked (전환 건수),
+ *        booker.loan.overdue.sweep.skipped (다른 노드가 임대 중이라 건너뛴 횟수),
+ *        booker.loan.fee.accrued (연체료를 적립한 연체일 수)
+ */
+@Component
+@Slf4j
+public class OverdueLoanSweeper {
+
+    static final String LEASE_NAME = "overdue-loan-sweep";
+
+    private final OverdueLoanJdbcRepository overdueLoanRepository;
+    private final OverdueFeeJdbcRepository overdueFeeRepository;
+    private final SchedulerLeaseRepository leaseRepository;
+    private final CatalogStatistics catalogStatistics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration leaseDuration;
+    private final String owner;
+    private final Timer sweepTimer;
+    private final Counter markedCounter;
+    private final Counter skippedCounter;
+    private final Counter accruedCounter;
+
+    public OverdueLoanSweeper(OverdueLoanJdbcRepository overdueLoanRepository,
+                              OverdueFeeJdbcRepository overdueFeeRepository,
+                              SchedulerLeaseRepository leaseRepository,
+                              CatalogStatistics catalogStatistics,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${booker.loan-overdue.enabled:true}") boolean enabled,
+                              @Value("${booker.loan-overdue.batch-size:500}") int batchSize,
+                              @Value("${booker.loan-overdue.lease-ms:600000}") long leaseMillis) {
+        this.overdueLoanRepository = overdueLoanRepository;
+        this.overdueFeeRepository = overdueFeeRepository;
+        this.leaseRepository = leaseRepository;
+        this.catalogStatistics = catalogStatistics;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.leaseDuration = Duration.ofMillis(leaseMillis);
+        // 노드(프로세스)마다 다른 임대 소유자 (pid@host + 기동마다 다른 접미사)
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+        this.sweepTimer = Timer.builder("booker.loan.overdue.sweep")
+                .description("연체 전환 작업 실행 시간")
+                .register(meterRegistry);
+        this.markedCounter = Counter.builder("booker.loan.overdue.marked")
+                .description("OVERDUE로 전환된 대출 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("booker.loan.overdue.sweep.skipped")
+                .description("다른 노드가 임대 중이라 건너뛴 실행 수")
+                .register(meterRegistry);
+        this.accruedCounter = Counter.builder("booker.loan.fee.accrued")
+                .description("연체료 원장에 적립한 연체일 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${booker.loan-overdue.interval-ms:60000}",
+            fixedDelayString = "${booker.loan-overdue.interval-ms:60000}")
+    public void run() {
+        if (enabled) {
+            sweep(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * @param now 연체 판단 기준 시각 (due_date가 이보다 이전인 ACTIVE 대출이 대상)
+     * @return 전환한 대출 수 (임대를 얻지 못하면 0)
+     */
+    public int sweep(LocalDateTime now) {
+        if (!leaseRepository.tryAcquire(LEASE_NAME, owner, now, now.plus(leaseDuration))) {
+            skippedCounter.increment();
+            log.debug("Overdue sweep skipped, lease is held by another node");
+            return 0;
+        }
+        long startNanos = System.nanoTime();
+        int total = 0;
+        try {
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                List<Long> ids = transactionTemplate.execute(status ->
+                        transition(overdueLoanRepository.lockOverdueIds(now, from, batchSize), now));
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                total += ids.size();
+                publish(ids, now);
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+            accrueFees(now);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            sweepTimer.record(Duration.ofNanos(elapsedNanos));
+            leaseRepository.release(LEASE_NAME, owner, LocalDateTime.now());
+            if (total > 0) {
+                log.info("Overdue sweep finished - Loans: {}, Elapsed: {}ms", total, elapsedNanos / 1_000_000);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 주어진 대출 중 반납 기한이 지난 ACTIVE 대출만 전환 (반납 기한 타이밍 휠이 만료 시 호출)
+     *
+     * 임대 없이 실행하며, 여러 노드가 같은 대출을 넘겨도 행 잠금과 status 조건으로 한 번만 전환된다.
+     *
+     * @return 전환된 대출 ID
+     */
+    public List<Long> markDue(List<Long> loanIds, LocalDateTime now) {
+        if (loanIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = transactionTemplate.execute(status ->
+                transition(overdueLoanRepository.lockOverdueIdsIn(loanIds, now), now));
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        publish(ids, now);
+        return ids;
+    }
+
+    /**
+     * 연체료 적립 - batch-size 단위 청크마다 별도 트랜잭션 (대출 ID 키셋 잠금 → 원장 INSERT → 대출/회원 잔액 UPDATE)
+     *
+     * @return 적립한 연체일 수
+     */
+    int accrueFees(LocalDateTime now) {
+        long afterId = 0;
+        int total = 0;
+        while (true) {
+            long from = afterId;
+            AccrualChunk chunk = transactionTemplate.execute(status -> {
+                List<AccrualCandidate> locked = overdueFeeRepository.lockAccrualCandidates(now.minusDays(1), from, batchSize);
+                return new AccrualChunk(locked, accrue(locked, now));
+            });
+            if (chunk == null || chunk.locked().isEmpty()) {
+                break;
+            }
+            total += chunk.days();
+            accruedCounter.increment(chunk.days());
+            if (chunk.locked().size() < batchSize) {
+                break;
+            }
+            afterId = chunk.locked().get(chunk.locked().size() - 1).loanId();
+        }
+        if (total > 0) {
+            log.info("Overdue fees accrued - Days: {}", total);
+        }
+        return total;
+    }
+
+    private record AccrualChunk(List<AccrualCandidate> locked, int days) {
+    }
+
+    // 잠근 대출마다 지난 연체일(반납 기한 + n일이 now 이전)을 원장 행으로 만들고 합계를 반영
+    private int accrue(List<AccrualCandidate> locked, LocalDateTime now) {
+        List<OverdueFeeJdbcRepository.Entry> entries = new ArrayList<>();
+        List<OverdueFeeJdbcRepository.Accrual> accruals = new ArrayList<>(locked.size());
+        Map<String, Long> amounts = new HashMap<>();
+        for (AccrualCandidate loan : locked) {
+            LocalDateTime through = loan.accruedThrough() != null ? loan.accruedThrough() : loan.dueDate();
+            long accruedDays = ChronoUnit.DAYS.between(loan.dueDate(), through);
+            long overdueDays = Math.max(accruedDays, ChronoUnit.DAYS.between(loan.dueDate(), now));
+            for (long day = accruedDays + 1; day <= overdueDays; day++) {
+                entries.add(new OverdueFeeJdbcRepository.Entry(loan.loanId(), loan.memberId(), (int) day,
+                        BookLoan.OVERDUE_FEE_PER_DAY, loan.dueDate().plusDays(day)));
+            }
+            int amount = (int) (overdueDays - accruedDays) * BookLoan.OVERDUE_FEE_PER_DAY;
+            accruals.add(new OverdueFeeJdbcRepository.Accrual(loan.loanId(), amount, loan.dueDate().plusDays(overdueDays)));
+            if (amount > 0) {
+                amounts.merge(loan.memberId(), (long) amount, Long::sum);
+            }
+        }
+        overdueFeeRepository.appendEntries(entries);
+        overdueFeeRepository.markAccrued(accruals, now);
+        overdueFeeRepository.addToBalances(amounts, now);
+        return entries.size();
+    }
+
+    // 잠근 행을 OVERDUE로 바꾸고 현황 집계에 커밋 후 반영
+    private List<Long> transition(List<Long> lockedIds, LocalDateTime now) {
+        int marked = overdueLoanRepository.markOverdue(lockedIds, now);
+        catalogStatistics.loansChanged(LoanStatus.ACTIVE, LoanStatus.OVERDUE, marked);
+        return lockedIds;
+    }
+
+    private void publish(List<Long> ids, LocalDateTime now) {
+        markedCounter.increment(ids.size());
+        eventPublisher.publishEvent(new LoansOverdueEvent(ids, now));
+    }
+}
@@ -0,0 +1,188 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 틱 단위 만료 시각을 LEVELS개 단계의 SLOTS칸 버킷(이중 연결 리스트)에 넣는다.
+ * 단계 l은 남은 틱이 SLOTS^(l+1) 미만인 항목을 (만료 틱 >> 6l) 칸에 두고, 하위 단계가 한 바퀴 돌 때마다
+ * 해당 칸의 항목을 남은 시간에 맞는 하위 단계로 옮긴다 (cascade). 등록/취소는 O(1)이고,
+ * 틱 진행은 만료 항목 수와 옮기는 항목 수에 비례한다.
+ *
+ * 1초 틱이면 64^4초(약 194일)까지 담으며, 그보다 먼 항목은 최상위 단계 마지막 칸에 두었다가 다시 배치한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Bucket<T>[][] buckets;
+    // 이미 지난 틱으로 등록된 항목 (다음 진행 시 바로 만료)
+    private final Bucket<T> expired = new Bucket<>();
+    private long currentTick;
+    private int size;
+
+    static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        T payload() {
+            return payload;
+        }
+
+        long deadlineTick() {
+            return deadlineTick;
+        }
+    }
+
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        // 버킷을 비우고 기존 항목 목록의 첫 항목을 돌려준다 (next로 순회)
+        Timeout<T> drain() {
+            Timeout<T> first = head;
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        this.buckets = new Bucket[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                buckets[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    Timeout<T> schedule(T payload, long deadlineTick) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * @return 아직 만료되지 않아 취소했으면 true
+     */
+    boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * tick까지 진행하며 만료된 항목을 만료 순서대로 넘긴다 (같은 틱 안에서는 등록 순서)
+     */
+    void advanceTo(long tick, Consumer<T> onExpired) {
+        fire(expired, onExpired);
+        while (currentTick < tick) {
+            currentTick++;
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                cascade(buckets[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)]);
+            }
+            fire(buckets[0][(int) (currentTick & SLOT_MASK)], onExpired);
+            // 상위 단계에서 내려오다 만료 틱이 현재 틱과 같아진 항목
+            fire(expired, onExpired);
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            expired.add(timeout);
+            return;
+        }
+        long placement = delta > MAX_DELTA ? currentTick + MAX_DELTA : timeout.deadlineTick;
+        long placementDelta = placement - currentTick;
+        int level = 0;
+        while (placementDelta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        buckets[level][(int) ((placement >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timeout);
+    }
+
+    private void cascade(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.drain();
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void fire(Bucket<T> bucket, Consumer<T> onExpired) {
+        Timeout<T> timeout = bucket.drain();
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+            size--;
+            onExpired.accept(timeout.payload);
+            timeout = next;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookerapp.core.infrastructure.participation;
+
+import com.bookerapp.core.domain.model.event.Event;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 엔티티 변경 시 참여 집계 변경 알림
+ *
+ * 엔티티 경로의 참여 신청, 취소/승격(AbstractEventService.removeParticipant), 이벤트 삭제가 flush 시점에 여기로 들어온다.
+ * Hibernate가 SpringBeanContainer로 생성하므로 생성자 주입을 받는다.
+ * 네이티브 UPDATE는 엔티티 콜백을 거치지 않으므로 호출한 쪽에서 직접 알려야 한다.
+ */
+@RequiredArgsConstructor
+public class EventParticipationChangeListener {
+
+    private final ParticipationChangePublisher participationChangePublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Event event) {
+        participationChangePublisher.publishAfterCommit(event.getId());
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookerapp.core.infrastructure.participation;
+
+import com.bookerapp.core.infrastructure.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참여 집계 변경 알림
+ *
+ * 이벤트 엔티티를 거치는 변경은 {@link EventParticipationChangeListener}가, 엔티티를 거치지 않는 네이티브 UPDATE 경로는
+ * 호출한 쪽이 직접 이 컴포넌트로 알린다. 롤백된 변경은 알리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipationChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publishAfterCommit(Long eventId) {
+        if (eventId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> eventPublisher.publishEvent(new ParticipationChangedEvent(eventId)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.bookerapp.core.infrastructure.participation;
+
+/**
+ * 이벤트의 참여 집계(확정/대기 인원, 대기 순번)가 바뀜 (변경 트랜잭션 커밋 후 발행)
+ *
+ * @param eventId 집계가 바뀐 이벤트 ID
+ */
+public record ParticipationChangedEvent(long eventId) {
+}
@@ -0,0 +1,36 @@
+package com.bookerapp.core.infrastructure.participation;
+
+import com.bookerapp.core.domain.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 이벤트 참여 집계 백필
+ *
+ * confirmed_count, waiting_count, last_waiting_number 컬럼은 ddl-auto로 기본값 0과 함께 추가되므로
+ * 기존 참여자가 있는 이벤트는 그대로 두면 정원만큼 더 확정하고 대기 순번을 1부터 다시 부여한다.
+ * 기동 시 1회 event_participation 행으로 집계를 채운다. 이미 집계가 있는 이벤트는 건드리지 않으므로
+ * 매 기동마다 실행해도 되고, 백필이 끝난 뒤에는 갱신되는 행이 없다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ParticipationCountBackfill {
+
+    private final EventRepository eventRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        long startNanos = System.nanoTime();
+        int updated = eventRepository.backfillParticipationCounts();
+        if (updated > 0) {
+            log.info("Participation counts backfilled - Events: {}, Elapsed: {}ms",
+                    updated, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+}
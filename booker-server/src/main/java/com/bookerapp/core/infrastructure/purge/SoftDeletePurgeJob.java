@@ -0,0 +1,115 @@
+package com.bookerapp.core.infrastructure.purge;
+
+import com.bookerapp.core.infrastructure.repository.SoftDeleteArchiveRepository;
+import com.bookerapp.core.infrastructure.repository.SoftDeleteArchiveRepository.Reference;
+import com.bookerapp.core.infrastructure.repository.SoftDeleteArchiveRepository.Target;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오래된 삭제 표시 행 정리
+ *
+ * 삭제 표시 후 retention-days가 지난 행을 batch-size 단위로 보관 테이블(&lt;table&gt;_archive)에 옮기고 원본에서 지운다.
+ * 배치마다 별도 트랜잭션(대상 행 FOR UPDATE → 복사 → 삭제)이므로 큰 테이블도 긴 잠금 없이 나누어 처리하고,
+ * 한 번 실행에서 테이블당 max-batches-per-run 배치까지만 처리해 나머지는 다음 실행으로 넘긴다.
+ *
+ * 자식 테이블을 먼저 처리하고, 다른 행이 아직 참조하는 행(대출 이력이 남은 도서 등)은 옮기지 않는다.
+ * 메트릭: booker.soft-delete.archived{table}
+ */
+@Component
+@Slf4j
+public class SoftDeletePurgeJob {
+
+    // 자식 → 부모 순서
+    private static final List<Target> TARGETS = List.of(
+            Target.of("book_loans"),
+            Target.of("books", new Reference("book_loans", "book_id")),
+            Target.of("book_orders"),
+            Target.of("event_participation"),
+            Target.of("event", new Reference("event_participation", "event_id"))
+    );
+
+    private final SoftDeleteArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Map<String, List<String>> archiveColumns = new ConcurrentHashMap<>();
+
+    public SoftDeletePurgeJob(SoftDeleteArchiveRepository archiveRepository,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${booker.soft-delete.purge.enabled:true}") boolean enabled,
+                              @Value("${booker.soft-delete.purge.retention-days:30}") long retentionDays,
+                              @Value("${booker.soft-delete.purge.batch-size:500}") int batchSize,
+                              @Value("${booker.soft-delete.purge.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(cron = "${booker.soft-delete.purge.cron:0 30 3 * * *}")
+    public void run() {
+        if (enabled) {
+            purge(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * @param now 기준 시각 (now - retention 이전에 삭제 표시된 행이 대상)
+     * @return 테이블별 옮긴 행 수
+     */
+    public Map<String, Integer> purge(LocalDateTime now) {
+        LocalDateTime deletedBefore = now.minus(retention);
+        Map<String, Integer> archived = new LinkedHashMap<>();
+        for (Target target : TARGETS) {
+            long startNanos = System.nanoTime();
+            int moved = purge(target, deletedBefore, now);
+            archived.put(target.table(), moved);
+            if (moved > 0) {
+                log.info("Soft-deleted rows archived - Table: {}, Rows: {}, Elapsed: {}ms",
+                        target.table(), moved, (System.nanoTime() - startNanos) / 1_000_000);
+            }
+        }
+        return archived;
+    }
+
+    private int purge(Target target, LocalDateTime deletedBefore, LocalDateTime now) {
+        List<String> columns = archiveColumns.computeIfAbsent(target.table(), archiveRepository::ensureArchiveTable);
+        Counter counter = Counter.builder("booker.soft-delete.archived")
+                .description("보관 테이블로 옮긴 삭제 표시 행 수")
+                .tag("table", target.table())
+                .register(meterRegistry);
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveRepository.moveToArchive(target.table(), columns,
+                    archiveRepository.lockPurgeCandidates(target, deletedBefore, batchSize), now));
+            int count = moved == null ? 0 : moved;
+            total += count;
+            counter.increment(count);
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
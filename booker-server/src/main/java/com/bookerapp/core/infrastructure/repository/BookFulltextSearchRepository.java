@@ -0,0 +1,115 @@
+package com.bookerapp.core.infrastructure.repository;
+
+import com.bookerapp.core.domain.model.Isbn;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 도서 검색 저장소
+ *
+ * MATCH의 컬럼 목록은 FULLTEXT 인덱스 정의와 정확히 같아야 하므로
+ * 제목, 저자, (제목+저자+출판사) 세 개의 인덱스를 사용한다.
+ * ddl-auto로는 ngram parser 인덱스를 만들 수 없어 {@link #ensureIndexes()}에서 직접 생성한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class BookFulltextSearchRepository {
+
+    private static final String[][] INDEXES = {
+            {"ft_books_title", "title"},
+            {"ft_books_author", "author"},
+            {"ft_books_all", "title, author, publisher"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 누락된 FULLTEXT 인덱스 생성 (ngram_token_size 기본값 2 사용)
+     */
+    public void ensureIndexes() {
+        for (String[] index : INDEXES) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'books' AND index_name = ?",
+                    Integer.class, index[0]);
+            if (count != null && count > 0) {
+                continue;
+            }
+            log.info("Creating fulltext index {} on books({})", index[0], index[1]);
+            jdbcTemplate.execute("CREATE FULLTEXT INDEX " + index[0] + " ON books (" + index[1] + ") WITH PARSER ngram");
+        }
+    }
+
+    /**
+     * 순위가 매겨진 도서 ID 목록 (관련도 내림차순)
+     *
+     * @param limit 최대 결과 수
+     */
+    public List<Long> searchIds(String title, String author, String keyword, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT b.id FROM books b WHERE b.is_deleted = false");
+        StringBuilder score = new StringBuilder("0");
+        List<Object> whereArgs = new ArrayList<>();
+        List<Object> scoreArgs = new ArrayList<>();
+
+        appendMatch(sql, score, whereArgs, scoreArgs, "b.title", title);
+        appendMatch(sql, score, whereArgs, scoreArgs, "b.author", author);
+        if (keyword != null && !keyword.isBlank()) {
+            String expression = toBooleanExpression(keyword);
+            // ISBN이면 ISBN-10/13 어느 형식으로 저장되어 있어도 찾는다
+            List<String> isbns = Isbn.isValid(keyword)
+                    ? Isbn.parse(keyword).lookupKeys()
+                    : List.of(keyword.replace("-", "").trim());
+            sql.append(" AND (MATCH(b.title, b.author, b.publisher) AGAINST (? IN BOOLEAN MODE) OR b.isbn IN (")
+                    .append(String.join(", ", Collections.nCopies(isbns.size(), "?"))).append("))");
+            whereArgs.add(expression);
+            whereArgs.addAll(isbns);
+            score.append(" + MATCH(b.title, b.author, b.publisher) AGAINST (? IN BOOLEAN MODE)");
+            scoreArgs.add(expression);
+        }
+        sql.append(" ORDER BY ").append(score).append(" DESC, b.id ASC LIMIT ?");
+
+        List<Object> args = new ArrayList<>(whereArgs);
+        args.addAll(scoreArgs);
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    private static void appendMatch(StringBuilder sql, StringBuilder score,
+                                    List<Object> whereArgs, List<Object> scoreArgs,
+                                    String column, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        String expression = toBooleanExpression(value);
+        sql.append(" AND MATCH(").append(column).append(") AGAINST (? IN BOOLEAN MODE)");
+        whereArgs.add(expression);
+        score.append(" + MATCH(").append(column).append(") AGAINST (? IN BOOLEAN MODE)");
+        scoreArgs.add(expression);
+    }
+
+    /**
+     * 입력 단어마다 필수(+) 구문 검색으로 변환한다.
+     * ngram parser는 구문을 연속된 n-gram으로 해석하므로 부분 일치처럼 동작한다.
+     * 불리언 연산자 문자는 제거한다.
+     */
+    static String toBooleanExpression(String value) {
+        StringBuilder expression = new StringBuilder();
+        for (String word : value.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (expression.length() > 0) {
+                expression.append(' ');
+            }
+            expression.append("+\"").append(word).append('"');
+        }
+        return expression.toString();
+    }
+}
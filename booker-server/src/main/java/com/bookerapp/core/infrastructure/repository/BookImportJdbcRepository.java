@@ -0,0 +1,74 @@
+package com.bookerapp.core.infrastructure.repository;
+
+import com.bookerapp.core.domain.model.dto.BookImportDto;
+import com.bookerapp.core.domain.model.enums.BookStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도서 일괄 가져오기용 JDBC 배치 저장소
+ *
+ * IDENTITY 전략에서는 Hibernate insert 배치가 동작하지 않으므로 JDBC 배치로 기록한다.
+ * (datasource URL의 rewriteBatchedStatements=true로 MySQL에서는 multi-row INSERT로 전송된다)
+ * 검색 색인 반영을 위해 생성된 키를 함께 돌려받는다. JdbcTemplate.batchUpdate는 키를 노출하지 않아 커넥션을 직접 사용한다.
+ * 위치 정보는 가져오지 않으며 현재 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookImportJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO books " +
+            "(title, author, isbn, publisher, cover_image_url, status, " +
+            "created_at, updated_at, created_by, updated_by, is_deleted, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, 1)";
+
+    private static final String SYSTEM_USER = "system";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 행 목록을 하나의 JDBC 배치로 저장
+     *
+     * @return 생성된 도서 ID (rows와 같은 순서)
+     */
+    public List<Long> batchInsert(List<BookImportDto.Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (BookImportDto.Row row : rows) {
+                    ps.setString(1, row.title());
+                    ps.setString(2, row.author());
+                    ps.setString(3, row.isbn());
+                    ps.setString(4, row.publisher());
+                    ps.setString(5, row.coverImageUrl());
+                    ps.setString(6, BookStatus.AVAILABLE.name());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                    ps.setString(9, SYSTEM_USER);
+                    ps.setString(10, SYSTEM_USER);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+}
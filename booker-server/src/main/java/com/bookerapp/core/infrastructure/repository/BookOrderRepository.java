@@ -4,8 +4,11 @@ import com.bookerapp.core.domain.model.entity.BookOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,4 +17,19 @@ public interface BookOrderRepository extends JpaRepository<BookOrder, Long> {
     Page<BookOrder> findByRequesterIdOrderByCreatedAtDesc(String requesterId, Pageable pageable);
     List<BookOrder> findByStatus(BookOrder.BookOrderStatus status);
     Page<BookOrder> findByStatusOrderByCreatedAtDesc(BookOrder.BookOrderStatus status, Pageable pageable);
+
+    // 키셋 페이지네이션 - (createdAt, id) 내림차순, status가 null이면 전체
+    @Query("SELECT o FROM BookOrder o WHERE (:status IS NULL OR o.status = :status) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<BookOrder> findSliceFirst(@Param("status") BookOrder.BookOrderStatus status, Pageable limit);
+
+    @Query("SELECT o FROM BookOrder o WHERE (:status IS NULL OR o.status = :status) AND " +
+           "(o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<BookOrder> findSliceAfter(@Param("status") BookOrder.BookOrderStatus status,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable limit);
+
+    long countByStatus(BookOrder.BookOrderStatus status);
 }
@@ -0,0 +1,62 @@
+package com.bookerapp.core.infrastructure.repository;
+
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * EventParticipation JDBC 배치 저장소
+ *
+ * IDENTITY 전략에서는 Hibernate insert 배치가 동작하지 않으므로
+ * 대량 저장이 필요한 경로에서는 JdbcTemplate batchUpdate로 한 번에 기록한다.
+ * 현재 트랜잭션의 커넥션을 그대로 사용한다.
+ *
+ * 엔티티 리스너를 거치지 않으므로 감사 컬럼은 엔티티 경로와 같은 값을 직접 채운다.
+ * 작성자는 요청을 받은 시점의 감사자(AuditorAware)를 행마다 넘겨받고, version/is_deleted는 엔티티의 초기값을 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventParticipationJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO event_participation " +
+            "(event_id, participant_id, status, registration_date, waiting_number, " +
+            "created_at, updated_at, created_by, updated_by, is_deleted, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            EventParticipation participation = row.participation();
+            ps.setLong(1, participation.getEvent().getId());
+            ps.setLong(2, participation.getParticipant().getId());
+            ps.setString(3, participation.getStatus().name());
+            ps.setTimestamp(4, Timestamp.valueOf(participation.getRegistrationDate()));
+            if (participation.getWaitingNumber() != null) {
+                ps.setInt(5, participation.getWaitingNumber());
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setString(8, row.auditor());
+            ps.setString(9, row.auditor());
+            ps.setBoolean(10, participation.isDeleted());
+            ps.setLong(11, participation.getVersion());
+        });
+    }
+
+    /**
+     * @param auditor 생성자/수정자로 기록할 감사자 (요청 스레드의 AuditorAware 값)
+     */
+    public record Row(EventParticipation participation, String auditor) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.bookerapp.core.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 연체료 원장 JDBC 저장소
+ *
+ * 적립 대상 OVERDUE 대출을 ID 키셋으로 잠가 조회한 뒤, 원장 행 배치 INSERT → 대출의 적립 합계/기준 시각 UPDATE →
+ * 회원별 잔액 누적을 한 트랜잭션에서 처리한다. 잠근 행만 바꾸므로 같은 연체일을 두 번 적립하지 않는다.
+ * 대출 UPDATE는 버전을 올려 같은 대출을 엔티티로 들고 있는 경로(반납 등)가 이전 적립 합계로 덮어쓰지 못하게 한다.
+ * 삭제 표시 필터가 적용되지 않으므로 is_deleted 조건을 직접 쓴다. 현재 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OverdueFeeJdbcRepository {
+
+    // fee_accrued_through가 없는 행은 연체 전환이 적립 기준 시각을 기록하기 전에 OVERDUE가 된 대출
+    private static final String LOCK_SQL =
+            "SELECT id, member_id, due_date, fee_accrued_through FROM book_loans " +
+            "WHERE is_deleted = false AND status = 'OVERDUE' " +
+            "AND (fee_accrued_through <= ? OR fee_accrued_through IS NULL) AND id > ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String INSERT_ENTRY_SQL =
+            "INSERT INTO overdue_fee_ledger (loan_id, member_id, overdue_day, amount, accrued_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String MARK_ACCRUED_SQL =
+            "UPDATE book_loans SET overdue_fee = overdue_fee + ?, fee_accrued_through = ?, " +
+            "updated_at = ?, updated_by = ?, version = version + 1 WHERE id = ?";
+
+    private static final String ADD_BALANCE_SQL =
+            "UPDATE member_fee_balances SET balance = balance + ?, updated_at = ? WHERE member_id = ?";
+
+    private static final String INSERT_BALANCE_SQL =
+            "INSERT INTO member_fee_balances (member_id, balance, updated_at) VALUES (?, ?, ?)";
+
+    private static final String SYSTEM_USER = "system";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 적립 대상 OVERDUE 대출
+     *
+     * @param accruedThrough 마지막으로 적립한 연체일의 시작 시각 (null이면 아직 적립 전 - 반납 기한부터)
+     */
+    public record AccrualCandidate(long loanId, String memberId, LocalDateTime dueDate, LocalDateTime accruedThrough) {
+    }
+
+    /**
+     * 연체 하루분 원장 행
+     */
+    public record Entry(long loanId, String memberId, int overdueDay, int amount, LocalDateTime accruedAt) {
+    }
+
+    /**
+     * 마지막 적립 후 하루 이상 지난 OVERDUE 대출을 afterId 다음부터 limit개 잠그고 조회
+     *
+     * @param accruedBefore 기준 시각 - 하루 전 (fee_accrued_through가 이 시각 이전이면 적립할 연체일이 있다)
+     */
+    public List<AccrualCandidate> lockAccrualCandidates(LocalDateTime accruedBefore, long afterId, int limit) {
+        return jdbcTemplate.query(LOCK_SQL, (rs, rowNum) -> {
+            Timestamp accruedThrough = rs.getTimestamp("fee_accrued_through");
+            return new AccrualCandidate(
+                    rs.getLong("id"),
+                    rs.getString("member_id"),
+                    rs.getTimestamp("due_date").toLocalDateTime(),
+                    accruedThrough != null ? accruedThrough.toLocalDateTime() : null);
+        }, Timestamp.valueOf(accruedBefore), afterId, limit);
+    }
+
+    public void appendEntries(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            args.add(new Object[]{entry.loanId(), entry.memberId(), entry.overdueDay(), entry.amount(),
+                    Timestamp.valueOf(entry.accruedAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, args);
+    }
+
+    /**
+     * 대출별 적립 결과
+     *
+     * @param amount 이번에 적립한 연체료
+     * @param accruedThrough 마지막으로 적립한 연체일의 시작 시각
+     */
+    public record Accrual(long loanId, int amount, LocalDateTime accruedThrough) {
+    }
+
+    /**
+     * 대출에 적립 합계를 더하고 적립 기준 시각을 옮긴다
+     */
+    public void markAccrued(List<Accrual> accruals, LocalDateTime now) {
+        if (accruals.isEmpty()) {
+            return;
+        }
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(accruals.size());
+        for (Accrual accrual : accruals) {
+            args.add(new Object[]{accrual.amount(), Timestamp.valueOf(accrual.accruedThrough()), updatedAt,
+                    SYSTEM_USER, accrual.loanId()});
+        }
+        jdbcTemplate.batchUpdate(MARK_ACCRUED_SQL, args);
+    }
+
+    /**
+     * 회원별 잔액 누적 - 행이 없으면 만든다. 여러 트랜잭션이 같은 회원들을 갱신해도 교착되지 않도록 회원 ID 순으로 잠근다.
+     */
+    public void addToBalances(Map<String, Long> amounts, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        for (Map.Entry<String, Long> amount : new TreeMap<>(amounts).entrySet()) {
+            if (jdbcTemplate.update(ADD_BALANCE_SQL, amount.getValue(), updatedAt, amount.getKey()) > 0) {
+                continue;
+            }
+            try {
+                jdbcTemplate.update(INSERT_BALANCE_SQL, amount.getKey(), amount.getValue(), updatedAt);
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 먼저 만든 행
+                jdbcTemplate.update(ADD_BALANCE_SQL, amount.getValue(), updatedAt, amount.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.bookerapp.core.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 반납 기한(연체 전환, 반납 예정 알림) JDBC 저장소
+ *
+ * 엔티티를 로딩하지 않고 ID만 키셋(id 오름차순)으로 잠가 조회한 뒤 한 번의 UPDATE로 OVERDUE 전환한다.
+ * 잠근 행만 바꾸므로 같은 트랜잭션 안에서 전환된 ID 목록이 정확하며, 버전을 올려 동시에 수정 중인 엔티티는 낙관적 락 충돌로 감지된다.
+ * 삭제 표시 필터가 적용되지 않으므로 is_deleted 조건을 직접 쓴다. 현재 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OverdueLoanJdbcRepository {
+
+    private static final String LOCK_SQL =
+            "SELECT id FROM book_loans " +
+            "WHERE is_deleted = false AND status = 'ACTIVE' AND due_date < ? AND id > ? " +
+            "ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String ACTIVE_DUE_SQL =
+            "SELECT id, due_date, due_reminder_sent_at FROM book_loans " +
+            "WHERE is_deleted = false AND status = 'ACTIVE' AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String SYSTEM_USER = "system";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * ACTIVE 대출의 반납 기한
+     *
+     * @param reminded 현재 반납 기한에 대한 알림을 이미 보냈는지
+     */
+    public record ActiveLoanDue(long id, LocalDateTime dueDate, boolean reminded) {
+    }
+
+    /**
+     * 반납 기한이 지난 ACTIVE 대출 ID를 afterId 다음부터 limit개 잠그고 조회
+     */
+    public List<Long> lockOverdueIds(LocalDateTime now, long afterId, int limit) {
+        return jdbcTemplate.queryForList(LOCK_SQL, Long.class, Timestamp.valueOf(now), afterId, limit);
+    }
+
+    /**
+     * 주어진 대출 중 반납 기한이 지난 ACTIVE 대출 ID를 잠그고 조회 (다른 노드가 이미 전환/반납했거나 연장한 대출은 빠진다)
+     */
+    public List<Long> lockOverdueIdsIn(List<Long> ids, LocalDateTime now) {
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(now));
+        args.addAll(ids);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM book_loans WHERE is_deleted = false AND status = 'ACTIVE' AND due_date <= ? " +
+                "AND id IN (" + placeholders(ids.size()) + ") ORDER BY id FOR UPDATE",
+                Long.class, args.toArray());
+    }
+
+    /**
+     * OVERDUE 전환 - 반납 기한을 연체료 적립 기준 시각으로 기록한다 (OverdueFeeJdbcRepository)
+     *
+     * @return 전환된 행 수
+     */
+    public int markOverdue(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(Timestamp.valueOf(now));
+        args.add(SYSTEM_USER);
+        args.addAll(ids);
+        return jdbcTemplate.update(
+                "UPDATE book_loans SET status = 'OVERDUE', fee_accrued_through = due_date, " +
+                "updated_at = ?, updated_by = ?, version = version + 1 " +
+                "WHERE status = 'ACTIVE' AND id IN (" + placeholders(ids.size()) + ")",
+                args.toArray());
+    }
+
+    /**
+     * ACTIVE 대출의 반납 기한을 afterId 다음부터 limit개 조회 (타이밍 휠 재구성용 키셋 스캔)
+     */
+    public List<ActiveLoanDue> findActiveDueDates(long afterId, int limit) {
+        return jdbcTemplate.query(ACTIVE_DUE_SQL, (rs, rowNum) -> new ActiveLoanDue(
+                rs.getLong("id"),
+                rs.getTimestamp("due_date").toLocalDateTime(),
+                rs.getTimestamp("due_reminder_sent_at") != null), afterId, limit);
+    }
+
+    /**
+     * 주어진 대출 중 반납 예정 알림 대상(ACTIVE, 반납 기한이 now 이후 dueBefore 이전, 아직 알림 전) ID를 잠그고 조회
+     */
+    public List<Long> lockReminderIdsIn(List<Long> ids, LocalDateTime now, LocalDateTime dueBefore) {
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(Timestamp.valueOf(now));
+        args.add(Timestamp.valueOf(dueBefore));
+        args.addAll(ids);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM book_loans WHERE is_deleted = false AND status = 'ACTIVE' " +
+                "AND due_reminder_sent_at IS NULL AND due_date > ? AND due_date <= ? " +
+                "AND id IN (" + placeholders(ids.size()) + ") ORDER BY id FOR UPDATE",
+                Long.class, args.toArray());
+    }
+
+    /**
+     * 반납 예정 알림 발송 기록 - 알림 여부만 남기므로 버전을 올리지 않는다 (동시에 수정 중인 대출의 반납/연장을 막지 않도록).
+     */
+    public int markReminded(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.valueOf(now));
+        args.addAll(ids);
+        return jdbcTemplate.update(
+                "UPDATE book_loans SET due_reminder_sent_at = ? WHERE id IN (" + placeholders(ids.size()) + ")",
+                args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.bookerapp.core.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 임대(scheduler_lease) JDBC 저장소
+ *
+ * 만료됐거나 내가 가진 임대만 조건부 UPDATE로 가져가고, 행이 없으면 INSERT한다 (동시에 INSERT하면 한쪽만 성공).
+ * 만료 판단은 애플리케이션 시각 기준이므로 노드 간 시계 차이보다 충분히 긴 임대 시간을 쓴다.
+ * 자동 커밋(트랜잭션 밖)으로 호출해 획득 즉시 다른 노드에 보이도록 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRepository {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE scheduler_lease SET owner = ?, lease_until = ? " +
+            "WHERE name = ? AND (lease_until < ? OR owner = ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduler_lease (name, owner, lease_until) VALUES (?, ?, ?)";
+
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_lease SET lease_until = ? WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 임대를 얻었으면 true (다른 노드가 leaseUntil 전까지 가져갈 수 없다)
+     */
+    public boolean tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        if (jdbcTemplate.update(ACQUIRE_SQL, owner, Timestamp.valueOf(leaseUntil), name,
+                Timestamp.valueOf(now), owner) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, Timestamp.valueOf(leaseUntil)) > 0;
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 가지고 있는 임대
+            return false;
+        }
+    }
+
+    /**
+     * 내가 가진 임대의 만료 시각을 holdUntil로 당긴다 (현재 시각이면 즉시 반납)
+     */
+    public void release(String name, String owner, LocalDateTime holdUntil) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(holdUntil), name, owner);
+    }
+}
@@ -0,0 +1,129 @@
+package com.bookerapp.core.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 삭제 표시된 행을 보관 테이블(&lt;table&gt;_archive)로 옮기는 JDBC 저장소
+ *
+ * 보관 테이블은 원본과 같은 컬럼에 archived_at을 더한 형태로 처음 사용할 때 만든다.
+ * 키/인덱스/제약은 복사하지 않으므로 (CREATE TABLE ... AS SELECT) 삭제 후 다시 등록된 ISBN 같은 unique 값도 여러 번 보관할 수 있다.
+ * 원본에 나중에 추가된 컬럼은 보관 테이블에 없으면 옮기지 않는다 (두 테이블에 모두 있는 컬럼만 복사).
+ *
+ * 엔티티를 거치지 않으므로 삭제 표시 필터와 무관하며, 현재 트랜잭션의 커넥션을 그대로 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class SoftDeleteArchiveRepository {
+
+    private static final String ARCHIVE_SUFFIX = "_archive";
+    private static final String ARCHIVED_AT = "archived_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 보관 대상 테이블
+     *
+     * @param table 원본 테이블
+     * @param references 이 테이블의 id를 참조하는 (테이블, 컬럼) - 참조가 남아 있는 행은 옮기지 않는다
+     */
+    public record Target(String table, List<Reference> references) {
+
+        public static Target of(String table, Reference... references) {
+            return new Target(table, List.of(references));
+        }
+    }
+
+    public record Reference(String table, String column) {
+    }
+
+    /**
+     * 보관 테이블이 없으면 만들고, 두 테이블에 공통인 컬럼 목록을 돌려준다.
+     */
+    public List<String> ensureArchiveTable(String table) {
+        String archive = table + ARCHIVE_SUFFIX;
+        if (columnsOf(archive).isEmpty()) {
+            log.info("Creating archive table {}", archive);
+            jdbcTemplate.execute("CREATE TABLE " + archive + " AS SELECT * FROM " + table + " WHERE 1 = 0");
+            jdbcTemplate.execute("ALTER TABLE " + archive + " ADD COLUMN " + ARCHIVED_AT + " TIMESTAMP");
+        }
+        Set<String> archiveColumns = columnsOf(archive);
+        List<String> columns = new ArrayList<>();
+        for (String column : columnsOf(table)) {
+            if (archiveColumns.contains(column)) {
+                columns.add(column);
+            } else {
+                log.warn("Column {}.{} is missing in {}, it will not be archived", table, column, archive);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 보관 대상 행 ID를 잠그고 조회 (삭제 표시 후 updated_at이 deletedBefore 이전인 행, id 순)
+     *
+     * 같은 행을 여러 인스턴스가 동시에 옮기지 않도록 FOR UPDATE로 잠근다.
+     */
+    public List<Long> lockPurgeCandidates(Target target, LocalDateTime deletedBefore, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT t.id FROM ").append(target.table())
+                .append(" t WHERE t.is_deleted = true AND t.updated_at < ?");
+        for (Reference reference : target.references()) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM ").append(reference.table())
+                    .append(" r WHERE r.").append(reference.column()).append(" = t.id)");
+        }
+        sql.append(" ORDER BY t.id LIMIT ? FOR UPDATE");
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, Timestamp.valueOf(deletedBefore), limit);
+    }
+
+    /**
+     * 행을 보관 테이블에 복사한 뒤 원본에서 지운다
+     *
+     * @param columns {@link #ensureArchiveTable(String)}이 돌려준 공통 컬럼
+     * @return 옮긴 행 수
+     */
+    public int moveToArchive(String table, List<String> columns, List<Long> ids, LocalDateTime archivedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String columnList = String.join(", ", columns);
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+
+        List<Object> insertArgs = new ArrayList<>(ids.size() + 1);
+        insertArgs.add(Timestamp.valueOf(archivedAt));
+        insertArgs.addAll(ids);
+        jdbcTemplate.update("INSERT INTO " + table + ARCHIVE_SUFFIX + " (" + columnList + ", " + ARCHIVED_AT + ") " +
+                "SELECT " + columnList + ", ? FROM " + table + " WHERE id IN (" + placeholders + ")",
+                insertArgs.toArray());
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    // 테이블이 없으면 빈 집합 (식별자 대소문자 저장 방식은 DB마다 다르므로 메타데이터 규칙에 맞춰 조회한다)
+    private Set<String> columnsOf(String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            Set<String> columns = new LinkedHashSet<>();
+            try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(), null, name, null)) {
+                while (resultSet.next()) {
+                    columns.add(resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            return columns;
+        });
+    }
+}
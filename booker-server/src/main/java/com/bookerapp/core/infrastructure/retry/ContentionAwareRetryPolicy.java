@@ -0,0 +1,228 @@
+package com.bookerapp.core.infrastructure.retry;
+
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 경합 인지 재시도 정책
+ *
+ * 낙관적 락 기반 참여 신청이 공통으로 사용하는 재시도 정책이다.
+ * - 재시도는 트랜잭션 바깥에서 수행한다. attempt는 매 호출마다 새 트랜잭션을 열고 닫아야 한다.
+ * - 대기 시간은 지터를 적용한 지수 백오프(full jitter)로 계산한다.
+ * - 이벤트별 충돌률을 시간 창 단위로 집계하여 임계값을 넘은 이벤트(hot event)는
+ *   재시도 없이 바로 fallback(대기열/비관적 락 경로)으로 보낸다.
+ *   집계 창은 두 창 길이 동안 쓰이지 않으면 버린다. 그 사이 hot 상태도 끝나고 집계도 초기화될 시점이므로
+ *   버려도 판단이 달라지지 않는다. 추적하는 이벤트 수에도 상한을 둔다.
+ * - 전역 재시도 예산(토큰 버킷)을 두어 예산이 바닥나면 재시도 대신 fallback으로 보낸다.
+ *   성공할 때마다 토큰이 일부 충전되므로 재시도 비율이 성공 요청 대비 일정 수준으로 제한된다.
+ * - 시도마다 처리 시간과 충돌 여부를 {@link ParticipationMetrics}에 기록한다.
+ */
+@Component
+@Slf4j
+public class ContentionAwareRetryPolicy {
+
+    private static final long TOKEN_SCALE = 1000;
+
+    private final MeterRegistry meterRegistry;
+    private final ParticipationMetrics participationMetrics;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final double hotConflictRate;
+    private final int hotMinSamples;
+    private final long windowMillis;
+    private final long maxTokens;
+    private final long tokensPerSuccess;
+
+    private final AtomicLong retryTokens;
+    private final Cache<Long, ConflictWindow> conflictWindows;
+
+    public ContentionAwareRetryPolicy(MeterRegistry meterRegistry,
+                                      ParticipationMetrics participationMetrics,
+                                      @Value("${booker.participation-retry.max-attempts:10}") int maxAttempts,
+                                      @Value("${booker.participation-retry.base-delay-ms:10}") long baseDelayMillis,
+                                      @Value("${booker.participation-retry.max-delay-ms:200}") long maxDelayMillis,
+                                      @Value("${booker.participation-retry.hot-conflict-rate:0.5}") double hotConflictRate,
+                                      @Value("${booker.participation-retry.hot-min-samples:20}") int hotMinSamples,
+                                      @Value("${booker.participation-retry.window-ms:1000}") long windowMillis,
+                                      @Value("${booker.participation-retry.max-tracked-events:10000}") long maxTrackedEvents,
+                                      @Value("${booker.participation-retry.budget.max-tokens:100}") int maxTokens,
+                                      @Value("${booker.participation-retry.budget.token-ratio:0.1}") double tokenRatio) {
+        this.meterRegistry = meterRegistry;
+        this.participationMetrics = participationMetrics;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.hotConflictRate = hotConflictRate;
+        this.hotMinSamples = hotMinSamples;
+        this.windowMillis = windowMillis;
+        this.maxTokens = maxTokens * TOKEN_SCALE;
+        this.tokensPerSuccess = Math.round(tokenRatio * TOKEN_SCALE);
+        this.retryTokens = new AtomicLong(this.maxTokens);
+        this.conflictWindows = Caffeine.newBuilder()
+                .maximumSize(maxTrackedEvents)
+                .expireAfterAccess(Duration.ofMillis(windowMillis * 2))
+                .build();
+
+        meterRegistry.gauge("booker.participation.retry.budget", retryTokens, tokens -> (double) tokens.get() / TOKEN_SCALE);
+    }
+
+    /**
+     * 재시도 정책을 적용하여 작업 실행
+     *
+     * @param strategy 메트릭 태그로 사용할 전략 이름
+     * @param eventId 이벤트 ID
+     * @param attempt 한 번의 시도 (자체 트랜잭션에서 실행되어야 함)
+     * @param fallback hot event이거나 재시도가 허용되지 않을 때 실행할 경로
+     * @return 작업 결과
+     */
+    public <T> T execute(String strategy, Long eventId, Supplier<T> attempt, Supplier<T> fallback) {
+        ConflictWindow window = conflictWindows.get(eventId, id -> new ConflictWindow());
+        String eventBucket = participationMetrics.eventBucket(eventId);
+
+        if (window.isHot(System.currentTimeMillis())) {
+            return runFallback(strategy, eventId, "hot_event", fallback);
+        }
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            long startNanos = System.nanoTime();
+            try {
+                T result = attempt.get();
+                participationMetrics.recordAttempt(strategy, eventId, System.nanoTime() - startNanos, false);
+                window.record(false, System.currentTimeMillis());
+                depositToken();
+                return result;
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                participationMetrics.recordAttempt(strategy, eventId, System.nanoTime() - startNanos, true);
+                meterRegistry.counter("booker.participation.conflict", "strategy", strategy, "event_bucket", eventBucket).increment();
+                if (window.record(true, System.currentTimeMillis())) {
+                    log.warn("Event marked hot - switching to fallback path. EventId: {}, Strategy: {}", eventId, strategy);
+                    return runFallback(strategy, eventId, "hot_event", fallback);
+                }
+                if (attemptNumber >= maxAttempts) {
+                    return runFallback(strategy, eventId, "max_attempts", fallback);
+                }
+                if (!tryAcquireToken()) {
+                    return runFallback(strategy, eventId, "budget_exhausted", fallback);
+                }
+            }
+
+            meterRegistry.counter("booker.participation.retry", "strategy", strategy, "event_bucket", eventBucket).increment();
+            sleep(backoffMillis(attemptNumber));
+        }
+    }
+
+    /**
+     * 지터를 적용한 지수 백오프 대기 시간 계산 (0 ~ min(max, base * 2^(attempt-1)))
+     */
+    long backoffMillis(int attemptNumber) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attemptNumber - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    boolean isHot(Long eventId) {
+        ConflictWindow window = conflictWindows.getIfPresent(eventId);
+        return window != null && window.isHot(System.currentTimeMillis());
+    }
+
+    long trackedEvents() {
+        conflictWindows.cleanUp();
+        return conflictWindows.estimatedSize();
+    }
+
+    double availableTokens() {
+        return (double) retryTokens.get() / TOKEN_SCALE;
+    }
+
+    private <T> T runFallback(String strategy, Long eventId, String reason, Supplier<T> fallback) {
+        log.info("Participation fallback - EventId: {}, Strategy: {}, Reason: {}", eventId, strategy, reason);
+        meterRegistry.counter("booker.participation.fallback", "strategy", strategy,
+                "event_bucket", participationMetrics.eventBucket(eventId), "reason", reason).increment();
+        return fallback.get();
+    }
+
+    private boolean isConflict(RuntimeException e) {
+        return e instanceof OptimisticLockingFailureException || e instanceof OptimisticLockException;
+    }
+
+    private boolean tryAcquireToken() {
+        while (true) {
+            long current = retryTokens.get();
+            if (current < TOKEN_SCALE) {
+                return false;
+            }
+            if (retryTokens.compareAndSet(current, current - TOKEN_SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    private void depositToken() {
+        retryTokens.accumulateAndGet(tokensPerSuccess, (current, delta) -> Math.min(maxTokens, current + delta));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 이벤트별 충돌률 집계 창
+     *
+     * 창 안의 시도가 hotMinSamples 이상이고 충돌률이 임계값 이상이면
+     * 다음 창이 끝날 때까지 hot 상태를 유지한다.
+     */
+    private class ConflictWindow {
+
+        private long windowStart = System.currentTimeMillis();
+        private int attempts;
+        private int conflicts;
+        private volatile long hotUntil;
+
+        boolean isHot(long now) {
+            return now < hotUntil;
+        }
+
+        /**
+         * @return 이번 기록으로 hot 상태가 된 경우 true
+         */
+        synchronized boolean record(boolean conflict, long now) {
+            if (now - windowStart >= windowMillis) {
+                windowStart = now;
+                attempts = 0;
+                conflicts = 0;
+            }
+            attempts++;
+            if (conflict) {
+                conflicts++;
+            }
+            if (attempts >= hotMinSamples && (double) conflicts / attempts >= hotConflictRate) {
+                hotUntil = now + windowMillis;
+                attempts = 0;
+                conflicts = 0;
+                windowStart = now;
+                return true;
+            }
+            return false;
+        }
+    }
+}
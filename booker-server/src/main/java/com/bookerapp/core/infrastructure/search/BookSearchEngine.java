@@ -0,0 +1,201 @@
+package com.bookerapp.core.infrastructure.search;
+
+import com.bookerapp.core.domain.model.dto.BookImportDto;
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.infrastructure.repository.BookFulltextSearchRepository;
+import com.bookerapp.core.infrastructure.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 도서 검색 엔진
+ *
+ * booker.book-search.mode 값에 따라 검색 경로를 고른다.
+ * - index: 인메모리 역색인 ({@link BookSearchIndex}). 기동 시 저장소에서 적재하고 도서 변경은 커밋 후 반영한다.
+ * - fulltext: MySQL FULLTEXT(ngram parser) 인덱스 ({@link BookFulltextSearchRepository}).
+ * - like: 기존 LIKE 쿼리.
+ * 자동완성 트라이({@link BookSuggestTrie})는 모드와 관계없이 항상 유지한다.
+ *
+ * 검색어에 색인 가능한 토큰이 없거나 색인이 아직 준비되지 않았으면 빈 값을 돌려주어 LIKE 경로를 쓰게 한다.
+ */
+@Component
+@Slf4j
+public class BookSearchEngine {
+
+    public enum Mode {
+        INDEX, FULLTEXT, LIKE
+    }
+
+    private final BookRepository bookRepository;
+    private final BookFulltextSearchRepository fulltextSearchRepository;
+    private final BookSearchIndex index = new BookSearchIndex();
+    private final BookSuggestTrie suggestTrie;
+    private final Mode mode;
+    private final int loadChunkSize;
+    private final int fulltextMaxResults;
+    private volatile boolean ready;
+    private volatile boolean suggestReady;
+
+    public BookSearchEngine(BookRepository bookRepository,
+                            BookFulltextSearchRepository fulltextSearchRepository,
+                            @Value("${booker.book-search.mode:index}") String mode,
+                            @Value("${booker.book-search.load-chunk-size:1000}") int loadChunkSize,
+                            @Value("${booker.book-search.fulltext-max-results:1000}") int fulltextMaxResults,
+                            @Value("${booker.book-search.suggest-top-k:10}") int suggestTopK) {
+        this.bookRepository = bookRepository;
+        this.fulltextSearchRepository = fulltextSearchRepository;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.loadChunkSize = loadChunkSize;
+        this.fulltextMaxResults = fulltextMaxResults;
+        this.suggestTrie = new BookSuggestTrie(suggestTopK);
+    }
+
+    /**
+     * 기동 시 자동완성 트라이(모든 모드)와 역색인(index 모드)을 한 번의 적재로 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long startNanos = System.nanoTime();
+        suggestTrie.beginRebuild();
+        if (mode == Mode.INDEX) {
+            index.beginRebuild();
+        }
+
+        List<BookRepository.SearchDocument> documents = loadDocuments();
+        suggestTrie.rebuild(documents);
+        suggestReady = true;
+        if (mode == Mode.INDEX) {
+            index.rebuild(documents);
+            ready = true;
+        }
+        log.info("Book search structures built - Mode: {}, Books: {}, Elapsed: {}ms",
+                mode, documents.size(), (System.nanoTime() - startNanos) / 1_000_000);
+
+        if (mode == Mode.FULLTEXT) {
+            try {
+                fulltextSearchRepository.ensureIndexes();
+                ready = true;
+            } catch (RuntimeException e) {
+                log.warn("Fulltext index unavailable, falling back to LIKE search: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 연관 엔티티를 읽지 않도록 경량 프로젝션을 id 키셋으로 나누어 적재한다
+    private List<BookRepository.SearchDocument> loadDocuments() {
+        List<BookRepository.SearchDocument> documents = new ArrayList<>();
+        long afterId = 0L;
+        List<BookRepository.SearchDocument> chunk;
+        do {
+            chunk = bookRepository.findSearchDocumentsAfter(afterId, PageRequest.of(0, loadChunkSize));
+            documents.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == loadChunkSize);
+        return documents;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 순위가 매겨진 도서 ID 목록
+     *
+     * @return LIKE 경로를 써야 하는 경우 Optional.empty()
+     */
+    public Optional<List<Long>> findRankedIds(String title, String author, String keyword) {
+        if (!ready || !hasQueryTokens(title, author, keyword)) {
+            return Optional.empty();
+        }
+        if (mode == Mode.FULLTEXT) {
+            return Optional.of(fulltextSearchRepository.searchIds(title, author, keyword, fulltextMaxResults));
+        }
+        return Optional.of(index.search(title, author, keyword));
+    }
+
+    /**
+     * 제목/저자 자동완성 후보
+     *
+     * @return 트라이가 아직 준비되지 않았으면 빈 목록
+     */
+    public List<BookSuggestTrie.Suggestion> suggest(String prefix, int limit) {
+        if (!suggestReady) {
+            return List.of();
+        }
+        return suggestTrie.suggest(prefix, limit);
+    }
+
+    /**
+     * 도서 등록/수정 반영 - 트랜잭션 커밋 후에 색인을 갱신한다 (롤백 시 색인이 어긋나지 않도록)
+     */
+    public void onSaved(Book book) {
+        Long id = book.getId();
+        String title = book.getTitle();
+        String author = book.getAuthor();
+        String publisher = book.getPublisher();
+        String isbn = book.getIsbn();
+        TransactionCallbacks.afterCommit(() -> {
+            suggestTrie.upsert(id, title, author);
+            if (mode == Mode.INDEX) {
+                index.upsert(id, title, author, publisher, isbn);
+            }
+        });
+    }
+
+    /**
+     * 일괄 등록 반영 - 엔티티를 거치지 않고 JDBC로 저장된 행을 커밋 후 색인한다.
+     *
+     * @param ids 저장된 도서 ID (rows와 같은 순서)
+     */
+    public void onImported(List<Long> ids, List<BookImportDto.Row> rows) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (int i = 0; i < ids.size(); i++) {
+                BookImportDto.Row row = rows.get(i);
+                suggestTrie.upsert(ids.get(i), row.title(), row.author());
+                if (mode == Mode.INDEX) {
+                    index.upsert(ids.get(i), row.title(), row.author(), row.publisher(), row.isbn());
+                }
+            }
+        });
+    }
+
+    public void onDeleted(Long bookId) {
+        TransactionCallbacks.afterCommit(() -> {
+            suggestTrie.remove(bookId);
+            if (mode == Mode.INDEX) {
+                index.remove(bookId);
+            }
+        });
+    }
+
+
+    /**
+     * 모든 입력이 비어 있거나 기호만 있으면 색인으로 찾을 수 없다.
+     * 입력이 하나라도 있는데 토큰이 없으면 LIKE로 넘긴다.
+     */
+    private static boolean hasQueryTokens(String... values) {
+        boolean any = false;
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            if (KoreanNgramTokenizer.queryTokens(value).isEmpty()) {
+                return false;
+            }
+            any = true;
+        }
+        return any;
+    }
+}
@@ -0,0 +1,314 @@
+package com.bookerapp.core.infrastructure.search;
+
+import com.bookerapp.core.domain.model.Isbn;
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.repository.BookRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 검색용 인메모리 역색인
+ *
+ * 제목/저자/출판사/ISBN을 필드별로 토큰화하여 "필드:토큰 → 도서 ID 집합" 포스팅으로 보관한다.
+ * 질의의 모든 토큰을 포함하는 도서만 후보가 되며, 필드 가중치 × IDF 합으로 순위를 매긴다.
+ * 검색은 ID 목록만 돌려주고 엔티티 조회는 호출 측에서 한 번의 findAllById로 처리한다.
+ *
+ * 읽기가 대부분이므로 ReadWriteLock으로 보호한다 (도서 등록/수정/삭제 시에만 쓰기 락).
+ * 삭제된 도서는 색인에 넣지 않는다. 대출 상태처럼 자주 바뀌는 값은 색인하지 않고 조회 시 DB에서 거른다.
+ */
+public class BookSearchIndex {
+
+    enum Field {
+        TITLE("t:", 3.0),
+        AUTHOR("a:", 2.0),
+        PUBLISHER("p:", 1.0),
+        ISBN("i:", 4.0);
+
+        private final String prefix;
+        private final double weight;
+
+        Field(String prefix, double weight) {
+            this.prefix = prefix;
+            this.weight = weight;
+        }
+    }
+
+    private static final Field[] TEXT_FIELDS = {Field.TITLE, Field.AUTHOR, Field.PUBLISHER};
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, List<String>> documentTerms = new HashMap<>();
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean rebuilding;
+
+    /**
+     * 재구성 시작 표시 - 이후 들어온 변경은 기존 색인에 반영해 두었다가 {@link #rebuild(List)} 교체 시점에 새 색인으로 옮긴다.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            touchedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 문서로 색인을 새로 만들어 교체한다.
+     *
+     * @return 색인된 도서 수
+     */
+    public int rebuild(List<BookRepository.SearchDocument> documents) {
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        Map<Long, List<String>> newDocumentTerms = new HashMap<>();
+
+        for (BookRepository.SearchDocument document : documents) {
+            add(newPostings, newDocumentTerms, document.getId(),
+                    document.getTitle(), document.getAuthor(), document.getPublisher(), document.getIsbn());
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : touchedDuringRebuild) {
+                removeInternal(newPostings, newDocumentTerms, id);
+                List<String> liveTerms = documentTerms.get(id);
+                if (liveTerms != null) {
+                    addTerms(newPostings, newDocumentTerms, id, liveTerms);
+                }
+            }
+            touchedDuringRebuild.clear();
+            rebuilding = false;
+            postings.clear();
+            postings.putAll(newPostings);
+            documentTerms.clear();
+            documentTerms.putAll(newDocumentTerms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return newDocumentTerms.size();
+    }
+
+    /**
+     * 도서 색인 추가/갱신 (기존 항목은 먼저 제거)
+     */
+    public void upsert(Book book) {
+        upsert(book.getId(), book.getTitle(), book.getAuthor(), book.getPublisher(), book.getIsbn());
+    }
+
+    public void upsert(Long id, String title, String author, String publisher, String isbn) {
+        lock.writeLock().lock();
+        try {
+            markTouched(id);
+            removeInternal(postings, documentTerms, id);
+            add(postings, documentTerms, id, title, author, publisher, isbn);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            markTouched(id);
+            removeInternal(postings, documentTerms, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위가 매겨진 도서 ID 목록
+     *
+     * 조건끼리는 AND로 결합한다. title/author는 해당 필드에서만, keyword는 모든 필드에서 찾는다.
+     * keyword가 ISBN 형태(하이픈 제외 숫자/X)이면 ISBN 접두어 일치도 함께 허용한다.
+     *
+     * @param title 제목 검색어 (nullable)
+     * @param author 저자 검색어 (nullable)
+     * @param keyword 통합 검색어 (nullable)
+     * @return 점수 내림차순, 동점이면 ID 오름차순
+     */
+    public List<Long> search(String title, String author, String keyword) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            if (hasText(title)) {
+                scores = intersect(scores, matchAll(KoreanNgramTokenizer.queryTokens(title), Field.TITLE));
+            }
+            if (hasText(author)) {
+                scores = intersect(scores, matchAll(KoreanNgramTokenizer.queryTokens(author), Field.AUTHOR));
+            }
+            if (hasText(keyword)) {
+                Map<Long, Double> keywordScores = matchAll(KoreanNgramTokenizer.queryTokens(keyword), TEXT_FIELDS);
+                String isbn = normalizeIsbn(keyword);
+                if (isbn != null) {
+                    matchAll(Set.of(isbn), Field.ISBN).forEach((id, score) -> keywordScores.merge(id, score, Double::sum));
+                }
+                scores = intersect(scores, keywordScores);
+            }
+            if (scores == null) {
+                return List.of();
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+            List<Long> ids = new ArrayList<>(ranked.size());
+            for (Map.Entry<Long, Double> entry : ranked) {
+                ids.add(entry.getKey());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 토큰이 주어진 필드 중 하나 이상에 존재하는 도서와 점수
+     */
+    private Map<Long, Double> matchAll(Set<String> tokens, Field... fields) {
+        Map<Long, Double> scores = null;
+        int documentCount = Math.max(1, documentTerms.size());
+
+        for (String token : tokens) {
+            Map<Long, Double> tokenScores = new HashMap<>();
+            for (Field field : fields) {
+                Set<Long> ids = postings.get(field.prefix + token);
+                if (ids == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) documentCount / ids.size());
+                for (Long id : ids) {
+                    tokenScores.merge(id, field.weight * idf, Double::sum);
+                }
+            }
+            scores = intersect(scores, tokenScores);
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores == null ? new HashMap<>() : scores;
+    }
+
+    private static Map<Long, Double> intersect(Map<Long, Double> accumulated, Map<Long, Double> next) {
+        if (accumulated == null) {
+            return next;
+        }
+        Map<Long, Double> result = new HashMap<>();
+        Map<Long, Double> smaller = accumulated.size() <= next.size() ? accumulated : next;
+        Map<Long, Double> larger = smaller == accumulated ? next : accumulated;
+        smaller.forEach((id, score) -> {
+            Double other = larger.get(id);
+            if (other != null) {
+                result.put(id, score + other);
+            }
+        });
+        return result;
+    }
+
+    private static void add(Map<String, Set<Long>> postings, Map<Long, List<String>> documentTerms,
+                            Long id, String title, String author, String publisher, String isbn) {
+        Set<String> terms = new HashSet<>();
+        addFieldTerms(terms, Field.TITLE, KoreanNgramTokenizer.indexTokens(title));
+        addFieldTerms(terms, Field.AUTHOR, KoreanNgramTokenizer.indexTokens(author));
+        addFieldTerms(terms, Field.PUBLISHER, KoreanNgramTokenizer.indexTokens(publisher));
+        String normalizedIsbn = normalizeIsbn(isbn);
+        if (normalizedIsbn != null) {
+            for (int end = 3; end <= normalizedIsbn.length(); end++) {
+                terms.add(Field.ISBN.prefix + normalizedIsbn.substring(0, end));
+            }
+            // 같은 책의 다른 형식(ISBN-10 ↔ ISBN-13) 전체 값으로도 찾을 수 있게 한다
+            if (Isbn.isValid(normalizedIsbn)) {
+                for (String key : Isbn.parse(normalizedIsbn).lookupKeys()) {
+                    terms.add(Field.ISBN.prefix + key.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        addTerms(postings, documentTerms, id, terms);
+    }
+
+    private static void addTerms(Map<String, Set<Long>> postings, Map<Long, List<String>> documentTerms,
+                                 Long id, Collection<String> terms) {
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(id);
+        }
+        documentTerms.put(id, new ArrayList<>(terms));
+    }
+
+    private static void addFieldTerms(Set<String> terms, Field field, Set<String> tokens) {
+        for (String token : tokens) {
+            terms.add(field.prefix + token);
+        }
+    }
+
+    private void markTouched(Long id) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(id);
+        }
+    }
+
+    private static void removeInternal(Map<String, Set<Long>> postings, Map<Long, List<String>> documentTerms,
+                                       Long id) {
+        List<String> terms = documentTerms.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * ISBN 비교용 정규화 - 하이픈/공백을 제거하고 숫자와 X만 남은 경우에만 ISBN으로 본다.
+     */
+    static String normalizeIsbn(String value) {
+        if (value == null) {
+            return null;
+        }
+        // 검색어마다 호출되므로 정규식 없이 한 번 훑으며 검사와 구분자 제거를 같이 한다
+        StringBuilder stripped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            if (c == 'X' || c == 'x') {
+                stripped.append('x');
+            } else if (c >= '0' && c <= '9') {
+                stripped.append(c);
+            } else {
+                return null;
+            }
+        }
+        return stripped.length() < 3 ? null : stripped.toString();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,315 @@
+package com.bookerapp.core.infrastructure.search;
+
+import com.bookerapp.core.domain.repository.BookRepository;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 제목/저자 자동완성용 트라이
+ *
+ * 제목과 저자 문구를 정규화(NFKC, 소문자)하여 문자 단위 트라이에 넣는다.
+ * 문구 중간 단어로도 찾을 수 있도록 각 단어 시작 위치부터의 접미어도 함께 넣는다 ('코드' → '클린 코드').
+ *
+ * 각 노드는 하위 트리의 상위 k개 후보를 미리 계산해 두므로 조회는 접두어 길이만큼 내려간 뒤 목록을 복사하는 것으로 끝난다.
+ * 후보 순위는 해당 문구를 가진 도서 수 내림차순, 짧은 문구, 사전순이다.
+ * 변경 시에는 영향받는 경로의 노드만 아래에서 위로 다시 계산한다.
+ */
+public class BookSuggestTrie {
+
+    public enum Type {
+        TITLE, AUTHOR
+    }
+
+    /**
+     * 자동완성 후보
+     *
+     * @param text 표시용 원문 (처음 등록된 표기)
+     * @param type 제목/저자 구분
+     * @param bookCount 해당 문구를 가진 도서 수
+     */
+    public record Suggestion(String text, Type type, int bookCount) {
+    }
+
+    private static final Comparator<Phrase> RANKING = Comparator
+            .comparingInt((Phrase phrase) -> phrase.bookCount).reversed()
+            .thenComparingInt(phrase -> phrase.normalized.length())
+            .thenComparing(phrase -> phrase.normalized)
+            .thenComparing(phrase -> phrase.type);
+
+    private final int topK;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> touchedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private State state = new State();
+
+    public BookSuggestTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 재구성 시작 표시 - 이후 들어온 변경은 {@link #rebuild(List)} 교체 시점에 새 트라이로 옮긴다.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            touchedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(List<BookRepository.SearchDocument> documents) {
+        State rebuilt = new State();
+        for (BookRepository.SearchDocument document : documents) {
+            rebuilt.add(document.getId(), document.getTitle(), document.getAuthor(), topK, false);
+        }
+        rebuilt.computeAll(rebuilt.root, topK);
+
+        lock.writeLock().lock();
+        try {
+            for (Long id : touchedDuringRebuild) {
+                rebuilt.remove(id, topK);
+                String[] live = state.books.get(id);
+                if (live != null) {
+                    rebuilt.add(id, live[0], live[1], topK, true);
+                }
+            }
+            touchedDuringRebuild.clear();
+            rebuilding = false;
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Long id, String title, String author) {
+        lock.writeLock().lock();
+        try {
+            markTouched(id);
+            state.remove(id, topK);
+            state.add(id, title, author, topK, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            markTouched(id);
+            state.remove(id, topK);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 상위 후보
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 개수 (생성 시 지정한 k를 넘지 않음)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = state.root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (Phrase phrase : node.top) {
+                if (suggestions.size() == limit) {
+                    break;
+                }
+                suggestions.add(new Suggestion(phrase.text, phrase.type, phrase.bookCount));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markTouched(Long id) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(id);
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final Set<Phrase> terminals = new HashSet<>(2);
+        private List<Phrase> top = List.of();
+    }
+
+    private static final class Phrase {
+        private final String text;
+        private final String normalized;
+        private final Type type;
+        private int bookCount;
+
+        private Phrase(String text, String normalized, Type type) {
+            this.text = text;
+            this.normalized = normalized;
+            this.type = type;
+        }
+    }
+
+    /**
+     * 교체 단위 - 재구성 시 통째로 바꾼다.
+     */
+    private static final class State {
+        private final Node root = new Node();
+        private final Map<String, Phrase> phrases = new HashMap<>();
+        private final Map<Long, String[]> books = new HashMap<>();
+
+        /**
+         * @param refresh false면 상위 후보 계산을 미루고 적재 후 {@link #computeAll}로 한 번에 계산한다 (재구성용)
+         */
+        void add(Long id, String title, String author, int topK, boolean refresh) {
+            books.put(id, new String[]{title, author});
+            addPhrase(title, Type.TITLE, topK, refresh);
+            addPhrase(author, Type.AUTHOR, topK, refresh);
+        }
+
+        void remove(Long id, int topK) {
+            String[] previous = books.remove(id);
+            if (previous == null) {
+                return;
+            }
+            removePhrase(previous[0], Type.TITLE, topK);
+            removePhrase(previous[1], Type.AUTHOR, topK);
+        }
+
+        private void addPhrase(String text, Type type, int topK, boolean refresh) {
+            String normalized = normalize(text);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            Phrase phrase = phrases.get(type + ":" + normalized);
+            if (phrase == null) {
+                phrase = new Phrase(text.trim(), normalized, type);
+                phrases.put(type + ":" + normalized, phrase);
+                for (String key : keysOf(normalized)) {
+                    Node node = root;
+                    for (int i = 0; i < key.length(); i++) {
+                        node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                    }
+                    node.terminals.add(phrase);
+                }
+            }
+            phrase.bookCount++;
+            if (refresh) {
+                refresh(phrase, topK);
+            }
+        }
+
+        private void removePhrase(String text, Type type, int topK) {
+            String normalized = normalize(text);
+            Phrase phrase = phrases.get(type + ":" + normalized);
+            if (phrase == null) {
+                return;
+            }
+            phrase.bookCount--;
+            if (phrase.bookCount == 0) {
+                phrases.remove(type + ":" + normalized);
+                for (String key : keysOf(normalized)) {
+                    pathOf(key).get(key.length()).terminals.remove(phrase);
+                }
+            }
+            refresh(phrase, topK);
+        }
+
+        /**
+         * 문구가 걸린 모든 경로의 상위 후보를 아래에서 위로 다시 계산하고 빈 노드는 정리한다.
+         * 빈 접두어로는 조회하지 않으므로 루트는 계산하지 않는다 (자식이 가장 많아 비용이 크다).
+         */
+        private void refresh(Phrase phrase, int topK) {
+            for (String key : keysOf(phrase.normalized)) {
+                List<Node> path = pathOf(key);
+                for (int depth = path.size() - 1; depth >= 1; depth--) {
+                    Node node = path.get(depth);
+                    node.top = computeTop(node, topK);
+                    if (node.top.isEmpty() && node.children.isEmpty()) {
+                        path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                    }
+                }
+            }
+        }
+
+        void computeAll(Node node, int topK) {
+            for (Node child : node.children.values()) {
+                computeAll(child, topK);
+            }
+            if (node != root) {
+                node.top = computeTop(node, topK);
+            }
+        }
+
+        private List<Node> pathOf(String key) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+                if (node != null) {
+                    path.add(node);
+                }
+            }
+            return path;
+        }
+
+        private static List<Phrase> computeTop(Node node, int topK) {
+            Set<Phrase> candidates = new HashSet<>(node.terminals);
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.top);
+            }
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+            List<Phrase> sorted = new ArrayList<>(candidates);
+            sorted.sort(RANKING);
+            return sorted.size() > topK ? List.copyOf(sorted.subList(0, topK)) : List.copyOf(sorted);
+        }
+
+        /**
+         * 문구 전체와 각 단어 시작 위치부터의 접미어
+         */
+        private static Set<String> keysOf(String normalized) {
+            Set<String> keys = new HashSet<>();
+            keys.add(normalized);
+            for (int i = 1; i < normalized.length(); i++) {
+                if (normalized.charAt(i - 1) == ' ' && normalized.charAt(i) != ' ') {
+                    keys.add(normalized.substring(i));
+                }
+            }
+            return keys;
+        }
+    }
+}
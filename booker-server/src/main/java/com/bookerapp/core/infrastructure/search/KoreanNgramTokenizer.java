@@ -0,0 +1,120 @@
+package com.bookerapp.core.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 도서 검색용 토크나이저
+ *
+ * 한글(및 기타 CJK)은 형태소 분석 없이 음절 n-gram으로 나눈다.
+ * 색인 시에는 1-gram과 2-gram을 모두 만들고, 질의 시에는 2글자 이상이면 2-gram, 1글자면 1-gram을 사용한다.
+ * 영문/숫자 단어는 소문자로 바꾼 뒤 접두어(2글자 이상)로 색인하여 'Mart' 같은 부분 입력도 'Martin'에 일치한다.
+ * 'JPA프로그래밍'처럼 문자 체계가 섞인 단어는 체계가 바뀌는 지점에서 나눈다.
+ * 띄어쓰기가 제각각인 한글 입력을 위해 공백을 사이에 둔 한글 음절끼리도 2-gram을 색인한다.
+ */
+public final class KoreanNgramTokenizer {
+
+    static final int MAX_PREFIX_LENGTH = 20;
+
+    private KoreanNgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰
+     */
+    public static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        Run previous = null;
+        for (Run run : runs(text)) {
+            if (run.cjk) {
+                if (previous != null && previous.cjk) {
+                    // 띄어쓰기를 붙여 쓴 질의('클린코드')도 '클린 코드'에 일치하도록 경계 2-gram을 추가
+                    tokens.add(previous.text.substring(previous.text.length() - 1) + run.text.charAt(0));
+                }
+                for (int i = 0; i < run.text.length(); i++) {
+                    tokens.add(run.text.substring(i, i + 1));
+                    if (i + 2 <= run.text.length()) {
+                        tokens.add(run.text.substring(i, i + 2));
+                    }
+                }
+            } else {
+                int max = Math.min(run.text.length(), MAX_PREFIX_LENGTH);
+                for (int end = Math.min(2, max); end <= max; end++) {
+                    tokens.add(run.text.substring(0, end));
+                }
+            }
+            previous = run;
+        }
+        return tokens;
+    }
+
+    /**
+     * 질의용 토큰 - 모든 토큰이 일치해야 검색 결과에 포함된다.
+     */
+    public static Set<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (Run run : runs(text)) {
+            if (run.cjk) {
+                if (run.text.length() == 1) {
+                    tokens.add(run.text);
+                }
+                for (int i = 0; i + 2 <= run.text.length(); i++) {
+                    tokens.add(run.text.substring(i, i + 2));
+                }
+            } else {
+                tokens.add(run.text.length() > MAX_PREFIX_LENGTH
+                        ? run.text.substring(0, MAX_PREFIX_LENGTH)
+                        : run.text);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<Run> runs(String text) {
+        List<Run> runs = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder current = new StringBuilder();
+        boolean currentCjk = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                flush(runs, current, currentCjk);
+                continue;
+            }
+            boolean cjk = isCjk(c);
+            if (current.length() > 0 && cjk != currentCjk) {
+                flush(runs, current, currentCjk);
+            }
+            current.append(c);
+            currentCjk = cjk;
+        }
+        flush(runs, current, currentCjk);
+        return runs;
+    }
+
+    private static void flush(List<Run> runs, StringBuilder current, boolean cjk) {
+        if (current.length() > 0) {
+            runs.add(new Run(current.toString(), cjk));
+            current.setLength(0);
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private record Run(String text, boolean cjk) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.bookerapp.core.infrastructure.stats;
+
+import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.model.entity.BookLocation;
+import com.bookerapp.core.domain.model.enums.BookStatus;
+import com.bookerapp.core.domain.model.enums.Floor;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import com.bookerapp.core.domain.repository.BookLoanRepository;
+import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 도서/대출 현황 집계 (인메모리 카운터)
+ *
+ * 대시보드가 주기적으로 조회하는 상태별/층별 도서 수와 대출/대기 건수를 매번 COUNT 쿼리로 구하지 않고
+ * 엔티티 변경 이벤트({@link CatalogStatisticsListener})로 증감해 두었다가 그대로 돌려준다.
+ * 증감은 트랜잭션 커밋 후에 반영하므로 롤백된 변경은 집계되지 않는다.
+ *
+ * 엔티티 콜백을 거치지 않는 변경(JDBC 일괄 등록과 벌크 UPDATE는 {@link #booksImported(int)}, {@link #loansChanged}로 반영, 위치 객체의 층만 바꾸는 경우)이나
+ * 집계와 동시에 커밋된 변경으로 생기는 오차는 기동 시와 주기적인 재집계({@link CatalogStatisticsReconciler})로 DB 값에 맞춘다.
+ * 엔티티 리스너가 주입받으므로 저장소 빈에 의존하지 않는다 (EntityManagerFactory 생성 중 순환 참조).
+ *
+ * 메트릭: booker.catalog.stats.reconcile.drift (재집계 시 보정된 차이의 합)
+ */
+@Component
+public class CatalogStatistics {
+
+    private static final BookStatus[] BOOK_STATUSES = BookStatus.values();
+    private static final LoanStatus[] LOAN_STATUSES = LoanStatus.values();
+    private static final Floor[] FLOORS = Floor.values();
+    // 위치가 없는 도서는 마지막 열에 모은다
+    private static final int FLOOR_COLUMNS = FLOORS.length + 1;
+    private static final int NO_CELL = -1;
+
+    private final Counter driftCounter;
+
+    // [상태 × (층 + 위치 없음)] 도서 수
+    private final AtomicLongArray books = new AtomicLongArray(BOOK_STATUSES.length * FLOOR_COLUMNS);
+    private final AtomicLongArray loans = new AtomicLongArray(LOAN_STATUSES.length);
+    private volatile LocalDateTime reconciledAt;
+    private volatile long lastDrift;
+
+    public CatalogStatistics(MeterRegistry meterRegistry) {
+        this.driftCounter = Counter.builder("booker.catalog.stats.reconcile.drift")
+                .description("재집계 시 인메모리 카운터와 DB 집계의 차이 (절댓값 합)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 도서 집계에 반영된 상태 - 상태, 위치, 삭제 여부가 같으면 같은 칸에 집계된다.
+     * 위치는 객체로 보관하고 층은 집계 시점에 읽는다 (로딩 콜백에서 연관 엔티티를 읽지 않도록).
+     */
+    public record BookState(BookStatus status, BookLocation location, boolean deleted) {
+
+        public static BookState of(Book book) {
+            return new BookState(book.getStatus(), book.getLocation(), book.isDeleted());
+        }
+    }
+
+    /**
+     * 도서 상태 변경 반영 (커밋 후)
+     *
+     * @param before 변경 전 상태 (새로 등록된 경우 null)
+     * @param after 변경 후 상태 (삭제된 경우 null)
+     */
+    public void bookChanged(BookState before, BookState after) {
+        int from = cellOf(before);
+        int to = cellOf(after);
+        if (from == to) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            if (from != NO_CELL) {
+                books.decrementAndGet(from);
+            }
+            if (to != NO_CELL) {
+                books.incrementAndGet(to);
+            }
+        });
+    }
+
+    /**
+     * 대출 상태 변경 반영 (커밋 후)
+     *
+     * @param before 변경 전 상태 (새로 생성된 경우 null)
+     * @param after 변경 후 상태 (삭제된 경우 null)
+     */
+    public void loanChanged(LoanStatus before, LoanStatus after) {
+        if (before == after) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            if (before != null) {
+                loans.decrementAndGet(before.ordinal());
+            }
+            if (after != null) {
+                loans.incrementAndGet(after.ordinal());
+            }
+        });
+    }
+
+    /**
+     * 벌크 UPDATE로 바뀐 대출 상태 반영 (커밋 후)
+     */
+    public void loansChanged(LoanStatus before, LoanStatus after, int count) {
+        if (before == after || count == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            loans.addAndGet(before.ordinal(), -count);
+            loans.addAndGet(after.ordinal(), count);
+        });
+    }
+
+    /**
+     * JDBC 일괄 등록 반영 (커밋 후) - 가져온 도서는 위치 없이 AVAILABLE 상태로 저장된다.
+     */
+    public void booksImported(int count) {
+        int cell = cell(BookStatus.AVAILABLE, null);
+        TransactionCallbacks.afterCommit(() -> books.addAndGet(cell, count));
+    }
+
+    public BookDto.StatsResponse snapshot() {
+        Map<BookStatus, Long> byStatus = new EnumMap<>(BookStatus.class);
+        Map<Floor, Long> byFloor = new EnumMap<>(Floor.class);
+        for (Floor floor : FLOORS) {
+            byFloor.put(floor, 0L);
+        }
+        long withoutLocation = 0;
+        for (BookStatus status : BOOK_STATUSES) {
+            long statusTotal = 0;
+            for (int column = 0; column < FLOOR_COLUMNS; column++) {
+                long count = books.get(status.ordinal() * FLOOR_COLUMNS + column);
+                statusTotal += count;
+                if (column < FLOORS.length) {
+                    byFloor.merge(FLOORS[column], count, Long::sum);
+                } else {
+                    withoutLocation += count;
+                }
+            }
+            byStatus.put(status, statusTotal);
+        }
+        Map<LoanStatus, Long> loansByStatus = new EnumMap<>(LoanStatus.class);
+        for (LoanStatus status : LOAN_STATUSES) {
+            loansByStatus.put(status, loans.get(status.ordinal()));
+        }
+        return BookDto.StatsResponse.of(byStatus, byFloor, withoutLocation, loansByStatus, reconciledAt, lastDrift);
+    }
+
+    /**
+     * 재집계 결과로 카운터를 바꾼다
+     *
+     * @param bookCounts 상태 × 층별 도서 수
+     * @param loanCounts 상태별 대출 건수
+     * @return 기존 카운터와의 차이 (절댓값 합)
+     */
+    public long reconcile(List<BookRepository.StatusFloorCount> bookCounts, List<BookLoanRepository.StatusCount> loanCounts) {
+        long[] bookValues = new long[books.length()];
+        for (BookRepository.StatusFloorCount row : bookCounts) {
+            bookValues[cell(row.getStatus(), row.getFloor())] += row.getCount();
+        }
+        long[] loanValues = new long[loans.length()];
+        for (BookLoanRepository.StatusCount row : loanCounts) {
+            loanValues[row.getStatus().ordinal()] += row.getCount();
+        }
+
+        long drift = replace(books, bookValues) + replace(loans, loanValues);
+        driftCounter.increment(drift);
+        lastDrift = drift;
+        reconciledAt = LocalDateTime.now();
+        return drift;
+    }
+
+    private static long replace(AtomicLongArray counters, long[] values) {
+        long drift = 0;
+        for (int i = 0; i < values.length; i++) {
+            drift += Math.abs(counters.getAndSet(i, values[i]) - values[i]);
+        }
+        return drift;
+    }
+
+    // 삭제 표시된 도서는 집계하지 않는다
+    private static int cellOf(BookState state) {
+        if (state == null || state.deleted()) {
+            return NO_CELL;
+        }
+        BookLocation location = state.location();
+        return cell(state.status(), location == null ? null : location.getFloor());
+    }
+
+    private static int cell(BookStatus status, Floor floor) {
+        return status.ordinal() * FLOOR_COLUMNS + (floor == null ? FLOORS.length : floor.ordinal());
+    }
+}
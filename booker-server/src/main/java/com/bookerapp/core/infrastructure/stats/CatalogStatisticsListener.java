@@ -0,0 +1,54 @@
+package com.bookerapp.core.infrastructure.stats;
+
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서/대출 엔티티 변경을 현황 집계({@link CatalogStatistics})에 반영
+ *
+ * 로딩/저장 시점의 상태를 엔티티에 기록해 두고, 수정 시 기록과 비교해 바뀐 경우에만 이전 칸을 빼고 새 칸을 더한다.
+ * Book.updateStatus, BookLoan.processLoan/processReturn 등 도메인 메서드로 바뀐 상태도 flush 시점에 여기로 들어온다.
+ * Hibernate가 SpringBeanContainer로 생성하므로 생성자 주입을 받는다.
+ */
+@RequiredArgsConstructor
+public class CatalogStatisticsListener {
+
+    private final CatalogStatistics catalogStatistics;
+
+    @PostLoad
+    public void onLoaded(Object entity) {
+        if (entity instanceof Book book) {
+            book.markCounted(CatalogStatistics.BookState.of(book));
+        } else if (entity instanceof BookLoan loan) {
+            loan.markCounted(loan.getStatus());
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof Book book) {
+            CatalogStatistics.BookState state = CatalogStatistics.BookState.of(book);
+            catalogStatistics.bookChanged(book.getCountedState(), state);
+            book.markCounted(state);
+        } else if (entity instanceof BookLoan loan) {
+            catalogStatistics.loanChanged(loan.getCountedStatus(), loan.getStatus());
+            loan.markCounted(loan.getStatus());
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Book book) {
+            CatalogStatistics.BookState counted = book.getCountedState();
+            catalogStatistics.bookChanged(counted != null ? counted : CatalogStatistics.BookState.of(book), null);
+        } else if (entity instanceof BookLoan loan) {
+            catalogStatistics.loanChanged(loan.getCountedStatus() != null ? loan.getCountedStatus() : loan.getStatus(), null);
+        }
+    }
+}
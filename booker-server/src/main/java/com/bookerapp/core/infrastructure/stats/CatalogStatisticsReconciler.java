@@ -0,0 +1,39 @@
+package com.bookerapp.core.infrastructure.stats;
+
+import com.bookerapp.core.domain.repository.BookLoanRepository;
+import com.bookerapp.core.domain.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현황 집계 재집계
+ *
+ * 기동 시 1회, 이후 booker.catalog-stats.reconcile-interval-ms 주기로 GROUP BY 쿼리 두 번을 실행해
+ * {@link CatalogStatistics} 카운터를 DB 값으로 바꾼다.
+ * 쿼리 도중 커밋된 변경의 커밋 후 반영과 겹치면 다음 재집계까지 오차가 남을 수 있다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogStatisticsReconciler {
+
+    private final BookRepository bookRepository;
+    private final BookLoanRepository bookLoanRepository;
+    private final CatalogStatistics catalogStatistics;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${booker.catalog-stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${booker.catalog-stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long startNanos = System.nanoTime();
+        long drift = catalogStatistics.reconcile(
+                bookRepository.countGroupByStatusAndFloor(),
+                bookLoanRepository.countGroupByStatus());
+        log.info("Catalog statistics reconciled - Drift: {}, Elapsed: {}ms",
+                drift, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookerapp.core.infrastructure.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점 콜백
+ *
+ * 캐시, 인덱스, 통계처럼 DB 바깥의 메모리 상태는 커밋된 변경만 반영해야 하고,
+ * 먼저 반영해 둔 메모리 상태는 롤백되면 되돌려야 한다.
+ * 트랜잭션 동기화가 없는 호출(테스트, 배치 적재 등)에서 어떻게 동작하는지는 메서드마다 다르다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 커밋 후 실행
+     * 트랜잭션 동기화가 없으면 반영할 커밋을 기다릴 수 없으므로 바로 실행한다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 커밋되지 않고 끝나면 실행
+     * 트랜잭션 동기화가 없으면 되돌릴 트랜잭션도 없으므로 실행하지 않는다.
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookerapp.core.infrastructure.waitlist;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반납된 도서가 대기자에게 인계됨 (보관 시작 커밋 후 발행)
+ *
+ * @param loanId WAITING → PENDING으로 전환된 대출 ID
+ * @param memberId 대기자 회원 ID
+ * @param bookId 보관 중인 도서 ID
+ * @param holdExpiresAt 수령 기한 (지나면 다음 대기자에게 인계)
+ */
+public record LoanHoldStartedEvent(long loanId, String memberId, long bookId, LocalDateTime holdExpiresAt) {
+}
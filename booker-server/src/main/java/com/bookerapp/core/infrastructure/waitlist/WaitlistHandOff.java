@@ -0,0 +1,180 @@
+package com.bookerapp.core.infrastructure.waitlist;
+
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.domain.model.enums.BookStatus;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import com.bookerapp.core.domain.repository.BookLoanRepository;
+import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 반납 도서의 대기자 인계
+ *
+ * 대기자가 있는 도서가 반납되면 반납 트랜잭션은 도서를 RESERVED로만 바꾸고({@link #handOffAfterCommit}),
+ * 커밋 후 별도 스레드에서 대기열 맨 앞 WAITING 대출 한 건을 PENDING(보관 중, 수령 기한 hold-hours)으로 전환한다.
+ * 수령 기한이 지난 보관은 check-interval-ms마다 취소(CANCELLED)하고 다음 대기자에게 넘기며, 대기자가 없으면 도서를 AVAILABLE로 돌린다.
+ *
+ * 인계와 만료는 도서 행을 잠근 트랜잭션에서 처리하므로 여러 노드가 같은 도서를 동시에 처리해도 보관은 한 건만 생긴다.
+ * 인계 작업이 실패했거나 반납과 대기 신청이 엇갈려 대기자만 남은 도서는 만료 점검 때 다시 인계한다.
+ * 엔티티로 변경하므로 캐시 무효화/현황 집계는 엔티티 리스너가 반영한다.
+ *
+ * 메트릭: booker.loan.hold.started (보관 시작 건수), booker.loan.hold.expired (수령 기한 만료 건수)
+ */
+@Component
+@Slf4j
+public class WaitlistHandOff {
+
+    private final BookLoanRepository bookLoanRepository;
+    private final BookRepository bookRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration holdDuration;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final Counter startedCounter;
+    private final Counter expiredCounter;
+
+    public WaitlistHandOff(BookLoanRepository bookLoanRepository,
+                           BookRepository bookRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${booker.loan-hold.enabled:true}") boolean enabled,
+                           @Value("${booker.loan-hold.hold-hours:72}") long holdHours,
+                           @Value("${booker.loan-hold.batch-size:100}") int batchSize,
+                           @Value("${booker.loan-hold.workers:2}") int workers) {
+        this.bookLoanRepository = bookLoanRepository;
+        this.bookRepository = bookRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.holdDuration = Duration.ofHours(holdHours);
+        this.batchSize = batchSize;
+        this.executor = Executors.newFixedThreadPool(workers);
+        this.startedCounter = Counter.builder("booker.loan.hold.started")
+                .description("대기자에게 인계되어 보관을 시작한 대출 수")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("booker.loan.hold.expired")
+                .description("수령 기한이 지나 취소된 보관 대출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 도서를 대기열 맨 앞 대기자에게 인계 (비동기, 롤백되면 실행하지 않는다)
+     */
+    public void handOffAfterCommit(Long bookId) {
+        TransactionCallbacks.afterCommit(() -> executor.execute(() -> handOff(bookId)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 도서 인계 - 이미 보관 중인 대출이 있거나 대출 중인 도서면 아무것도 하지 않는다.
+     */
+    void handOff(Long bookId) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            publish(transactionTemplate.execute(status -> bookRepository.findWithPessimisticLockById(bookId)
+                    .map(book -> promoteHead(book, now))
+                    .orElse(null)));
+        } catch (RuntimeException e) {
+            log.error("Waitlist hand-off failed - Book: {}", bookId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booker.loan-hold.check-interval-ms:60000}")
+    public void expireHolds() {
+        if (!enabled) {
+            return;
+        }
+        expireHolds(LocalDateTime.now());
+        for (Long bookId : bookLoanRepository.findBookIdsAwaitingHandOff(PageRequest.of(0, batchSize))) {
+            handOff(bookId);
+        }
+    }
+
+    void expireHolds(LocalDateTime now) {
+        long afterId = 0;
+        while (true) {
+            List<BookLoanRepository.HoldExpiry> expired =
+                    bookLoanRepository.findExpiredHolds(now, afterId, PageRequest.of(0, batchSize));
+            for (BookLoanRepository.HoldExpiry expiry : expired) {
+                expireHold(expiry, now);
+            }
+            if (expired.size() < batchSize) {
+                return;
+            }
+            afterId = expired.get(expired.size() - 1).getLoanId();
+        }
+    }
+
+    private void expireHold(BookLoanRepository.HoldExpiry expiry, LocalDateTime now) {
+        try {
+            publish(transactionTemplate.execute(status -> {
+                // 도서를 먼저 잠가 같은 도서의 인계와 겹치지 않게 한 뒤 대출 상태를 다시 확인한다 (그사이 수령했으면 건너뜀)
+                Optional<Book> book = bookRepository.findWithPessimisticLockById(expiry.getBookId());
+                Optional<BookLoan> loan = bookLoanRepository.findById(expiry.getLoanId())
+                        .filter(held -> held.isHoldExpired(now));
+                if (loan.isEmpty()) {
+                    return null;
+                }
+                loan.get().expireHold();
+                TransactionCallbacks.afterCommit(expiredCounter::increment);
+                return book.map(held -> promoteHead(held, now)).orElse(null);
+            }));
+        } catch (RuntimeException e) {
+            log.error("Loan hold expiry failed - Loan: {}, Book: {}", expiry.getLoanId(), expiry.getBookId(), e);
+        }
+    }
+
+    // 도서 행을 잠근 트랜잭션 안에서 호출 - 대기열 맨 앞 한 건만 읽는다
+    private LoanHoldStartedEvent promoteHead(Book book, LocalDateTime now) {
+        if (book.getStatus() != BookStatus.RESERVED && book.getStatus() != BookStatus.AVAILABLE) {
+            return null;
+        }
+        if (bookLoanRepository.existsByBookIdAndStatusIn(book.getId(), List.of(LoanStatus.PENDING))) {
+            return null;
+        }
+        Optional<BookLoan> head =
+                bookLoanRepository.findFirstByBookIdAndStatusOrderByCreatedAtAscIdAsc(book.getId(), LoanStatus.WAITING);
+        if (head.isEmpty()) {
+            if (book.getStatus() == BookStatus.RESERVED) {
+                book.updateStatus(BookStatus.AVAILABLE);
+            }
+            return null;
+        }
+        BookLoan loan = head.get();
+        loan.startHold(now.plus(holdDuration));
+        book.updateStatus(BookStatus.RESERVED);
+        return new LoanHoldStartedEvent(loan.getId(), loan.getMemberId(), book.getId(), loan.getHoldExpiresAt());
+    }
+
+    private void publish(LoanHoldStartedEvent event) {
+        if (event != null) {
+            startedCounter.increment();
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.bookerapp.core.presentation.controller;
 
 import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.domain.model.dto.BookImportDto;
 import com.bookerapp.core.domain.model.dto.PageResponse;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.model.enums.BookStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,14 +14,20 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.bookerapp.core.domain.service.BookImportService;
 import com.bookerapp.core.domain.service.BookService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/books")
@@ -28,6 +36,7 @@ import java.net.URI;
 public class BookController {
 
         private final BookService bookService;
+        private final BookImportService bookImportService;
 
         @PostMapping
         @Operation(summary = "도서 생성", description = """
@@ -151,6 +160,168 @@ public class BookController {
                 }
         }
 
+        @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+        @Operation(summary = "도서 일괄 가져오기", description = """
+                        ## 개요
+                        CSV 또는 JSONL 파일로 도서를 한 번에 등록합니다.
+                        파일을 스트리밍으로 읽어 청크 단위로 검증/중복 제거/배치 저장하므로 대용량 파일도 처리할 수 있습니다.
+
+                        ## 주요 파라미터
+                        - `file`: 가져올 파일 (multipart)
+                        - `format`: `CSV` 또는 `JSONL` (생략 시 확장자로 판단 - .jsonl/.ndjson은 JSONL, 그 외 CSV)
+
+                        ## 파일 형식
+                        - CSV: 첫 줄은 헤더 `title,author,isbn,publisher,coverImageUrl` (title, author 필수, 순서 무관)
+                        - JSONL: 한 줄에 `{"title": ..., "author": ..., "isbn": ..., "publisher": ..., "coverImageUrl": ...}`
+
+                        ## 응답 데이터
+                        - `imported`: 등록된 도서 수
+                        - `duplicates`: 이미 등록되었거나 파일 안에서 중복된 ISBN이라 건너뛴 행 수
+                        - `failed`, `errors`: 검증/저장에 실패한 행과 사유 (줄 번호 포함)
+
+                        ## 제약사항
+                        - 도서 생성 API와 같은 규칙으로 검증 (ISBN 10자리 또는 13자리 숫자)
+                        - 위치 정보는 가져오지 않음
+                        - 청크 단위로 커밋하므로 실패 행이 있어도 나머지 행은 등록됨
+                        """)
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "가져오기 완료 (행 단위 실패 포함)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookImportDto.Result.class), examples = @ExampleObject(name = "가져오기 결과 예시", value = """
+                                {
+                                  "totalRows": 3,
+                                  "imported": 1,
+                                  "duplicates": 1,
+                                  "failed": 1,
+                                  "errors": [
+                                    { "line": 4, "isbn": "12345", "message": "ISBN은 10자리 또는 13자리 숫자여야 합니다." }
+                                  ],
+                                  "errorsTruncated": false,
+                                  "elapsedMillis": 12
+                                }
+                                """))),
+                        @ApiResponse(responseCode = "400", description = "지원하지 않는 형식 또는 CSV 헤더 오류"),
+                        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+        })
+        public ResponseEntity<BookImportDto.Result> importBooks(
+                        @Parameter(description = "가져올 CSV/JSONL 파일", required = true) @RequestParam("file") MultipartFile file,
+                        @Parameter(description = "파일 형식 (CSV, JSONL)", example = "CSV") @RequestParam(required = false) String format) throws IOException {
+                BookImportDto.Format resolved = BookImportDto.Format.resolve(format, file.getOriginalFilename());
+                try (InputStream inputStream = file.getInputStream()) {
+                        return ResponseEntity.ok(bookImportService.importBooks(inputStream, resolved));
+                }
+        }
+
+        @GetMapping("/slice")
+        @Operation(summary = "도서 검색 및 전체 조회 (커서 기반)", description = """
+                        ## 개요
+                        `GET /api/v1/books`와 같은 조건으로 검색하되 OFFSET 대신 커서로 다음 데이터를 이어서 조회합니다.
+                        뒤 페이지로 갈수록 느려지지 않고, 기본적으로 전체 개수(COUNT) 쿼리를 실행하지 않습니다.
+
+                        ## 주요 파라미터
+                        - `title`, `author`, `keyword`, `status`: 검색 조건 (페이지 API와 동일)
+                        - `cursor`: 이전 응답의 `nextCursor` 값 (첫 조회 시 생략)
+                        - `size`: 조회 크기 (기본값: 20, 최대: 100)
+                        - `withTotal`: 전체 개수 포함 여부 (기본값: false)
+
+                        ## 응답 데이터
+                        - `content`: 도서 목록 (검색어가 있으면 관련도 순, 없으면 최근 등록 순)
+                        - `hasNext`: 다음 데이터 존재 여부
+                        - `nextCursor`: 다음 조회에 전달할 커서 (마지막이면 null)
+                        - `totalElements`: withTotal=true인 경우에만 포함
+
+                        ## 제약사항
+                        - 커서는 불투명 토큰이므로 값을 해석하거나 조작하지 마세요 (잘못된 커서는 400 오류)
+                        - 커서는 같은 검색 조건으로만 이어서 사용할 수 있습니다
+                        """)
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "조회 성공"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+                        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+        })
+        public ResponseEntity<SliceResponse<BookDto.Response>> searchBooksSlice(
+                        @Parameter(description = "도서 제목으로 검색", example = "Clean") @RequestParam(required = false) String title,
+                        @Parameter(description = "저자명으로 검색", example = "Martin") @RequestParam(required = false) String author,
+                        @Parameter(description = "통합 검색어 (제목/저자/출판사/ISBN)", example = "클린 코드") @RequestParam(required = false) String keyword,
+                        @Parameter(description = "도서 상태로 필터링", example = "AVAILABLE") @RequestParam(required = false) BookStatus status,
+                        @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "조회 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") int size,
+                        @Parameter(description = "전체 개수 포함 여부", example = "false") @RequestParam(defaultValue = "false") boolean withTotal) {
+                BookDto.SearchRequest request = new BookDto.SearchRequest();
+                request.setTitle(title);
+                request.setAuthor(author);
+                request.setKeyword(keyword);
+                request.setStatus(status);
+                request.setSize(size);
+                return ResponseEntity.ok(bookService.searchBooksSlice(request, cursor, withTotal));
+        }
+
+        @GetMapping("/suggest")
+        @Operation(summary = "도서 자동완성", description = """
+                        ## 개요
+                        입력 중인 검색어로 시작하는 도서 제목/저자 후보를 반환합니다.
+                        검색창에서 키 입력마다 호출하는 용도로, DB를 조회하지 않고 서버 메모리의 트라이에서 응답합니다.
+
+                        ## 주요 파라미터
+                        - `q`: 입력 중인 검색어 (필수). 제목/저자의 시작 부분 또는 중간 단어의 시작 부분과 비교
+                        - `size`: 최대 후보 수 (기본값: 10, 최대: 10)
+
+                        ## 응답 데이터
+                        해당 문구를 가진 도서 수가 많은 순, 짧은 문구 순으로 정렬된 후보 목록을 반환합니다.
+
+                        ## 제약사항
+                        - 대소문자와 연속 공백은 구분하지 않음
+                        - 서버 기동 직후 트라이 적재가 끝나기 전에는 빈 목록 반환
+                        """)
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "자동완성 예시", value = """
+                                [
+                                  { "text": "Clean Code", "type": "TITLE", "bookCount": 1 },
+                                  { "text": "Clean Architecture", "type": "TITLE", "bookCount": 1 }
+                                ]
+                                """))),
+                        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+        })
+        public ResponseEntity<List<BookDto.SuggestionResponse>> suggestBooks(
+                        @Parameter(description = "입력 중인 검색어", example = "Clea", required = true) @RequestParam String q,
+                        @Parameter(description = "최대 후보 수 (최대 10)", example = "10") @RequestParam(defaultValue = "10") int size) {
+                return ResponseEntity.ok(bookService.suggestBooks(q, size));
+        }
+
+        @GetMapping("/stats")
+        @Operation(summary = "도서/대출 현황 통계", description = """
+                        ## 개요
+                        상태별/층별 도서 수와 대출/대기 건수를 반환합니다.
+                        관리자 대시보드의 주기적 조회용으로, COUNT 쿼리 없이 서버 메모리의 집계 값을 그대로 응답합니다.
+
+                        ## 응답 데이터
+                        - `totalBooks`, `byStatus`, `byFloor`, `booksWithoutLocation`: 도서 수 (삭제된 도서 제외)
+                        - `loansByStatus`, `activeLoans`, `overdueLoans`, `waitingLoans`: 대출 건수
+                        - `reconciledAt`, `lastDrift`: 마지막 DB 재집계 시각과 그때 보정된 차이
+
+                        ## 제약사항
+                        - 도서/대출 변경은 커밋 직후 반영되며, 주기적으로 (기본 5분) DB 집계와 다시 맞춤
+                        - 일괄 UPDATE 등 엔티티를 거치지 않는 변경은 다음 재집계 때 반영될 수 있음
+                        """)
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookDto.StatsResponse.class), examples = @ExampleObject(name = "현황 예시", value = """
+                                {
+                                  "totalBooks": 1200,
+                                  "byStatus": { "AVAILABLE": 1000, "LOANED": 180, "RESERVED": 10, "PROCESSING": 5, "UNAVAILABLE": 5 },
+                                  "byFloor": { "FOURTH": 700, "TWELFTH": 400 },
+                                  "booksWithoutLocation": 100,
+                                  "loansByStatus": { "PENDING": 0, "WAITING": 25, "ACTIVE": 170, "OVERDUE": 10, "RETURNED": 5000, "CANCELLED": 30 },
+                                  "activeLoans": 180,
+                                  "overdueLoans": 10,
+                                  "waitingLoans": 25,
+                                  "reconciledAt": "2024-01-15T10:30:00",
+                                  "lastDrift": 0
+                                }
+                                """))),
+                        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+        })
+        public ResponseEntity<BookDto.StatsResponse> getStats() {
+                return ResponseEntity.ok(bookService.getStats());
+        }
+
         @GetMapping("/{id}")
         @Operation(summary = "도서 조회", description = """
                         ## 개요
@@ -282,6 +453,7 @@ public class BookController {
         public ResponseEntity<PageResponse<BookDto.Response>> searchBooks(
                         @Parameter(description = "도서 제목으로 검색 (부분 일치)", example = "Clean") @RequestParam(required = false) String title,
                         @Parameter(description = "저자명으로 검색 (부분 일치)", example = "Martin") @RequestParam(required = false) String author,
+                        @Parameter(description = "통합 검색어 (제목/저자/출판사/ISBN, 관련도 순)", example = "클린 코드") @RequestParam(required = false) String keyword,
                         @Parameter(description = "도서 상태로 필터링 (AVAILABLE, LOANED 등)", example = "AVAILABLE") @RequestParam(required = false) BookStatus status,
                         @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
                         @Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20") @RequestParam(defaultValue = "20") int size,
@@ -289,6 +461,7 @@ public class BookController {
                 BookDto.SearchRequest request = new BookDto.SearchRequest();
                 request.setTitle(title);
                 request.setAuthor(author);
+                request.setKeyword(keyword);
                 request.setStatus(status);
                 request.setPage(page);
                 request.setSize(size);
@@ -397,7 +570,8 @@ public class BookController {
         @Operation(summary = "도서 삭제", description = """
                         ## 개요
                         도서를 시스템에서 삭제합니다.
-                        물리적 삭제가 아닌 논리적 삭제(soft delete)로 처리될 수 있습니다.
+                        물리적 삭제가 아닌 논리적 삭제(soft delete)로 처리되며, 삭제된 도서는 조회/검색/대출에서 제외됩니다.
+                        삭제 후 보관 기간(기본 30일)이 지나면 보관 테이블로 옮겨집니다 (대출 이력이 남은 도서는 제외).
 
                         ## 주요 파라미터
                         - `id`: 삭제할 도서 ID (Path Parameter)
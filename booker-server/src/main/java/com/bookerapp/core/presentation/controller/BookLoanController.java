@@ -2,6 +2,7 @@ package com.bookerapp.core.presentation.controller;
 
 import com.bookerapp.core.domain.model.dto.BookLoanDto;
 import com.bookerapp.core.domain.model.dto.PageResponse;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.service.BookLoanService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -49,7 +50,7 @@ public class BookLoanController {
 
             ## 제약사항
             - 인증 필요: 현재는 test-user로 테스트 중 (추후 Bearer Token 인증 적용 예정)
-            - 도서가 대출 중이면 자동으로 대기 목록에 추가됩니다
+            - 도서가 대출 중이면 자동으로 대기 목록에 추가됩니다 (같은 도서에 동시에 신청해도 한 명만 즉시 대출됩니다)
             - 최대 대출 가능 권수: 5권 (추후 구현 예정)
             - 연체 중인 도서가 있으면 대출 불가 (추후 구현 예정)
             """)
@@ -248,6 +249,73 @@ public class BookLoanController {
         return ResponseEntity.ok(PageResponse.of(bookLoanService.getMyLoans(userId, request)));
     }
 
+    @GetMapping("/slice")
+    @Operation(summary = "내 대출 목록 조회 (커서 기반)", description = """
+            ## 개요
+            `GET /api/v1/loans`와 같은 조건으로 조회하되 OFFSET 대신 커서로 다음 데이터를 이어서 조회합니다.
+            최근 대출 순((createdAt, id) 내림차순)으로 정렬되며, 기본적으로 전체 개수(COUNT) 쿼리를 실행하지 않습니다.
+
+            ## 주요 파라미터
+            - `statuses`: 대출 상태 필터 (복수 선택 가능, 선택)
+            - `cursor`: 이전 응답의 `nextCursor` 값 (첫 조회 시 생략)
+            - `size`: 조회 크기 (기본값: 20, 최대: 100)
+            - `withTotal`: 전체 개수 포함 여부 (기본값: false)
+
+            ## 응답 데이터
+            - `content`, `hasNext`, `nextCursor`, `totalElements`(withTotal=true인 경우)
+
+            ## 제약사항
+            - 잘못된 커서는 400 오류
+            """)
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<SliceResponse<BookLoanDto.Response>> getMyLoansSlice(
+            @Valid BookLoanDto.SearchRequest request,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @Parameter(description = "사용자 ID (현재는 테스트용 기본값 사용)", example = "test-user")
+            @RequestParam(required = false, defaultValue = "test-user") String userId) {
+        return ResponseEntity.ok(bookLoanService.getMyLoansSlice(userId, request, cursor, withTotal));
+    }
+
+    @GetMapping("/fees")
+    @Operation(summary = "내 연체료 잔액 조회", description = """
+            ## 개요
+            본인에게 적립된 연체료 합계를 조회합니다.
+            연체료는 연체 하루마다 100원씩 연체료 원장에 적립되며, 회원별 잔액은 적립 시점에 함께 누적됩니다.
+            대출 목록을 다시 계산하지 않고 회원 ID로 잔액 한 행만 조회합니다.
+
+            ## 응답 데이터
+            - `balance`: 적립된 연체료 합계 (원), 연체 이력이 없으면 0
+            - `updatedAt`: 마지막 적립 시각
+
+            ## 참고
+            - 연체료는 연체 전환 작업 주기(`booker.loan-overdue.interval-ms`)마다 지난 연체일만큼 적립됩니다.
+            """)
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BookLoanDto.FeeBalanceResponse.class),
+                            examples = @ExampleObject(value = """
+                                    {
+                                      "memberId": "f882b4bd-b04e-4d2a-aaac-f45ab772af72",
+                                      "balance": 700,
+                                      "updatedAt": "2025-08-27T00:40:00"
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<BookLoanDto.FeeBalanceResponse> getFeeBalance(
+            @Parameter(description = "사용자 ID (현재는 테스트용 기본값 사용)", example = "test-user")
+            @RequestParam(required = false, defaultValue = "test-user") String userId) {
+        return ResponseEntity.ok(bookLoanService.getFeeBalance(userId));
+    }
+
     @GetMapping("/{loanId}")
     @Operation(summary = "대출 상세 조회", description = """
             ## 개요
@@ -314,7 +382,9 @@ public class BookLoanController {
     @Operation(summary = "도서 반납", description = """
             ## 개요
             대출 중이거나 연체 중인 도서를 반납합니다.
-            반납 시 도서 상태가 AVAILABLE로 변경되고, 대기자가 있으면 알림이 발송됩니다.
+            반납 시 도서 상태가 AVAILABLE로 변경됩니다.
+            대기자가 있으면 도서는 RESERVED로 보관되고, 반납 처리 후 대기 순번 1번 대출이 PENDING(보관 중)으로 전환되어 알림이 발송됩니다.
+            수령 기한(`holdExpiresAt`) 안에 수령하지 않으면 보관이 취소되고 다음 대기자에게 넘어갑니다.
 
             ## 주요 파라미터
             - `loanId`: 반납할 대출의 ID
@@ -467,4 +537,49 @@ public class BookLoanController {
             @RequestParam(required = false, defaultValue = "test-user") String userId) {
         return ResponseEntity.ok(bookLoanService.extendLoan(userId, loanId));
     }
+
+    @PostMapping("/{loanId}/pickup")
+    @Operation(summary = "보관 도서 수령", description = """
+            ## 개요
+            반납 후 대기자에게 인계되어 보관 중(PENDING)인 도서를 수령합니다.
+            수령하면 대출이 ACTIVE로 전환되고 반납 예정일이 정해집니다.
+
+            ## 주요 파라미터
+            - `loanId`: 수령할 대출의 ID
+
+            ## 응답 데이터
+            - `status`: ACTIVE (대출중)
+            - `loanDate`, `dueDate`: 수령 시각 기준 대출일/반납 예정일
+
+            ## 제약사항
+            - 본인의 대출 기록만 수령 가능
+            - 대기자 인계로 보관 중(PENDING)인 대출만 수령 가능
+            - 수령 기한(`holdExpiresAt`)이 지나면 수령 불가 (다음 대기자에게 인계)
+
+            ## 오류 예시
+            - 보관 중이 아닌 대출: `보관 중인 대출만 수령할 수 있습니다.`
+            - 수령 기한 경과: `수령 기한이 지났습니다.`
+            """)
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "수령 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BookLoanDto.Response.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 - 수령 불가능한 상태",
+                    content = @Content(mediaType = "application/json",
+                            examples = {
+                                    @ExampleObject(name = "보관 중 아님", value = "{\"error\": \"Bad Request\", \"message\": \"보관 중인 대출만 수령할 수 있습니다.\"}"),
+                                    @ExampleObject(name = "수령 기한 경과", value = "{\"error\": \"Bad Request\", \"message\": \"수령 기한이 지났습니다.\"}")
+                            })),
+            @ApiResponse(responseCode = "404", description = "대출 기록을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"error\": \"Not Found\", \"message\": \"대출 기록을 찾을 수 없습니다: 999\"}"))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<BookLoanDto.Response> pickUpLoan(
+            @Parameter(description = "수령할 대출의 고유 ID - 보관 중(PENDING)인 대출 ID를 입력하세요", example = "1", required = true)
+            @PathVariable Long loanId,
+            @Parameter(description = "사용자 ID (현재는 테스트용 기본값 사용)", example = "test-user")
+            @RequestParam(required = false, defaultValue = "test-user") String userId) {
+        return ResponseEntity.ok(bookLoanService.pickUpLoan(userId, loanId));
+    }
 }
@@ -3,6 +3,7 @@ package com.bookerapp.core.presentation.controller;
 import com.bookerapp.core.application.dto.BookOrderDto;
 import com.bookerapp.core.application.service.BookOrderService;
 import com.bookerapp.core.domain.model.dto.PageResponse;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.model.entity.BookOrder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -406,6 +407,47 @@ public class BookOrderController {
         return ResponseEntity.ok(PageResponse.of(orders));
     }
 
+    @GetMapping("/slice")
+    @Operation(
+        summary = "모든 도서 주문 요청 목록 조회 - 커서 기반 (관리자용)",
+        description = """
+                ## 개요
+                `GET /api/v1/book-orders`와 같은 조건으로 조회하되 OFFSET 대신 커서로 다음 데이터를 이어서 조회합니다.
+                최신순((createdAt, id) 내림차순)으로 정렬되며, 기본적으로 전체 개수(COUNT) 쿼리를 실행하지 않습니다.
+
+                ## 주요 파라미터
+                - `status`: 특정 상태로 필터링 (PENDING, APPROVED, REJECTED, RECEIVED)
+                - `cursor`: 이전 응답의 `nextCursor` 값 (첫 조회 시 생략)
+                - `size`: 조회 크기 (기본값: 20, 최대: 100)
+                - `withTotal`: 전체 개수 포함 여부 (기본값: false)
+
+                ## 제약사항
+                - 관리자 권한 필요
+                - 잘못된 커서는 400 오류
+                """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+        @ApiResponse(responseCode = "401", description = "인증 실패 - 로그인 필요"),
+        @ApiResponse(responseCode = "403", description = "권한 없음 - 관리자 전용"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<SliceResponse<BookOrderDto.Response>> getAllBookOrdersSlice(
+            @Parameter(description = "주문 상태 필터 (선택사항)", example = "PENDING",
+                schema = @Schema(allowableValues = {"PENDING", "APPROVED", "REJECTED", "RECEIVED"}))
+            @RequestParam(required = false) BookOrder.BookOrderStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        logger.info("모든 도서 주문 요청 목록 커서 조회: 상태: {}, 크기: {}", status, size);
+        return ResponseEntity.ok(bookOrderService.getBookOrdersSlice(status, cursor, size, withTotal));
+    }
+
     @GetMapping("/{id}")
     @Operation(
         summary = "도서 주문 요청 상세 조회",
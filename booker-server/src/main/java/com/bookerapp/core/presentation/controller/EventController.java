@@ -1,6 +1,7 @@
 package com.bookerapp.core.presentation.controller;
 
 import com.bookerapp.core.domain.model.dto.PageResponse;
+import com.bookerapp.core.domain.model.dto.SliceResponse;
 import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventType;
 import com.bookerapp.core.domain.model.event.Member;
@@ -632,7 +633,47 @@ public class EventController {
         Page<Event> events = type != null ?
             defaultEventService.findEventsByType(type, pageable) :
             defaultEventService.findAllEvents(pageable);
-        return ResponseEntity.ok(PageResponse.of(events.map(EventDto.Response::from)));
+        return ResponseEntity.ok(PageResponse.of(events.map(EventDto.Response::summaryFrom)));
+    }
+
+    @GetMapping("/slice")
+    @Operation(
+        summary = "이벤트 목록 조회 (커서 기반)",
+        description = """
+            ## 개요
+            `GET /api/v1/events`와 같은 조건으로 조회하되 OFFSET 대신 커서로 다음 데이터를 이어서 조회합니다.
+            시작 시간 내림차순((startTime, id))으로 정렬되며, 기본적으로 전체 개수(COUNT) 쿼리를 실행하지 않습니다.
+
+            ## 주요 파라미터
+            - `type`: 이벤트 유형 필터 (선택)
+            - `cursor`: 이전 응답의 `nextCursor` 값 (첫 조회 시 생략)
+            - `size`: 조회 크기 (기본값: 20, 최대: 100)
+            - `withTotal`: 전체 개수 포함 여부 (기본값: false)
+
+            ## 응답 데이터
+            - `content`: 이벤트 목록 (참여자 목록 제외)
+            - `hasNext`, `nextCursor`, `totalElements`(withTotal=true인 경우)
+
+            ## 제약사항
+            - 잘못된 커서는 400 오류
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<SliceResponse<EventDto.Response>> getEventsSlice(
+            @Parameter(description = "이벤트 유형 필터 (선택)", example = "MEETUP")
+            @RequestParam(required = false) EventType type,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(defaultEventService.findEventsSlice(type, cursor, size, withTotal)
+                .map(EventDto.Response::summaryFrom));
     }
 
     @GetMapping("/{id}")
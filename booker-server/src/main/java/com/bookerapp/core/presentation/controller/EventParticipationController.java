@@ -3,6 +3,8 @@ package com.bookerapp.core.presentation.controller;
 import com.bookerapp.core.domain.model.dto.CasRetryCountDto;
 import com.bookerapp.core.domain.model.dto.EventParticipationDto;
 import com.bookerapp.core.domain.service.EventParticipationService;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics.Outcome;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -37,6 +39,7 @@ import java.net.URI;
 public class EventParticipationController {
 
     private final EventParticipationService participationService;
+    private final ParticipationMetrics participationMetrics;
 
     /**
      * POST /api/v1/events/{eventId}/participations/synchronized
@@ -150,8 +153,9 @@ public class EventParticipationController {
             @Valid @org.springframework.web.bind.annotation.RequestBody
             EventParticipationDto.Request request) {
 
-        EventParticipationDto.Response response =
-                participationService.participateWithSynchronized(eventId, request);
+        EventParticipationDto.Response response = participationMetrics.record("v1-synchronized", eventId,
+                () -> participationService.participateWithSynchronized(eventId, request),
+                r -> Outcome.fromStatus(r.getStatus().name()));
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -277,8 +281,9 @@ public class EventParticipationController {
             @Valid @org.springframework.web.bind.annotation.RequestBody
             EventParticipationDto.Request request) {
 
-        EventParticipationDto.Response response =
-                participationService.participateWithCAS(eventId, request);
+        EventParticipationDto.Response response = participationMetrics.record("v1-cas", eventId,
+                () -> participationService.participateWithCAS(eventId, request),
+                r -> Outcome.fromStatus(r.getStatus().name()));
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -2,7 +2,10 @@ package com.bookerapp.core.presentation.controller;
 
 import com.bookerapp.core.application.dto.EventParticipationDto;
 import com.bookerapp.core.application.dto.LoadTestDto;
+import com.bookerapp.core.application.service.BatchingEventParticipationService;
 import com.bookerapp.core.application.service.CasEventParticipationService;
+import com.bookerapp.core.application.service.ConditionalUpdateEventParticipationService;
+import com.bookerapp.core.application.service.CounterEventParticipationService;
 import com.bookerapp.core.application.service.OptimisticLockEventParticipationService;
 import com.bookerapp.core.application.service.PessimisticLockEventParticipationService;
 import com.bookerapp.core.application.service.SynchronizedEventParticipationService;
@@ -11,6 +14,9 @@ import com.bookerapp.core.domain.model.event.EventType;
 import com.bookerapp.core.domain.model.event.Member;
 import com.bookerapp.core.domain.repository.EventRepository;
 import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.cache.BookCache;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics.Outcome;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +24,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/load-test")
@@ -30,14 +38,19 @@ public class LoadTestController {
     private final PessimisticLockEventParticipationService pessimisticLockService;
     private final CasEventParticipationService casService;
     private final SynchronizedEventParticipationService synchronizedService;
+    private final CounterEventParticipationService counterService;
+    private final ConditionalUpdateEventParticipationService conditionalUpdateService;
+    private final BatchingEventParticipationService batchingService;
     private final EventRepository eventRepository;
     private final MemberRepository memberRepository;
+    private final ParticipationMetrics participationMetrics;
+    private final BookCache bookCache;
 
     @PostMapping("/participate/optimistic")
     public ResponseEntity<EventParticipationDto.Response> participateOptimistic(
             @RequestBody LoadTestDto.ParticipationRequest request) {
         log.info("Load test - Optimistic lock participation for event: {}, user: {}", request.getEventId(), request.getUserId());
-        EventParticipationDto.Response response = optimisticLockService.participateInEvent(request.toEventParticipationRequest());
+        EventParticipationDto.Response response = measure("optimistic", request, optimisticLockService::participateInEvent);
         return ResponseEntity.ok(response);
     }
 
@@ -45,7 +58,7 @@ public class LoadTestController {
     public ResponseEntity<EventParticipationDto.Response> participatePessimistic(
             @RequestBody LoadTestDto.ParticipationRequest request) {
         log.info("Load test - Pessimistic lock participation for event: {}, user: {}", request.getEventId(), request.getUserId());
-        EventParticipationDto.Response response = pessimisticLockService.participateInEvent(request.toEventParticipationRequest());
+        EventParticipationDto.Response response = measure("pessimistic", request, pessimisticLockService::participateInEvent);
         return ResponseEntity.ok(response);
     }
 
@@ -53,7 +66,7 @@ public class LoadTestController {
     public ResponseEntity<EventParticipationDto.Response> participateCas(
             @RequestBody LoadTestDto.ParticipationRequest request) {
         log.info("Load test - CAS participation for event: {}, user: {}", request.getEventId(), request.getUserId());
-        EventParticipationDto.Response response = casService.participateInEvent(request.toEventParticipationRequest());
+        EventParticipationDto.Response response = measure("cas", request, casService::participateInEvent);
         return ResponseEntity.ok(response);
     }
 
@@ -61,32 +74,66 @@ public class LoadTestController {
     public ResponseEntity<EventParticipationDto.Response> participateSynchronized(
             @RequestBody LoadTestDto.ParticipationRequest request) {
         log.info("Load test - Synchronized participation for event: {}, user: {}", request.getEventId(), request.getUserId());
-        EventParticipationDto.Response response = synchronizedService.participateInEvent(request.toEventParticipationRequest());
+        EventParticipationDto.Response response = measure("synchronized", request, synchronizedService::participateInEvent);
         return ResponseEntity.ok(response);
     }
 
-    // Metrics endpoints commented out - methods not available
-    // @GetMapping("/metrics/optimistic")
-    // public ResponseEntity<Map<String, Integer>> getOptimisticMetrics() {
-    //     return ResponseEntity.ok(Map.of("retryCount", optimisticLockService.getRetryCount()));
-    // }
+    @PostMapping("/participate/counter")
+    public ResponseEntity<EventParticipationDto.Response> participateCounter(
+            @RequestBody LoadTestDto.ParticipationRequest request) {
+        log.info("Load test - Counter participation for event: {}, user: {}", request.getEventId(), request.getUserId());
+        EventParticipationDto.Response response = measure("counter", request, counterService::participateInEvent);
+        return ResponseEntity.ok(response);
+    }
 
-    // @GetMapping("/metrics/cas")
-    // public ResponseEntity<Map<String, Integer>> getCasMetrics() {
-    //     return ResponseEntity.ok(Map.of("retryCount", casService.getRetryCount()));
-    // }
+    @PostMapping("/participate/conditional")
+    public ResponseEntity<EventParticipationDto.Response> participateConditional(
+            @RequestBody LoadTestDto.ParticipationRequest request) {
+        log.info("Load test - Conditional update participation for event: {}, user: {}", request.getEventId(), request.getUserId());
+        EventParticipationDto.Response response = measure("conditional", request, conditionalUpdateService::participateInEvent);
+        return ResponseEntity.ok(response);
+    }
 
-    // @PostMapping("/reset/optimistic")
-    // public ResponseEntity<String> resetOptimisticMetrics() {
-    //     optimisticLockService.resetRetryCount();
-    //     return ResponseEntity.ok("Optimistic lock retry count reset");
-    // }
+    @PostMapping("/participate/batch")
+    public CompletableFuture<ResponseEntity<EventParticipationDto.Response>> participateBatch(
+            @RequestBody LoadTestDto.ParticipationRequest request) {
+        log.info("Load test - Batching participation for event: {}, user: {}", request.getEventId(), request.getUserId());
+        return participationMetrics.recordAsync("batching", request.getEventId(),
+                        () -> batchingService.participateInEvent(request.toEventParticipationRequest()),
+                        response -> Outcome.fromStatus(response.getStatus()))
+                .thenApply(ResponseEntity::ok);
+    }
 
-    // @PostMapping("/reset/cas")
-    // public ResponseEntity<String> resetCasMetrics() {
-    //     casService.resetRetryCount();
-    //     return ResponseEntity.ok("CAS retry count reset");
-    // }
+    /**
+     * 전략별 재시도 횟수 (Prometheus 카운터 booker.participation.retry 기준, 마지막 초기화 이후 값)
+     */
+    @GetMapping("/metrics/retry-count")
+    public ResponseEntity<Map<String, Long>> getRetryCounts() {
+        return ResponseEntity.ok(Map.of(
+                "optimistic", participationMetrics.retryCount("optimistic"),
+                "cas", participationMetrics.retryCount("cas")));
+    }
+
+    @PostMapping("/metrics/retry-count/reset")
+    public ResponseEntity<String> resetRetryCounts() {
+        participationMetrics.resetRetryCount("optimistic");
+        participationMetrics.resetRetryCount("cas");
+        return ResponseEntity.ok("Retry counts reset");
+    }
+
+    /**
+     * 도서 캐시 사용 여부 (캐시 on/off 처리량 비교용)
+     */
+    @GetMapping("/book-cache")
+    public ResponseEntity<Map<String, Boolean>> getBookCache() {
+        return ResponseEntity.ok(Map.of("enabled", bookCache.isEnabled()));
+    }
+
+    @PostMapping("/book-cache")
+    public ResponseEntity<Map<String, Boolean>> setBookCache(@RequestParam boolean enabled) {
+        bookCache.setEnabled(enabled);
+        return ResponseEntity.ok(Map.of("enabled", bookCache.isEnabled()));
+    }
 
     @GetMapping("/health")
     public ResponseEntity<String> health() {
@@ -115,10 +162,18 @@ public class LoadTestController {
         eventRepository.findAll().stream()
                 .filter(event -> event.getTitle().startsWith("LoadTest"))
                 .forEach(eventRepository::delete);
+        counterService.evictAll();
 
         return ResponseEntity.ok("Test data cleanup completed");
     }
 
+    private EventParticipationDto.Response measure(String strategy, LoadTestDto.ParticipationRequest request,
+                                                   Function<EventParticipationDto.Request, EventParticipationDto.Response> participation) {
+        return participationMetrics.record(strategy, request.getEventId(),
+                () -> participation.apply(request.toEventParticipationRequest()),
+                response -> Outcome.fromStatus(response.getStatus()));
+    }
+
     private Event createTestEventIfNotExists(LoadTestDto.SetupRequest request) {
         return eventRepository.findById(request.getEventId())
                 .orElseGet(() -> {
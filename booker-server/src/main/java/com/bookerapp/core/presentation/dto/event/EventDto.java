@@ -165,14 +165,6 @@ public class EventDto {
         private boolean available;
 
         public static Response from(Event event) {
-            // Calculate counts
-            long confirmedCount = event.getParticipants().stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.CONFIRMED)
-                .count();
-            long waitingCount = event.getParticipants().stream()
-                .filter(p -> p.getStatus() == ParticipationStatus.WAITING)
-                .count();
-
             return Response.builder()
                     .id(event.getId())
                     .title(event.getTitle())
@@ -186,9 +178,9 @@ public class EventDto {
                             .map(ParticipantResponse::from)
                             .toList())
                     .isFullyBooked(event.isFullyBooked())
-                    .confirmedCount((int) confirmedCount)
-                    .waitingCount((int) waitingCount)
-                    .available(confirmedCount < event.getMaxParticipants())
+                    .confirmedCount(event.getConfirmedCount())
+                    .waitingCount(event.getWaitingCount())
+                    .available(!event.isFullyBooked())
                     .build();
         }
     }
@@ -5,7 +5,9 @@ import com.bookerapp.core.domain.exception.BookOrderNotFoundException;
 import com.bookerapp.core.domain.exception.DeletedBookOrderException;
 import com.bookerapp.core.domain.exception.DuplicateIsbnException;
 import com.bookerapp.core.domain.exception.InvalidBookException;
+import com.bookerapp.core.domain.exception.InvalidCursorException;
 import com.bookerapp.core.domain.exception.InvalidFloorException;
+import com.bookerapp.core.domain.exception.LockAcquisitionException;
 import com.bookerapp.core.domain.exception.WorkLogNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -90,6 +92,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+            InvalidCursorException e, HttpServletRequest request) {
+        logger.warn("InvalidCursorException: {}", e.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST,
+                "잘못된 커서",
+                e.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e, HttpServletRequest request) {
         logger.error("시스템 오류 (IllegalArgumentException): {}", e.getMessage(), e);
@@ -116,6 +131,19 @@ public class GlobalExceptionHandler {
     }
 
 
+    @ExceptionHandler(LockAcquisitionException.class)
+    public ResponseEntity<ErrorResponse> handleLockAcquisitionException(
+            LockAcquisitionException e, HttpServletRequest request) {
+        logger.warn("LockAcquisitionException: {}", e.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "일시적으로 요청을 처리할 수 없음",
+                e.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(BookOrderNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleBookOrderNotFoundException(BookOrderNotFoundException e) {
         logger.warn("도서 주문을 찾을 수 없음: {}", e.getMessage());
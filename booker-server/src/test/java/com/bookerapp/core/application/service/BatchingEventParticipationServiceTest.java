@@ -0,0 +1,217 @@
+package com.bookerapp.core.application.service;
+
+import com.bookerapp.core.application.dto.EventParticipationDto;
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import com.bookerapp.core.domain.model.event.EventType;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import com.bookerapp.core.infrastructure.participation.ParticipationChangePublisher;
+import com.bookerapp.core.infrastructure.repository.EventParticipationJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingEventParticipationServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventParticipationRepository participationRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private EventParticipationJdbcRepository participationJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ParticipationChangePublisher participationChangePublisher;
+
+    private BatchingEventParticipationService batchingService;
+
+    @BeforeEach
+    void setUp() {
+        batchingService = new BatchingEventParticipationService(eventRepository, participationRepository,
+                memberRepository, participationJdbcRepository, transactionTemplate,
+                new ParticipationMetrics(new SimpleMeterRegistry(), 8), participationChangePublisher, () -> Optional.of("tester"), 100, 50, 2, 3, 60_000);
+
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(eventRepository.lockSeatSnapshotById(EVENT_ID)).willReturn(Optional.of(snapshot(5, 0, 0, 0)));
+        given(eventRepository.getReferenceById(EVENT_ID)).willReturn(new Event("Batch Event", "desc", EventType.MEETUP,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 5, null));
+        given(memberRepository.findByMemberIdIn(anyCollection())).willReturn(List.of());
+        given(memberRepository.save(any(Member.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 - 모인 요청은 한 번의 배치 insert로 저장되고 정원만큼만 확정된다")
+    void batchAdmission() throws Exception {
+        given(participationRepository.findActiveMemberIdsByEventIdAndMemberIdIn(eq(EVENT_ID), anyCollection()))
+                .willReturn(List.of());
+
+        List<CompletableFuture<EventParticipationDto.Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(batchingService.participateInEvent(request("user" + i)));
+        }
+
+        List<EventParticipationDto.Response> responses = new ArrayList<>();
+        for (CompletableFuture<EventParticipationDto.Response> future : futures) {
+            responses.add(future.get(5, TimeUnit.SECONDS));
+        }
+
+        assertThat(responses).filteredOn(r -> "CONFIRMED".equals(r.getStatus())).hasSize(5);
+        assertThat(responses).filteredOn(r -> "WAITING".equals(r.getStatus()))
+                .extracting(EventParticipationDto.Response::getWaitingNumber)
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15);
+
+        ArgumentCaptor<List<EventParticipationJdbcRepository.Row>> captor = ArgumentCaptor.forClass(List.class);
+        verify(participationJdbcRepository, times(1)).batchInsert(captor.capture());
+        assertThat(captor.getValue()).hasSize(20)
+                .allMatch(row -> "tester".equals(row.auditor()));
+        verify(eventRepository, times(1)).lockSeatSnapshotById(EVENT_ID);
+        verify(eventRepository).applyParticipationCounts(EVENT_ID, 5, 15, 15);
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 - 이미 참여 중이거나 같은 배치에서 중복된 요청은 저장하지 않는다")
+    void duplicateWithinBatch() throws Exception {
+        given(participationRepository.findActiveMemberIdsByEventIdAndMemberIdIn(eq(EVENT_ID), anyCollection()))
+                .willReturn(List.of("existing"));
+
+        CompletableFuture<EventParticipationDto.Response> existing = batchingService.participateInEvent(request("existing"));
+        CompletableFuture<EventParticipationDto.Response> first = batchingService.participateInEvent(request("dup"));
+        CompletableFuture<EventParticipationDto.Response> second = batchingService.participateInEvent(request("dup"));
+
+        assertThat(existing.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("ALREADY_PARTICIPATING");
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("CONFIRMED");
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("ALREADY_PARTICIPATING");
+        verify(participationJdbcRepository).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 - 요청이 몰린 이벤트의 배치가 처리 중이어도 다른 이벤트의 배치는 밀리지 않는다")
+    void hotEventDoesNotBlockOtherEvents() throws Exception {
+        Long otherEventId = 2L;
+        CountDownLatch hotBatchRunning = new CountDownLatch(1);
+        CountDownLatch releaseHotBatch = new CountDownLatch(1);
+        given(eventRepository.lockSeatSnapshotById(EVENT_ID)).willAnswer(invocation -> {
+            hotBatchRunning.countDown();
+            releaseHotBatch.await(5, TimeUnit.SECONDS);
+            return Optional.of(snapshot(5, 0, 0, 0));
+        });
+        given(eventRepository.lockSeatSnapshotById(otherEventId)).willReturn(Optional.of(snapshot(5, 0, 0, 0)));
+        given(eventRepository.getReferenceById(otherEventId)).willReturn(new Event("Other Event", "desc", EventType.MEETUP,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 5, null));
+        given(participationRepository.findActiveMemberIdsByEventIdAndMemberIdIn(any(), anyCollection()))
+                .willReturn(List.of());
+
+        // 워커 2개보다 많은 가득 찬 배치를 한 이벤트에 쌓는다
+        List<CompletableFuture<EventParticipationDto.Response>> hotFutures = new ArrayList<>();
+        for (int i = 0; i < 350; i++) {
+            hotFutures.add(batchingService.participateInEvent(request("user" + i)));
+        }
+        assertThat(hotBatchRunning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<EventParticipationDto.Response> other = batchingService.participateInEvent(
+                new EventParticipationDto.Request(otherEventId, "other", "other", "other@test.com"));
+
+        assertThat(other.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("CONFIRMED");
+        releaseHotBatch.countDown();
+        for (CompletableFuture<EventParticipationDto.Response> future : hotFutures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        verify(eventRepository, times(4)).lockSeatSnapshotById(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 - 이벤트별 배치 큐는 상한 개수까지만 보관하고 버려진 큐의 요청도 처리된다")
+    void batchesAreBounded() throws Exception {
+        List<CompletableFuture<EventParticipationDto.Response>> futures = new ArrayList<>();
+        for (long eventId = 1; eventId <= 10; eventId++) {
+            if (eventId != EVENT_ID) {
+                given(eventRepository.lockSeatSnapshotById(eventId)).willReturn(Optional.of(snapshot(5, 0, 0, 0)));
+                given(eventRepository.getReferenceById(eventId)).willReturn(new Event("Batch Event " + eventId, "desc", EventType.MEETUP,
+                        LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 5, null));
+            }
+            given(participationRepository.findActiveMemberIdsByEventIdAndMemberIdIn(eq(eventId), anyCollection()))
+                    .willReturn(List.of());
+            futures.add(batchingService.participateInEvent(
+                    new EventParticipationDto.Request(eventId, "user", "user", "user@test.com")));
+        }
+
+        for (CompletableFuture<EventParticipationDto.Response> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo("CONFIRMED");
+        }
+        assertThat(batchingService.trackedEvents()).isLessThanOrEqualTo(3);
+    }
+
+    private EventRepository.SeatSnapshot snapshot(int maxParticipants, int confirmedCount, int waitingCount, int lastWaitingNumber) {
+        return new EventRepository.SeatSnapshot() {
+            @Override
+            public int getMaxParticipants() {
+                return maxParticipants;
+            }
+
+            @Override
+            public int getConfirmedCount() {
+                return confirmedCount;
+            }
+
+            @Override
+            public int getWaitingCount() {
+                return waitingCount;
+            }
+
+            @Override
+            public int getLastWaitingNumber() {
+                return lastWaitingNumber;
+            }
+        };
+    }
+
+    private EventParticipationDto.Request request(String memberId) {
+        return new EventParticipationDto.Request(EVENT_ID, memberId, memberId, memberId + "@test.com");
+    }
+}
@@ -0,0 +1,104 @@
+package com.bookerapp.core.application.service;
+
+import com.bookerapp.core.application.dto.EventParticipationDto;
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventType;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "h2"})
+class ConditionalUpdateEventParticipationServiceTest {
+
+    @Autowired
+    private ConditionalUpdateEventParticipationService conditionalUpdateService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private Event testEvent;
+    private final int maxParticipants = 5;
+    private final int concurrentUsers = 20;
+
+    @BeforeEach
+    void setUp() {
+        Member presenter = new Member("conditional-presenter", "Presenter", "conditional-presenter@test.com");
+        testEvent = eventRepository.save(new Event(
+                "Conditional Update Test Event",
+                "Test Description",
+                EventType.TECH_TALK,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(1).plusHours(2),
+                maxParticipants,
+                presenter
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteById(testEvent.getId());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE - 동시 요청 시 정원만큼만 확정되고 대기 순번이 중복되지 않는다")
+    void concurrentParticipationAccuracy() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentUsers);
+        List<Future<EventParticipationDto.Response>> futures = new ArrayList<>();
+
+        for (int i = 0; i < concurrentUsers; i++) {
+            final int userId = i;
+            futures.add(executor.submit(() -> conditionalUpdateService.participateInEvent(
+                    new EventParticipationDto.Request(
+                            testEvent.getId(),
+                            "conditional-user" + userId,
+                            "User " + userId,
+                            "conditional-user" + userId + "@test.com"
+                    ))));
+        }
+
+        int confirmedCount = 0;
+        List<Integer> waitingNumbers = new ArrayList<>();
+        for (Future<EventParticipationDto.Response> future : futures) {
+            EventParticipationDto.Response response = future.get(30, TimeUnit.SECONDS);
+            if ("CONFIRMED".equals(response.getStatus())) {
+                confirmedCount++;
+            } else if ("WAITING".equals(response.getStatus())) {
+                waitingNumbers.add(response.getWaitingNumber());
+            }
+        }
+        executor.shutdown();
+
+        assertThat(confirmedCount).isEqualTo(maxParticipants);
+        assertThat(waitingNumbers).hasSize(concurrentUsers - maxParticipants);
+        assertThat(waitingNumbers).doesNotHaveDuplicates();
+        assertThat(eventRepository.findById(testEvent.getId()).orElseThrow().getConfirmedCount())
+                .isEqualTo(maxParticipants);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE - 중복 참여 신청은 거절된다")
+    void duplicateParticipationPrevention() {
+        EventParticipationDto.Request request = new EventParticipationDto.Request(
+                testEvent.getId(), "conditional-dup", "Dup User", "conditional-dup@test.com");
+
+        EventParticipationDto.Response first = conditionalUpdateService.participateInEvent(request);
+        EventParticipationDto.Response second = conditionalUpdateService.participateInEvent(request);
+
+        assertThat(first.getStatus()).isEqualTo("CONFIRMED");
+        assertThat(second.getStatus()).isEqualTo("ALREADY_PARTICIPATING");
+    }
+}
@@ -0,0 +1,215 @@
+package com.bookerapp.core.application.service;
+
+import com.bookerapp.core.application.dto.EventParticipationDto;
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.participation.ParticipationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CounterEventParticipationServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventParticipationRepository participationRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private CounterEventParticipationService counterService;
+
+    private EventRepository.SeatSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new CounterEventParticipationService(eventRepository, participationRepository, memberRepository);
+    }
+
+    @Test
+    @DisplayName("좌석 카운터 - 동시 요청 시 정원만큼만 확정되고 나머지는 대기 순번을 받는다")
+    void concurrentParticipation() throws InterruptedException {
+        givenSeats(0);
+        givenSeatReservation(0);
+        givenWaitingNumbers(0);
+        givenNoParticipants();
+        givenPersistence();
+
+        int concurrentUsers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentUsers);
+        CountDownLatch latch = new CountDownLatch(concurrentUsers);
+        AtomicInteger confirmedCount = new AtomicInteger(0);
+        Set<Integer> waitingNumbers = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < concurrentUsers; i++) {
+            final int userId = i;
+            executor.submit(() -> {
+                try {
+                    EventParticipationDto.Response response = counterService.participateInEvent(request("user" + userId));
+                    if ("CONFIRMED".equals(response.getStatus())) {
+                        confirmedCount.incrementAndGet();
+                    } else if ("WAITING".equals(response.getStatus())) {
+                        waitingNumbers.add(response.getWaitingNumber());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(confirmedCount.get()).isEqualTo(5);
+        assertThat(waitingNumbers).hasSize(15);
+        assertThat(waitingNumbers).allMatch(number -> number >= 1 && number <= 15);
+        verify(eventRepository, times(5)).reserveSeat(EVENT_ID);
+        verify(participationRepository, times(1)).findActiveMemberIdsByEventId(EVENT_ID);
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("좌석 카운터 - 마지막으로 부여한 대기 순번 다음부터 부여한다 (승격/취소로 대기 인원이 줄어도 순번 재사용 없음)")
+    void continuesFromLastWaitingNumber() {
+        // 대기 1~6번 중 3명이 승격/취소되어 대기 인원은 3명
+        givenSeats(5);
+        givenWaitingNumbers(6);
+        givenNoParticipants();
+        givenPersistence();
+
+        EventParticipationDto.Response response = counterService.participateInEvent(request("late-user"));
+
+        assertThat(response.getStatus()).isEqualTo("WAITING");
+        assertThat(response.getWaitingNumber()).isEqualTo(7);
+        verify(eventRepository, never()).reserveSeat(any());
+        verify(participationRepository, never()).countByEventIdAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 카운터 - 카운터에 남은 좌석이 DB에서 이미 찼으면 대기로 돌리고 카운터를 다시 초기화한다")
+    void databaseGuardsCapacity() {
+        // 카운터를 버리고 다시 만드는 사이 커밋되지 않은 좌석이 있어 카운터는 4석, DB는 5석이 찬 상태
+        givenSeats(4);
+        givenSeatReservation(5);
+        givenWaitingNumbers(0);
+        givenNoParticipants();
+        givenPersistence();
+
+        EventParticipationDto.Response response = counterService.participateInEvent(request("user1"));
+        counterService.participateInEvent(request("user2"));
+
+        assertThat(response.getStatus()).isEqualTo("WAITING");
+        assertThat(response.getWaitingNumber()).isEqualTo(1);
+        verify(participationRepository, times(2)).findActiveMemberIdsByEventId(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("좌석 카운터 - 중복 참여 신청은 저장 없이 거절된다")
+    void duplicateParticipation() {
+        givenSeats(0);
+        given(participationRepository.findActiveMemberIdsByEventId(EVENT_ID)).willReturn(List.of("user1"));
+
+        EventParticipationDto.Response response = counterService.participateInEvent(request("user1"));
+
+        assertThat(response.getStatus()).isEqualTo("ALREADY_PARTICIPATING");
+        verify(participationRepository, never()).save(any());
+        verify(memberRepository, never()).findByMemberId(eq("user1"));
+    }
+
+    @Test
+    @DisplayName("좌석 카운터 - 다른 경로의 집계 변경 알림을 받으면 카운터를 버리고 다시 초기화한다")
+    void reloadsAfterParticipationChanged() {
+        givenSeats(5);
+        given(participationRepository.findActiveMemberIdsByEventId(EVENT_ID))
+                .willReturn(List.of("user1", "user2", "user3", "user4", "user5"));
+        assertThat(counterService.participateInEvent(request("user1")).getStatus()).isEqualTo("ALREADY_PARTICIPATING");
+
+        // user1이 취소하여 좌석이 비었다
+        givenSeats(4);
+        givenSeatReservation(4);
+        given(participationRepository.findActiveMemberIdsByEventId(EVENT_ID))
+                .willReturn(List.of("user2", "user3", "user4", "user5"));
+        givenPersistence();
+        counterService.onParticipationChanged(new ParticipationChangedEvent(EVENT_ID));
+
+        EventParticipationDto.Response response = counterService.participateInEvent(request("user1"));
+
+        assertThat(response.getStatus()).isEqualTo("CONFIRMED");
+        verify(eventRepository, times(2)).findSeatSnapshotById(EVENT_ID);
+    }
+
+    private void givenSeats(int confirmedCount) {
+        snapshot = mock(EventRepository.SeatSnapshot.class);
+        given(snapshot.getMaxParticipants()).willReturn(5);
+        given(snapshot.getConfirmedCount()).willReturn(confirmedCount);
+        given(eventRepository.findSeatSnapshotById(EVENT_ID)).willReturn(Optional.of(snapshot));
+    }
+
+    /**
+     * DB의 조건부 좌석 확보 (confirmed_count < max_participants 일 때만 1행 갱신)
+     */
+    private void givenSeatReservation(int confirmedCount) {
+        AtomicInteger confirmed = new AtomicInteger(confirmedCount);
+        given(eventRepository.reserveSeat(EVENT_ID)).willAnswer(invocation ->
+                confirmed.getAndUpdate(current -> current < 5 ? current + 1 : current) < 5 ? 1 : 0);
+    }
+
+    /**
+     * DB의 대기 순번 갱신 - 갱신한 요청은 커밋 전까지 행을 잠그므로 자신이 부여한 순번을 읽는다
+     */
+    private void givenWaitingNumbers(int lastWaitingNumber) {
+        AtomicInteger sequence = new AtomicInteger(lastWaitingNumber);
+        ThreadLocal<Integer> assigned = new ThreadLocal<>();
+        given(eventRepository.reserveWaitingNumber(EVENT_ID)).willAnswer(invocation -> {
+            assigned.set(sequence.incrementAndGet());
+            return 1;
+        });
+        given(snapshot.getLastWaitingNumber()).willAnswer(invocation -> assigned.get());
+    }
+
+    private void givenNoParticipants() {
+        given(participationRepository.findActiveMemberIdsByEventId(EVENT_ID)).willReturn(List.of());
+    }
+
+    private void givenPersistence() {
+        given(memberRepository.findByMemberId(anyString())).willAnswer(invocation -> {
+            String memberId = invocation.getArgument(0);
+            return Optional.of(new Member(memberId, memberId, memberId + "@test.com"));
+        });
+        given(participationRepository.save(any(EventParticipation.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private EventParticipationDto.Request request(String memberId) {
+        return new EventParticipationDto.Request(EVENT_ID, memberId, memberId, memberId + "@test.com");
+    }
+}
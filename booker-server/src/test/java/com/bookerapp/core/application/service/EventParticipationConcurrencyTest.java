@@ -5,6 +5,7 @@ import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventType;
 import com.bookerapp.core.domain.model.event.Member;
 import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,9 @@ class EventParticipationConcurrencyTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private ParticipationMetrics participationMetrics;
+
     private Event testEvent;
     private final int maxParticipants = 5;
     private final int concurrentUsers = 20;
@@ -164,7 +168,7 @@ class EventParticipationConcurrencyTest {
         System.out.println("CAS 방식 - 처리 시간: " + (endTime - startTime) + "ms");
         System.out.println("확정 참가자: " + confirmedCount.get() + "명");
         System.out.println("대기자: " + waitingCount.get() + "명");
-        System.out.println("재시도 횟수: " + casEventParticipationService.getRetryCount());
+        System.out.println("재시도 횟수: " + participationMetrics.retryCount("cas"));
     }
 
     @Test
@@ -177,7 +181,7 @@ class EventParticipationConcurrencyTest {
         long synchronizedDuration = synchronizedEndTime - synchronizedStartTime;
 
         // CAS 방식 성능 측정
-        casEventParticipationService.resetRetryCount();
+        participationMetrics.resetRetryCount("cas");
         long casStartTime = System.currentTimeMillis();
         runConcurrentTest(casEventParticipationService);
         long casEndTime = System.currentTimeMillis();
@@ -186,7 +190,7 @@ class EventParticipationConcurrencyTest {
         System.out.println("=== 성능 비교 결과 ===");
         System.out.println("Synchronized 방식: " + synchronizedDuration + "ms");
         System.out.println("CAS 방식: " + casDuration + "ms");
-        System.out.println("CAS 재시도 횟수: " + casEventParticipationService.getRetryCount());
+        System.out.println("CAS 재시도 횟수: " + participationMetrics.retryCount("cas"));
 
         // CAS 방식이 일반적으로 더 빠를 것으로 예상되지만,
         // 실제 환경에서는 다양한 요인에 따라 결과가 달라질 수 있음
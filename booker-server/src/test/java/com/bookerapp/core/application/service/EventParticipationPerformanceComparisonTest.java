@@ -5,6 +5,7 @@ import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventType;
 import com.bookerapp.core.domain.model.event.Member;
 import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,9 @@ class EventParticipationPerformanceComparisonTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private ParticipationMetrics participationMetrics;
+
     private Event testEvent;
     private final int maxParticipants = 10;
     private final int concurrentUsers = 50;
@@ -152,16 +156,16 @@ class EventParticipationPerformanceComparisonTest {
         System.out.println("=== 락 및 재시도 통계 비교 ===");
 
         // 통계 초기화
-        casService.resetRetryCount();
-        optimisticService.resetRetryCount();
+        participationMetrics.resetRetryCount("cas");
+        participationMetrics.resetRetryCount("optimistic");
         pessimisticService.resetLockCount();
 
         // 동시성 테스트 실행
         runConcurrentTest(casService);
-        int casRetries = casService.getRetryCount();
+        long casRetries = participationMetrics.retryCount("cas");
 
         runConcurrentTest(optimisticService);
-        int optimisticRetries = optimisticService.getRetryCount();
+        long optimisticRetries = participationMetrics.retryCount("optimistic");
 
         runConcurrentTest(pessimisticService);
         int pessimisticLocks = pessimisticService.getLockCount();
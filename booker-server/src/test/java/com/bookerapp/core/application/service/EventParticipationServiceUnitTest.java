@@ -5,6 +5,8 @@ import com.bookerapp.core.domain.model.event.Event;
 import com.bookerapp.core.domain.model.event.EventType;
 import com.bookerapp.core.domain.model.event.Member;
 import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,10 +33,12 @@ class EventParticipationServiceUnitTest {
 
     private SynchronizedEventParticipationService synchronizedService;
     private CasEventParticipationService casService;
+    private ParticipationMetrics participationMetrics;
     private Event testEvent;
 
     @BeforeEach
     void setUp() {
+        participationMetrics = new ParticipationMetrics(new SimpleMeterRegistry(), 8);
         synchronizedService = new SynchronizedEventParticipationService(eventRepository);
         casService = new CasEventParticipationService(eventRepository);
 
@@ -199,7 +203,7 @@ class EventParticipationServiceUnitTest {
     void casRetryCountTest() {
         when(eventRepository.findById(testEvent.getId())).thenReturn(java.util.Optional.of(testEvent));
 
-        assertThat(casService.getRetryCount()).isEqualTo(0);
+        assertThat(participationMetrics.retryCount("cas")).isEqualTo(0);
 
         EventParticipationDto.Request request = new EventParticipationDto.Request(
                 testEvent.getId(),
@@ -211,10 +215,10 @@ class EventParticipationServiceUnitTest {
         casService.participateInEvent(request);
 
         // 정상 처리 시 재시도 횟수는 0이어야 함
-        assertThat(casService.getRetryCount()).isEqualTo(0);
+        assertThat(participationMetrics.retryCount("cas")).isEqualTo(0);
 
-        casService.resetRetryCount();
-        assertThat(casService.getRetryCount()).isEqualTo(0);
+        participationMetrics.resetRetryCount("cas");
+        assertThat(participationMetrics.retryCount("cas")).isEqualTo(0);
     }
 
     @Test
@@ -231,7 +235,7 @@ class EventParticipationServiceUnitTest {
         long synchronizedDuration = synchronizedEndTime - synchronizedStartTime;
 
         // CAS 방식 성능 측정
-        casService.resetRetryCount();
+        participationMetrics.resetRetryCount("cas");
         long casStartTime = System.currentTimeMillis();
         runConcurrentTest(casService, concurrentUsers);
         long casEndTime = System.currentTimeMillis();
@@ -240,7 +244,7 @@ class EventParticipationServiceUnitTest {
         System.out.println("=== 성능 비교 결과 ===");
         System.out.println("Synchronized 방식: " + synchronizedDuration + "ms");
         System.out.println("CAS 방식: " + casDuration + "ms");
-        System.out.println("CAS 재시도 횟수: " + casService.getRetryCount());
+        System.out.println("CAS 재시도 횟수: " + participationMetrics.retryCount("cas"));
 
         assertThat(synchronizedDuration).isGreaterThan(0);
         assertThat(casDuration).isGreaterThan(0);
@@ -0,0 +1,67 @@
+package com.bookerapp.core.domain.model;
+
+import com.bookerapp.core.domain.exception.InvalidBookException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IsbnTest {
+
+    @Test
+    @DisplayName("체크 숫자가 맞는 ISBN-10/13을 구분자 없이 해석한다")
+    void parsesValidIsbn() {
+        assertThat(Isbn.parse("978-0-13-235088-4").value()).isEqualTo("9780132350884");
+        assertThat(Isbn.parse("0 13 235088 2").value()).isEqualTo("0132350882");
+        assertThat(Isbn.parse("080442957x").value()).isEqualTo("080442957X");
+        assertThat(Isbn.isValid("9791162242742")).isTrue();
+    }
+
+    @Test
+    @DisplayName("ISBN-10은 같은 책의 ISBN-13으로 정규화되고 서로 같은 값으로 취급된다")
+    void normalizesIsbn10ToIsbn13() {
+        Isbn isbn10 = Isbn.parse("0132350882");
+        Isbn isbn13 = Isbn.parse("9780132350884");
+
+        assertThat(isbn10.toIsbn13()).isEqualTo("9780132350884");
+        assertThat(isbn13.toIsbn10()).isEqualTo("0132350882");
+        assertThat(isbn10).isEqualTo(isbn13).hasSameHashCodeAs(isbn13);
+        assertThat(Isbn.parse("080442957X").toIsbn13()).isEqualTo("9780804429573");
+        assertThat(Isbn.parse("9791162242742").toIsbn10()).isNull();
+        assertThat(isbn13.lookupKeys()).containsExactly("9780132350884", "0132350882");
+    }
+
+    @Test
+    @DisplayName("체크 숫자 오류, 자릿수 오류, 앞뒤 잡음이 있으면 거부한다")
+    void rejectsInvalidIsbn() {
+        assertThat(Isbn.isValid("9780132350885")).isFalse();
+        assertThat(Isbn.isValid("0132350883")).isFalse();
+        assertThat(Isbn.isValid("1234567890123")).isFalse();
+        // 기존 정규식(^\d{10}|\d{13}$)은 앞 10자리만 숫자이면 통과시켰다
+        assertThat(Isbn.isValid("0132350882abc")).isFalse();
+        assertThat(Isbn.isValid("01323508X2")).isFalse();
+        assertThat(Isbn.isValid("")).isFalse();
+        assertThat(Isbn.isValid(null)).isFalse();
+        assertThat(Isbn.toIsbn13Number("12345")).isEqualTo(Isbn.INVALID);
+    }
+
+    @Test
+    @DisplayName("형식 오류와 체크 숫자 오류는 다른 메시지로 InvalidBookException")
+    void describesError() {
+        assertThatThrownBy(() -> Isbn.parse("12345"))
+                .isInstanceOf(InvalidBookException.class)
+                .hasMessage("ISBN은 10자리 또는 13자리 숫자여야 합니다.");
+        assertThatThrownBy(() -> Isbn.parse("9780132350885"))
+                .isInstanceOf(InvalidBookException.class)
+                .hasMessageContaining("체크 숫자");
+    }
+
+    @Test
+    @DisplayName("구분자가 없는 입력은 같은 문자열 인스턴스를 그대로 사용한다")
+    void reusesCompactInput() {
+        String input = "9780132350884";
+
+        assertThat(Isbn.parse(input).value()).isSameAs(input);
+    }
+}
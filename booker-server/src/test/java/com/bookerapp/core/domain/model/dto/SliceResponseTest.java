@@ -0,0 +1,68 @@
+package com.bookerapp.core.domain.model.dto;
+
+import com.bookerapp.core.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SliceResponseTest {
+
+    @Test
+    @DisplayName("커서는 정렬 키와 ID를 그대로 복원한다")
+    void cursorRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+
+        SliceCursor decoded = SliceCursor.decode(SliceCursor.of(createdAt, 42L).encode());
+
+        assertThat(decoded).isEqualTo(SliceCursor.of(createdAt, 42L));
+        assertThat(SliceCursor.decode(SliceCursor.of(null, 7L).encode())).isEqualTo(SliceCursor.of(null, 7L));
+        assertThat(SliceCursor.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 InvalidCursorException")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> SliceCursor.decode("not-a-cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> SliceCursor.decode("bm8tc2VwYXJhdG9y"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 키가 없는 관련도 순 커서로는 키셋 조회를 이어갈 수 없다")
+    void keysetRequiresSortKey() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+        assertThat(SliceCursor.of(createdAt, 42L).requireKey()).isEqualTo(createdAt);
+        assertThatThrownBy(() -> SliceCursor.decode(SliceCursor.of(null, 7L).encode()).requireKey())
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("size + 1건을 받으면 초과분을 잘라내고 마지막 행의 커서를 만든다")
+    void trimsExtraRowAndBuildsNextCursor() {
+        SliceResponse<Long> slice = SliceResponse.of(List.of(5L, 4L, 3L), 2, id -> SliceCursor.of(null, id), null);
+
+        assertThat(slice.getContent()).containsExactly(5L, 4L);
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(SliceCursor.decode(slice.getNextCursor()).id()).isEqualTo(4L);
+        assertThat(slice.getTotalElements()).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 조각이면 nextCursor가 없다")
+    void lastSliceHasNoCursor() {
+        SliceResponse<String> slice = SliceResponse.of(List.of(1L, 2L), 2, id -> SliceCursor.of(null, id), 2L)
+                .map(String::valueOf);
+
+        assertThat(slice.getContent()).containsExactly("1", "2");
+        assertThat(slice.isHasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+        assertThat(slice.getTotalElements()).isEqualTo(2L);
+    }
+}
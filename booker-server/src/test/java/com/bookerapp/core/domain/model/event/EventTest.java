@@ -0,0 +1,119 @@
+package com.bookerapp.core.domain.model.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventTest {
+
+    @Test
+    @DisplayName("참여자를 추가하면 정원까지는 확정, 이후로는 대기 순번이 부여되고 집계가 갱신된다")
+    void addParticipantMaintainsCounts() {
+        // given
+        Event event = event(2);
+
+        // when
+        EventParticipation first = event.addParticipant(member("m1"));
+        EventParticipation second = event.addParticipant(member("m2"));
+        EventParticipation third = event.addParticipant(member("m3"));
+        EventParticipation fourth = event.addParticipant(member("m4"));
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(ParticipationStatus.CONFIRMED);
+        assertThat(second.getStatus()).isEqualTo(ParticipationStatus.CONFIRMED);
+        assertThat(third.getWaitingNumber()).isEqualTo(1);
+        assertThat(fourth.getWaitingNumber()).isEqualTo(2);
+        assertThat(event.getConfirmedCount()).isEqualTo(2);
+        assertThat(event.getWaitingCount()).isEqualTo(2);
+        assertThat(event.getLastWaitingNumber()).isEqualTo(2);
+        assertThat(event.isFullyBooked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("확정 참여자가 취소하면 대기열 선두가 승격되고 나머지 대기자의 순번은 그대로 유지된다")
+    void cancelParticipationPromotesHead() {
+        // given
+        Event event = event(1);
+        EventParticipation confirmed = event.addParticipant(member("m1"));
+        EventParticipation waiting1 = event.addParticipant(member("m2"));
+        EventParticipation waiting2 = event.addParticipant(member("m3"));
+
+        // when
+        event.cancelParticipation(confirmed);
+        assertThat(event.hasPromotableWaiter()).isTrue();
+        event.promote(waiting1);
+
+        // then
+        assertThat(confirmed.getStatus()).isEqualTo(ParticipationStatus.CANCELLED);
+        assertThat(waiting1.getStatus()).isEqualTo(ParticipationStatus.CONFIRMED);
+        assertThat(waiting2.getWaitingNumber()).isEqualTo(2);
+        assertThat(event.getConfirmedCount()).isEqualTo(1);
+        assertThat(event.getWaitingCount()).isEqualTo(1);
+        assertThat(event.hasPromotableWaiter()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기자 5,000명에서 승격 시 상태가 바뀌는 대기자는 승격 대상 한 명뿐이다 (SQL 수는 EventPromotionQueryCountTest)")
+    void promotionTouchesSingleRowForLargeWaitlist() {
+        // given
+        int waitlistSize = 5_000;
+        Event event = event(1);
+        EventParticipation confirmed = event.addParticipant(member("confirmed"));
+        List<EventParticipation> waiting = new ArrayList<>();
+        for (int i = 0; i < waitlistSize; i++) {
+            waiting.add(event.addParticipant(member("w" + i)));
+        }
+        List<String> before = snapshot(waiting);
+
+        // when
+        event.cancelParticipation(confirmed);
+        event.promote(waiting.get(0));
+
+        // then
+        List<String> after = snapshot(waiting);
+        long changedRows = IntStream.range(0, waitlistSize)
+                .filter(i -> !before.get(i).equals(after.get(i)))
+                .count();
+        assertThat(changedRows).isEqualTo(1);
+        assertThat(event.getWaitingCount()).isEqualTo(waitlistSize - 1);
+        assertThat(waiting.get(1).getWaitingNumber()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이벤트를 취소하면 집계가 초기화된다")
+    void cancelEventResetsCounts() {
+        // given
+        Event event = event(1);
+        event.addParticipant(member("m1"));
+        event.addParticipant(member("m2"));
+
+        // when
+        event.cancelEvent();
+
+        // then
+        assertThat(event.getConfirmedCount()).isZero();
+        assertThat(event.getWaitingCount()).isZero();
+        assertThat(event.isFullyBooked()).isFalse();
+    }
+
+    private List<String> snapshot(List<EventParticipation> participations) {
+        return participations.stream()
+                .map(p -> p.getStatus() + ":" + p.getWaitingNumber())
+                .toList();
+    }
+
+    private Event event(int maxParticipants) {
+        return new Event("이벤트", "설명", EventType.MEETUP,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), maxParticipants, null);
+    }
+
+    private Member member(String memberId) {
+        return new Member(memberId, memberId, memberId + "@test.com");
+    }
+}
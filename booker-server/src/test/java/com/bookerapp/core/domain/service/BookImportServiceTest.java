@@ -0,0 +1,136 @@
+package com.bookerapp.core.domain.service;
+
+import com.bookerapp.core.domain.model.dto.BookImportDto;
+import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.infrastructure.repository.BookImportJdbcRepository;
+import com.bookerapp.core.infrastructure.search.BookSearchEngine;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookImportServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BookImportJdbcRepository bookImportJdbcRepository;
+
+    @Mock
+    private BookSearchEngine bookSearchEngine;
+
+    @Mock
+    private CatalogStatistics catalogStatistics;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BookImportService bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        bookImportService = new BookImportService(bookRepository, bookImportJdbcRepository, bookSearchEngine,
+                catalogStatistics, transactionTemplate, 2, 10);
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("청크마다 기존 ISBN을 한 번에 조회하고 남은 행만 배치로 저장한다")
+    void dedupesPerChunkAndInsertsInBatches() {
+        given(bookRepository.findExistingIsbns(anyCollection())).willAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).contains("9780132350884")
+                        ? List.of("9780132350884") : List.of());
+        given(bookImportJdbcRepository.batchInsert(anyList())).willAnswer(invocation ->
+                ids(invocation.<List<BookImportDto.Row>>getArgument(0).size()));
+
+        BookImportDto.Result result = bookImportService.importBooks(stream("""
+                title,author,isbn
+                Clean Code,Robert C. Martin,9780132350884
+                Refactoring,Martin Fowler,9780134757599
+                Refactoring,Martin Fowler,9780134757599
+                Effective Java,Joshua Bloch,12345
+                Domain-Driven Design,Eric Evans,
+                """), BookImportDto.Format.CSV);
+
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(5);
+            assertThat(error.getIsbn()).isEqualTo("12345");
+        });
+
+        ArgumentCaptor<List<BookImportDto.Row>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bookImportJdbcRepository, times(2)).batchInsert(captor.capture());
+        assertThat(captor.getAllValues().get(0)).extracting(BookImportDto.Row::title).containsExactly("Refactoring");
+        assertThat(captor.getAllValues().get(1)).extracting(BookImportDto.Row::title).containsExactly("Domain-Driven Design");
+        verify(bookRepository, times(1)).findExistingIsbns(anyCollection());
+        verify(bookSearchEngine, times(2)).onImported(anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("배치가 중복 키로 실패하면 행 단위로 다시 저장해 실패 행만 보고한다")
+    void retriesRowsIndividuallyWhenBatchRejected() {
+        given(bookRepository.findExistingIsbns(anyCollection())).willReturn(List.of());
+        given(bookImportJdbcRepository.batchInsert(anyList())).willAnswer(invocation -> {
+            List<BookImportDto.Row> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> "9780134757599".equals(row.isbn()))) {
+                throw new DuplicateKeyException("Duplicate entry '9780134757599'");
+            }
+            return ids(rows.size());
+        });
+
+        BookImportDto.Result result = bookImportService.importBooks(stream("""
+                {"title": "Clean Code", "author": "Robert C. Martin", "isbn": "9780132350884"}
+                {"title": "Refactoring", "author": "Martin Fowler", "isbn": "9780134757599"}
+                """), BookImportDto.Format.JSONL);
+
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(2);
+            assertThat(error.getMessage()).contains("Duplicate entry");
+        });
+    }
+
+    private static List<Long> ids(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            ids.add(i);
+        }
+        return ids;
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
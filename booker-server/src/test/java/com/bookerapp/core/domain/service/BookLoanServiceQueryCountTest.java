@@ -0,0 +1,109 @@
+package com.bookerapp.core.domain.service;
+
+import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.domain.model.dto.BookLoanDto;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대출 목록 조회 SQL 수 - 페이지 크기와 관계없이 일정해야 한다 (도서 N+1 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"test", "h2"})
+@Transactional
+class BookLoanServiceQueryCountTest {
+
+    private static final String MEMBER_ID = "query-count-member";
+    private static final int LOAN_COUNT = 20;
+
+    @Autowired
+    private BookLoanService bookLoanService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 회원이 먼저 대출한 도서에 대기 신청 - 어느 페이지든 대기 순번 조회까지 같은 SQL이 나가도록 모두 WAITING
+        for (int i = 0; i < LOAN_COUNT; i++) {
+            BookDto.Request book = new BookDto.Request();
+            book.setTitle("Query Count Book " + i);
+            book.setAuthor("Author " + i);
+            BookLoanDto.Request loan = new BookLoanDto.Request();
+            loan.setBookId(bookService.createBook(book, null).getId());
+            // 대출 신청의 도서 선점 UPDATE는 도서가 영속성 컨텍스트에 없을 때를 전제로 한다 (요청마다 트랜잭션이 다른 실제 흐름과 같게)
+            entityManager.flush();
+            entityManager.clear();
+            bookLoanService.createLoan("other-member", loan);
+            bookLoanService.createLoan(MEMBER_ID, loan);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("페이지 목록 - 도서를 함께 조회해 페이지 크기와 관계없이 SQL 수가 같다")
+    void pageStatementCountIsIndependentOfPageSize() {
+        long small = statementsOf(() -> bookLoanService.getMyLoans(MEMBER_ID, searchRequest(5)),
+                page -> assertThat(page.getContent()).hasSize(5)
+                        .allSatisfy(response -> assertThat(response.getWaitingPosition()).isEqualTo(1)));
+        long full = statementsOf(() -> bookLoanService.getMyLoans(MEMBER_ID, searchRequest(LOAN_COUNT)),
+                page -> assertThat(page.getContent()).hasSize(LOAN_COUNT)
+                        .allSatisfy(response -> assertThat(response.getBookTitle()).startsWith("Query Count Book")));
+
+        // 목록 + COUNT + 대기 순번
+        assertThat(full).isEqualTo(small).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("커서 목록 - 도서를 함께 조회해 페이지 크기와 관계없이 SQL 수가 같다")
+    void sliceStatementCountIsIndependentOfPageSize() {
+        long small = statementsOf(() -> bookLoanService.getMyLoansSlice(MEMBER_ID, searchRequest(5), null, false),
+                slice -> assertThat(slice.getContent()).hasSize(5));
+        long full = statementsOf(() -> bookLoanService.getMyLoansSlice(MEMBER_ID, searchRequest(LOAN_COUNT), null, false),
+                slice -> assertThat(slice.getContent()).hasSize(LOAN_COUNT)
+                        .allSatisfy(response -> assertThat(response.getStatus()).isEqualTo(LoanStatus.WAITING)));
+
+        // 목록 + 대기 순번
+        assertThat(full).isEqualTo(small).isEqualTo(2);
+    }
+
+    private <T> long statementsOf(Supplier<T> listing, Consumer<T> verify) {
+        entityManager.clear();
+        statistics.clear();
+        T result = listing.get();
+        long statements = statistics.getPrepareStatementCount();
+        verify.accept(result);
+        return statements;
+    }
+
+    private BookLoanDto.SearchRequest searchRequest(int size) {
+        BookLoanDto.SearchRequest request = new BookLoanDto.SearchRequest();
+        request.setSize(size);
+        return request;
+    }
+}
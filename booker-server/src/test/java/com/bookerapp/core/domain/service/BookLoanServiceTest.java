@@ -7,6 +7,10 @@ import com.bookerapp.core.domain.model.enums.BookStatus;
 import com.bookerapp.core.domain.model.enums.LoanStatus;
 import com.bookerapp.core.domain.repository.BookLoanRepository;
 import com.bookerapp.core.domain.repository.BookRepository;
+import com.bookerapp.core.domain.repository.MemberFeeBalanceRepository;
+import com.bookerapp.core.infrastructure.cache.BookCache;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
+import com.bookerapp.core.infrastructure.waitlist.WaitlistHandOff;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,13 +23,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -39,6 +45,18 @@ class BookLoanServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookCache bookCache;
+
+    @Mock
+    private CatalogStatistics catalogStatistics;
+
+    @Mock
+    private WaitlistHandOff waitlistHandOff;
+
+    @Mock
+    private MemberFeeBalanceRepository memberFeeBalanceRepository;
+
     @InjectMocks
     private BookLoanService bookLoanService;
 
@@ -60,8 +78,8 @@ class BookLoanServiceTest {
         Book book = mock(Book.class);
         when(book.getId()).thenReturn(BOOK_ID);
 
-        given(bookRepository.findById(BOOK_ID)).willReturn(Optional.of(book));
-        given(bookLoanRepository.existsByBookIdAndStatusIn(any(), any())).willReturn(false);
+        given(bookRepository.reserveForLoan(BOOK_ID)).willReturn(1);
+        given(bookRepository.findActiveById(BOOK_ID)).willReturn(Optional.of(book));
         given(bookLoanRepository.save(any(BookLoan.class))).will(invocation -> invocation.getArgument(0));
 
         // when
@@ -76,12 +94,15 @@ class BookLoanServiceTest {
                     assertThat(r.getStatus()).isEqualTo(LoanStatus.ACTIVE);
                 });
         verify(bookLoanRepository).save(any(BookLoan.class));
+        verify(bookCache).invalidateAfterCommit(BOOK_ID);
+        verify(catalogStatistics).bookChanged(
+                argThat(before -> before.status() == BookStatus.AVAILABLE), any(CatalogStatistics.BookState.class));
     }
 
     @Test
     void createLoan_도서_없음_실패() {
         // given
-        given(bookRepository.findById(BOOK_ID)).willReturn(Optional.empty());
+        given(bookRepository.findActiveById(BOOK_ID)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> bookLoanService.createLoan(MEMBER_ID, createLoanRequest))
@@ -95,11 +116,9 @@ class BookLoanServiceTest {
         Book book = mock(Book.class);
         when(book.getId()).thenReturn(BOOK_ID);
 
-        given(bookRepository.findById(BOOK_ID)).willReturn(Optional.of(book));
-        given(bookLoanRepository.existsByBookIdAndStatusIn(
-                eq(BOOK_ID),
-                eq(Arrays.asList(LoanStatus.ACTIVE, LoanStatus.PENDING))
-        )).willReturn(true);
+        // 다른 요청이 먼저 선점 (AVAILABLE이 아님)
+        given(bookRepository.reserveForLoan(BOOK_ID)).willReturn(0);
+        given(bookRepository.findActiveById(BOOK_ID)).willReturn(Optional.of(book));
         given(bookLoanRepository.save(any(BookLoan.class))).will(invocation -> invocation.getArgument(0));
 
         // when
@@ -114,6 +133,7 @@ class BookLoanServiceTest {
                     assertThat(r.getStatus()).isEqualTo(LoanStatus.WAITING);
                 });
         verify(bookLoanRepository).save(any(BookLoan.class));
+        verifyNoInteractions(bookCache, catalogStatistics);
     }
 
     @Test
@@ -122,11 +142,8 @@ class BookLoanServiceTest {
         Book book = mock(Book.class);
         when(book.getId()).thenReturn(BOOK_ID);
 
-        given(bookRepository.findById(BOOK_ID)).willReturn(Optional.of(book));
-        given(bookLoanRepository.existsByBookIdAndStatusIn(
-                eq(BOOK_ID),
-                eq(Arrays.asList(LoanStatus.ACTIVE, LoanStatus.PENDING))
-        )).willReturn(true);
+        given(bookRepository.reserveForLoan(BOOK_ID)).willReturn(0);
+        given(bookRepository.findActiveById(BOOK_ID)).willReturn(Optional.of(book));
         given(bookLoanRepository.save(any(BookLoan.class))).will(invocation -> invocation.getArgument(0));
 
         // when
@@ -158,8 +175,8 @@ class BookLoanServiceTest {
 
         given(bookLoanRepository.findById(LOAN_ID)).willReturn(Optional.of(bookLoan));
         given(bookLoanRepository.save(any(BookLoan.class))).willReturn(bookLoan);
-        given(bookLoanRepository.findWaitingListByBookId(BOOK_ID, LoanStatus.WAITING))
-                .willReturn(Collections.emptyList());
+        given(bookLoanRepository.existsByBookIdAndStatusIn(BOOK_ID, List.of(LoanStatus.WAITING)))
+                .willReturn(false);
 
         // when
         BookLoanDto.Response response = bookLoanService.returnBook(MEMBER_ID, LOAN_ID);
@@ -172,6 +189,52 @@ class BookLoanServiceTest {
                     assertThat(r.getReturnDate()).isNotNull();
                 });
         verify(bookLoanRepository).save(any(BookLoan.class));
+        verify(book, never()).updateStatus(BookStatus.RESERVED);
+        verifyNoInteractions(waitlistHandOff);
+    }
+
+    @Test
+    void returnBook_대기자있으면_보관후_인계() {
+        // given
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(BOOK_ID);
+
+        BookLoan bookLoan = mock(BookLoan.class);
+        when(bookLoan.getBook()).thenReturn(book);
+        when(bookLoan.getMemberId()).thenReturn(MEMBER_ID);
+        when(bookLoan.getStatus()).thenReturn(LoanStatus.RETURNED);
+
+        given(bookLoanRepository.findById(LOAN_ID)).willReturn(Optional.of(bookLoan));
+        given(bookLoanRepository.save(any(BookLoan.class))).willReturn(bookLoan);
+        given(bookLoanRepository.existsByBookIdAndStatusIn(BOOK_ID, List.of(LoanStatus.WAITING)))
+                .willReturn(true);
+
+        // when
+        bookLoanService.returnBook(MEMBER_ID, LOAN_ID);
+
+        // then
+        verify(bookLoan).processReturn();
+        verify(book).updateStatus(BookStatus.RESERVED);
+        verify(waitlistHandOff).handOffAfterCommit(BOOK_ID);
+        verify(bookLoanRepository, never()).findFirstByBookIdAndStatusOrderByCreatedAtAscIdAsc(any(), any());
+    }
+
+    @Test
+    void pickUpLoan_수령기한_지나면_실패() {
+        // given
+        BookLoan bookLoan = mock(BookLoan.class);
+        when(bookLoan.getMemberId()).thenReturn(MEMBER_ID);
+        when(bookLoan.getStatus()).thenReturn(LoanStatus.PENDING);
+        when(bookLoan.getHoldExpiresAt()).thenReturn(LocalDateTime.now().minusMinutes(1));
+        when(bookLoan.isHoldExpired(any(LocalDateTime.class))).thenReturn(true);
+
+        given(bookLoanRepository.findById(LOAN_ID)).willReturn(Optional.of(bookLoan));
+
+        // when & then
+        assertThatThrownBy(() -> bookLoanService.pickUpLoan(MEMBER_ID, LOAN_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("수령 기한이 지났습니다");
+        verify(bookLoan, never()).processLoan();
     }
 
     @Test
@@ -266,6 +329,39 @@ class BookLoanServiceTest {
                 });
     }
 
+    @Test
+    void getMyLoans_대기순번_한번에_조회() {
+        // given
+        BookLoanDto.SearchRequest request = new BookLoanDto.SearchRequest();
+        request.setPage(0);
+        request.setSize(10);
+
+        Book book = mock(Book.class);
+        when(book.getId()).thenReturn(BOOK_ID);
+
+        BookLoan active = mock(BookLoan.class);
+        when(active.getId()).thenReturn(1L);
+        when(active.getBook()).thenReturn(book);
+        when(active.getStatus()).thenReturn(LoanStatus.ACTIVE);
+
+        BookLoan firstWaiting = waitingLoan(2L, book);
+        BookLoan secondWaiting = waitingLoan(3L, book);
+
+        given(bookLoanRepository.findByMemberIdAndStatusIn(eq(MEMBER_ID), any(), any(PageRequest.class)))
+                .willReturn(new PageImpl<>(List.of(active, firstWaiting, secondWaiting)));
+        given(bookLoanRepository.findWaitingPositions(Set.of(BOOK_ID), List.of(2L, 3L)))
+                .willReturn(List.of(waitingPosition(2L, 4), waitingPosition(3L, 7)));
+
+        // when
+        Page<BookLoanDto.Response> response = bookLoanService.getMyLoans(MEMBER_ID, request);
+
+        // then
+        assertThat(response.getContent())
+                .extracting(BookLoanDto.Response::getWaitingPosition)
+                .containsExactly(null, 4, 7);
+        verify(bookLoanRepository, times(1)).findWaitingPositions(any(), any());
+    }
+
     @Test
     void getLoan_성공() {
         // given
@@ -305,4 +401,41 @@ class BookLoanServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("본인의 대출 기록만 조회할 수 있습니다");
     }
+
+    private static BookLoan waitingLoan(Long id, Book book) {
+        BookLoan loan = mock(BookLoan.class);
+        when(loan.getId()).thenReturn(id);
+        when(loan.getBook()).thenReturn(book);
+        when(loan.getStatus()).thenReturn(LoanStatus.WAITING);
+        return loan;
+    }
+
+    private static BookLoanRepository.WaitingPosition waitingPosition(Long loanId, long position) {
+        return new BookLoanRepository.WaitingPosition() {
+            @Override
+            public Long getLoanId() {
+                return loanId;
+            }
+
+            @Override
+            public Long getWaitingPosition() {
+                return position;
+            }
+        };
+    }
+
+    @Test
+    void getFeeBalance_적립내역이_없으면_0() {
+        // given
+        given(memberFeeBalanceRepository.findById(MEMBER_ID)).willReturn(Optional.empty());
+
+        // when
+        BookLoanDto.FeeBalanceResponse response = bookLoanService.getFeeBalance(MEMBER_ID);
+
+        // then
+        assertThat(response.getMemberId()).isEqualTo(MEMBER_ID);
+        assertThat(response.getBalance()).isZero();
+        assertThat(response.getUpdatedAt()).isNull();
+        verifyNoInteractions(bookLoanRepository);
+    }
 }
@@ -0,0 +1,93 @@
+package com.bookerapp.core.domain.service;
+
+import com.bookerapp.core.domain.model.dto.EventParticipationDto;
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventType;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles({"test", "h2"})
+@Transactional
+class EventParticipationServiceTest {
+
+    private static final String MEMBER_ID = "rejoin-member";
+
+    @Autowired
+    private EventParticipationService eventParticipationService;
+
+    @Autowired
+    private DefaultEventService defaultEventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        Member presenter = memberRepository.save(new Member("rejoin-presenter", "Presenter", "presenter@test.com"));
+        member = memberRepository.save(new Member(MEMBER_ID, "Member", "member@test.com"));
+        eventId = eventRepository.save(new Event(
+                "Rejoin Event",
+                "Test Description",
+                EventType.TECH_TALK,
+                LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(1).plusHours(2),
+                5,
+                presenter
+        )).getId();
+    }
+
+    @Test
+    @DisplayName("참여 중인 회원의 중복 신청은 거부한다")
+    void rejectsDuplicateParticipation() {
+        eventParticipationService.participateWithSynchronized(eventId, new EventParticipationDto.Request(MEMBER_ID));
+
+        assertThatThrownBy(() -> eventParticipationService.participateWithCAS(eventId, new EventParticipationDto.Request(MEMBER_ID)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("참여를 취소한 회원은 다시 신청할 수 있다 (취소 행은 CANCELLED로 남는다)")
+    void cancelledMemberCanParticipateAgain() {
+        eventParticipationService.participateWithSynchronized(eventId, new EventParticipationDto.Request(MEMBER_ID));
+        defaultEventService.removeParticipant(eventId, member);
+        entityManager.flush();
+        entityManager.clear();
+
+        EventParticipationDto.Response synchronizedRejoin =
+                eventParticipationService.participateWithSynchronized(eventId, new EventParticipationDto.Request(MEMBER_ID));
+        defaultEventService.removeParticipant(eventId, member);
+        entityManager.flush();
+        entityManager.clear();
+        EventParticipationDto.Response casRejoin =
+                eventParticipationService.participateWithCAS(eventId, new EventParticipationDto.Request(MEMBER_ID));
+
+        assertThat(synchronizedRejoin.getStatus()).isEqualTo(ParticipationStatus.CONFIRMED);
+        assertThat(casRejoin.getStatus()).isEqualTo(ParticipationStatus.CONFIRMED);
+        assertThat(casRejoin.getId()).isNotEqualTo(synchronizedRejoin.getId());
+    }
+}
@@ -0,0 +1,131 @@
+package com.bookerapp.core.domain.service;
+
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventParticipation;
+import com.bookerapp.core.domain.model.event.EventType;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.model.event.ParticipationStatus;
+import com.bookerapp.core.domain.repository.EventParticipationRepository;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import com.bookerapp.core.infrastructure.repository.EventParticipationJdbcRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기자 승격 SQL 수 - 대기열 길이와 관계없이 일정해야 한다
+ * (대기 순위를 waitingNumber로부터 계산하므로 남은 대기자의 순번을 다시 매기지 않는다)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"test", "h2"})
+@Transactional
+class EventPromotionQueryCountTest {
+
+    @Autowired
+    private DefaultEventService defaultEventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EventParticipationRepository participationRepository;
+
+    @Autowired
+    private EventParticipationJdbcRepository participationJdbcRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("확정 참여자 취소 시 대기자 5,000명이어도 10명일 때와 같은 수의 SQL로 선두 한 명만 승격한다")
+    void promotionStatementCountIsIndependentOfWaitlistSize() {
+        WaitlistedEvent smallEvent = eventWithWaitlist("small", 10);
+        WaitlistedEvent largeEvent = eventWithWaitlist("large", 5_000);
+
+        long[] small = promotionStatements(smallEvent);
+        long[] large = promotionStatements(largeEvent);
+
+        // 참여 행 갱신은 취소 행과 승격 행 두 건 - 남은 대기자 순번을 다시 매기면 대기자 수만큼 늘어난다
+        assertThat(large[1]).isEqualTo(small[1]).isEqualTo(2);
+        assertThat(large[0]).isEqualTo(small[0]);
+        assertThat(participationRepository.findFirstByEventIdAndStatusOrderByWaitingNumberAsc(largeEvent.eventId(), ParticipationStatus.WAITING))
+                .hasValueSatisfying(head -> assertThat(head.getWaitingNumber()).isEqualTo(2));
+    }
+
+    /**
+     * @return {실행된 SQL 수, 갱신된 참여 행 수}
+     */
+    private long[] promotionStatements(WaitlistedEvent event) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        defaultEventService.removeParticipant(event.eventId(), event.confirmed());
+        entityManager.flush();
+
+        long[] counts = {statistics.getPrepareStatementCount(),
+                statistics.getEntityStatistics(EventParticipation.class.getName()).getUpdateCount()};
+        entityManager.clear();
+        return counts;
+    }
+
+    /**
+     * 정원 1명이 찬 이벤트에 대기자를 JDBC 배치로 등록
+     *
+     * @return 이벤트 ID와 확정 참여자
+     */
+    private WaitlistedEvent eventWithWaitlist(String title, int waitlistSize) {
+        Member presenter = memberRepository.save(new Member(title + "-presenter", "Presenter", title + "-presenter@test.com"));
+        Event event = eventRepository.save(new Event(title, "Test Description", EventType.TECH_TALK,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 1, presenter));
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i <= waitlistSize; i++) {
+            members.add(new Member(title + "-member" + i, "Member", title + "-member" + i + "@test.com"));
+        }
+        members = memberRepository.saveAll(members);
+        entityManager.flush();
+
+        List<EventParticipationJdbcRepository.Row> rows = new ArrayList<>();
+        rows.add(new EventParticipationJdbcRepository.Row(
+                new EventParticipation(event, members.get(0), ParticipationStatus.CONFIRMED), "test"));
+        for (int i = 1; i <= waitlistSize; i++) {
+            rows.add(new EventParticipationJdbcRepository.Row(
+                    new EventParticipation(event, members.get(i), ParticipationStatus.WAITING, i), "test"));
+        }
+        participationJdbcRepository.batchInsert(rows);
+        eventRepository.applyParticipationCounts(event.getId(), 1, waitlistSize, waitlistSize);
+        return new WaitlistedEvent(event.getId(), members.get(0));
+    }
+
+    private record WaitlistedEvent(Long eventId, Member confirmed) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.bookerapp.core.infrastructure.cache;
+
+import com.bookerapp.core.domain.model.Isbn;
+import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.domain.model.entity.Book;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookCache bookCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookCache = new BookCache(meterRegistry, true, 100, 300);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 저장소를 거치지 않고 hit/miss가 메트릭에 기록된다")
+    void readsThroughAndRecordsMetrics() {
+        bookCache.get(1L, this::load);
+        BookDto.Response cached = bookCache.get(1L, this::load);
+
+        assertThat(cached.getTitle()).isEqualTo("도서 1");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BookCache.BOOKS).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", BookCache.BOOKS).tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화하면 ID와 ISBN 항목이 모두 다시 로드된다 (ISBN-10/13은 같은 항목)")
+    void invalidatesIdAndIsbn() {
+        bookCache.get(1L, this::load);
+        bookCache.findIdByIsbn(Isbn.parse("9780132350884"), isbn -> Optional.of(1L));
+
+        bookCache.invalidateAfterCommit(1L, "9780132350884");
+
+        bookCache.get(1L, this::load);
+        assertThat(loads).hasValue(2);
+        assertThat(bookCache.findIdByIsbn(Isbn.parse("0132350882"), isbn -> Optional.empty())).isEmpty();
+        assertThat(meterRegistry.get("booker.book.cache.invalidations").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 ISBN은 캐시하지 않는다")
+    void doesNotCacheMissingIsbn() {
+        assertThat(bookCache.findIdByIsbn(Isbn.parse("9788966260959"), isbn -> Optional.empty())).isEmpty();
+
+        assertThat(bookCache.findIdByIsbn(Isbn.parse("9788966260959"), isbn -> Optional.of(3L))).contains(3L);
+    }
+
+    @Test
+    @DisplayName("여러 건 조회는 캐시에 없는 ID만 로더에 넘긴다")
+    void loadsOnlyMissingIds() {
+        bookCache.get(1L, this::load);
+
+        Map<Long, BookDto.Response> responses = bookCache.getAll(List.of(1L, 2L, 3L), ids -> {
+            assertThat(ids).containsExactlyInAnyOrder(2L, 3L);
+            return ids.stream().collect(Collectors.toMap(id -> id, this::load));
+        });
+
+        assertThat(responses).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("여러 건을 적재하는 동안 무효화가 있으면 적재한 항목을 캐시에 남기지 않는다")
+    void dropsBulkLoadRacingWithInvalidation() {
+        bookCache.getAll(List.of(1L, 2L), ids -> {
+            Map<Long, BookDto.Response> stale = ids.stream().collect(Collectors.toMap(id -> id, this::load));
+            // 로더가 읽은 뒤 도서 1 변경이 커밋됨
+            bookCache.invalidateAfterCommit(1L);
+            return stale;
+        });
+
+        bookCache.get(1L, this::load);
+        bookCache.get(2L, this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 항상 로더를 호출하고 다시 켜도 이전 항목이 남아 있지 않다")
+    void bypassesWhenDisabled() {
+        bookCache.get(1L, this::load);
+
+        bookCache.setEnabled(false);
+        bookCache.get(1L, this::load);
+        bookCache.get(1L, this::load);
+        bookCache.setEnabled(true);
+        bookCache.get(1L, this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    private BookDto.Response load(Long id) {
+        loads.incrementAndGet();
+        return BookDto.Response.from(Book.builder()
+                .title("도서 " + id)
+                .author("저자")
+                .isbn("9780132350884")
+                .build());
+    }
+}
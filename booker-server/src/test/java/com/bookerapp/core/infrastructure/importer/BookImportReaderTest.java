@@ -0,0 +1,93 @@
+package com.bookerapp.core.infrastructure.importer;
+
+import com.bookerapp.core.domain.exception.InvalidBookException;
+import com.bookerapp.core.domain.model.dto.BookImportDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookImportReaderTest {
+
+    @Test
+    @DisplayName("CSV는 헤더 순서대로 컬럼을 찾고 따옴표 안의 쉼표/줄바꿈/따옴표를 처리한다")
+    void readsQuotedCsv() {
+        List<BookImportDto.Row> rows = readAll(BookImportDto.Format.CSV, """
+                ISBN,Title,author,publisher
+                9780132350884,"Clean Code, 2nd",Robert C. Martin,Prentice Hall
+
+                9788966260959,"클린 ""코드""
+                개정판",로버트 C. 마틴,
+                """);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).isEqualTo(new BookImportDto.Row(
+                2, "Clean Code, 2nd", "Robert C. Martin", "9780132350884", "Prentice Hall", null, null));
+        assertThat(rows.get(1).line()).isEqualTo(4);
+        assertThat(rows.get(1).title()).isEqualTo("클린 \"코드\"\n개정판");
+        assertThat(rows.get(1).publisher()).isNull();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 행 오류로 돌려준다")
+    void reportsUnclosedQuote() {
+        List<BookImportDto.Row> rows = readAll(BookImportDto.Format.CSV, "title,author\n\"Clean Code,Robert\n");
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.line()).isEqualTo(2);
+            assertThat(row.parseError()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 필수 컬럼이 없으면 InvalidBookException")
+    void rejectsHeaderWithoutRequiredColumns() {
+        assertThatThrownBy(() -> readAll(BookImportDto.Format.CSV, "isbn,publisher\n9780132350884,Prentice Hall\n"))
+                .isInstanceOf(InvalidBookException.class);
+    }
+
+    @Test
+    @DisplayName("JSONL은 빈 줄을 건너뛰고 잘못된 줄은 해당 행만 오류로 돌려준다")
+    void readsJsonLines() {
+        List<BookImportDto.Row> rows = readAll(BookImportDto.Format.JSONL, """
+                {"title": "Clean Code", "author": "Robert C. Martin", "isbn": "9780132350884"}
+
+                {"title": "broken"
+                {"title": "Refactoring", "author": "Martin Fowler", "coverImageUrl": null}
+                """);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).isbn()).isEqualTo("9780132350884");
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).parseError()).startsWith("JSON 형식 오류");
+        assertThat(rows.get(2).title()).isEqualTo("Refactoring");
+        assertThat(rows.get(2).coverImageUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName("형식을 지정하지 않으면 확장자로 판단한다")
+    void resolvesFormatFromFilename() {
+        assertThat(BookImportDto.Format.resolve(null, "books.ndjson")).isEqualTo(BookImportDto.Format.JSONL);
+        assertThat(BookImportDto.Format.resolve("", "books.csv")).isEqualTo(BookImportDto.Format.CSV);
+        assertThat(BookImportDto.Format.resolve("jsonl", "books.csv")).isEqualTo(BookImportDto.Format.JSONL);
+        assertThatThrownBy(() -> BookImportDto.Format.resolve("xml", "books.xml"))
+                .isInstanceOf(InvalidBookException.class);
+    }
+
+    private static List<BookImportDto.Row> readAll(BookImportDto.Format format, String content) {
+        BookImportReader reader = new BookImportReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format);
+        List<BookImportDto.Row> rows = new ArrayList<>();
+        BookImportDto.Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
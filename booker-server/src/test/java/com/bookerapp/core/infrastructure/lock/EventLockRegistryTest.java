@@ -0,0 +1,94 @@
+package com.bookerapp.core.infrastructure.lock;
+
+import com.bookerapp.core.domain.exception.LockAcquisitionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventLockRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventLockRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new EventLockRegistry(meterRegistry, 16, false, 100);
+    }
+
+    @Test
+    @DisplayName("스트라이프 개수는 2의 거듭제곱으로 올림된다")
+    void stripeCountRoundedToPowerOfTwo() {
+        assertThat(new EventLockRegistry(meterRegistry, 10, false, 100).stripeCount()).isEqualTo(16);
+        assertThat(new EventLockRegistry(meterRegistry, 1, true, 100).stripeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 스트라이프의 이벤트는 락을 기다리지 않고 병렬로 처리된다")
+    void differentEventsProceedInParallel() throws Exception {
+        Long hotEvent = 1L;
+        Long otherEvent = 2L;
+        assertThat(registry.stripeOf(hotEvent)).isNotEqualTo(registry.stripeOf(otherEvent));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> registry.executeWithLock(hotEvent, () -> {
+            locked.countDown();
+            await(release);
+            return null;
+        }));
+        locked.await(1, TimeUnit.SECONDS);
+
+        String result = registry.executeWithLock(otherEvent, () -> "done");
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(result).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("제한 시간 내에 락을 얻지 못하면 예외가 발생하고 타임아웃이 기록된다")
+    void tryLockTimeout() throws Exception {
+        Long eventId = 1L;
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> registry.executeWithLock(eventId, () -> {
+            locked.countDown();
+            await(release);
+            return null;
+        }));
+        locked.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> registry.executeWithLock(eventId, () -> "never"))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(meterRegistry.get("booker.event.lock.timeout").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("booker.event.lock.wait")
+                .tag("stripe", String.valueOf(registry.stripeOf(eventId)))
+                .timer().count()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
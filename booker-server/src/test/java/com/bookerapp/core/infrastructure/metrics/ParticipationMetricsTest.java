@@ -0,0 +1,97 @@
+package com.bookerapp.core.infrastructure.metrics;
+
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics.Outcome;
+import com.bookerapp.core.domain.exception.AlreadyParticipatingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParticipationMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ParticipationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ParticipationMetrics(meterRegistry, 4);
+    }
+
+    @Test
+    @DisplayName("응답 상태별로 결과 카운터와 처리 시간이 전략/이벤트 버킷 태그로 기록된다")
+    void recordOutcome() {
+        metrics.record("cas", 5L, () -> "CONFIRMED", Outcome::fromStatus);
+        metrics.record("cas", 5L, () -> "ALREADY_PARTICIPATING", Outcome::fromStatus);
+
+        assertThat(meterRegistry.get("booker.participation.outcome")
+                .tags("strategy", "cas", "event_bucket", "1", "outcome", "CONFIRMED").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("booker.participation.outcome")
+                .tags("strategy", "cas", "outcome", "ALREADY").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("booker.participation.latency")
+                .tags("strategy", "cas", "outcome", "CONFIRMED").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외가 발생하면 FAILED로 기록하고 예외를 그대로 전파한다")
+    void recordFailure() {
+        assertThatThrownBy(() -> metrics.record("pessimistic", 1L,
+                () -> { throw new IllegalStateException("boom"); }, Outcome::fromStatus))
+                .isInstanceOf(IllegalStateException.class);
+
+        CompletableFuture<String> failed = metrics.recordAsync("batching", 1L,
+                () -> CompletableFuture.failedFuture(new IllegalStateException("boom")), Outcome::fromStatus);
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(meterRegistry.get("booker.participation.outcome")
+                .tags("strategy", "pessimistic", "outcome", "FAILED").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("booker.participation.outcome")
+                .tags("strategy", "batching", "outcome", "FAILED").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("중복 신청 예외는 실패가 아닌 ALREADY로 기록하고 예외를 그대로 전파한다")
+    void recordAlreadyParticipating() {
+        assertThatThrownBy(() -> metrics.record("v1-synchronized", 1L,
+                () -> { throw new AlreadyParticipatingException(); }, Outcome::fromStatus))
+                .isInstanceOf(AlreadyParticipatingException.class);
+
+        CompletableFuture<String> failed = metrics.recordAsync("batching", 1L,
+                () -> CompletableFuture.supplyAsync(() -> { throw new AlreadyParticipatingException(); }), Outcome::fromStatus);
+
+        assertThat(failed).failsWithin(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get("booker.participation.outcome")
+                .tags("strategy", "v1-synchronized", "outcome", "ALREADY").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("booker.participation.outcome")
+                .tags("strategy", "batching", "outcome", "ALREADY").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("booker.participation.outcome").tag("outcome", "FAILED").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수 초기화는 누적 카운터를 유지한 채 기준값만 옮긴다")
+    void retryCountReset() {
+        meterRegistry.counter("booker.participation.retry", "strategy", "cas", "event_bucket", "0").increment(3);
+        meterRegistry.counter("booker.participation.retry", "strategy", "cas", "event_bucket", "1").increment(2);
+        assertThat(metrics.retryCount("cas")).isEqualTo(5);
+
+        metrics.resetRetryCount("cas");
+        meterRegistry.counter("booker.participation.retry", "strategy", "cas", "event_bucket", "0").increment();
+
+        assertThat(metrics.retryCount("cas")).isEqualTo(1);
+        assertThat(meterRegistry.get("booker.participation.retry").tag("event_bucket", "0").counter().count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("이벤트 ID는 설정한 버킷 수로 묶인다")
+    void eventBucket() {
+        assertThat(metrics.eventBucket(9L)).isEqualTo("1");
+        assertThat(metrics.eventBucket(-1L)).isEqualTo("3");
+        assertThat(metrics.eventBucket(null)).isEqualTo("none");
+    }
+}
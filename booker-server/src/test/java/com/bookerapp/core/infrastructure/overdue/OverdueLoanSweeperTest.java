@@ -0,0 +1,135 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import com.bookerapp.core.infrastructure.repository.OverdueFeeJdbcRepository;
+import com.bookerapp.core.infrastructure.repository.OverdueFeeJdbcRepository.Accrual;
+import com.bookerapp.core.infrastructure.repository.OverdueFeeJdbcRepository.AccrualCandidate;
+import com.bookerapp.core.infrastructure.repository.OverdueFeeJdbcRepository.Entry;
+import com.bookerapp.core.infrastructure.repository.OverdueLoanJdbcRepository;
+import com.bookerapp.core.infrastructure.repository.SchedulerLeaseRepository;
+import com.bookerapp.core.infrastructure.stats.CatalogStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueLoanSweeperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Mock
+    private OverdueLoanJdbcRepository overdueLoanRepository;
+
+    @Mock
+    private OverdueFeeJdbcRepository overdueFeeRepository;
+
+    @Mock
+    private SchedulerLeaseRepository leaseRepository;
+
+    @Mock
+    private CatalogStatistics catalogStatistics;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OverdueLoanSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new OverdueLoanSweeper(overdueLoanRepository, overdueFeeRepository, leaseRepository, catalogStatistics, eventPublisher,
+                transactionTemplate, meterRegistry, true, 2, 60_000);
+    }
+
+    @Test
+    @DisplayName("임대를 얻으면 ID 키셋 청크로 전환하고 청크마다 전환된 ID를 발행한다")
+    void marksInKeysetChunksAndPublishesIds() {
+        given(leaseRepository.tryAcquire(eq(OverdueLoanSweeper.LEASE_NAME), anyString(), eq(NOW), eq(NOW.plusMinutes(1))))
+                .willReturn(true);
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+        given(overdueLoanRepository.lockOverdueIds(NOW, 0L, 2)).willReturn(List.of(3L, 7L));
+        given(overdueLoanRepository.lockOverdueIds(NOW, 7L, 2)).willReturn(List.of(9L));
+        given(overdueLoanRepository.markOverdue(anyList(), eq(NOW)))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        int marked = sweeper.sweep(NOW);
+
+        assertThat(marked).isEqualTo(3);
+        ArgumentCaptor<LoansOverdueEvent> events = ArgumentCaptor.forClass(LoansOverdueEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(LoansOverdueEvent::loanIds)
+                .containsExactly(List.of(3L, 7L), List.of(9L));
+        verify(catalogStatistics).loansChanged(LoanStatus.ACTIVE, LoanStatus.OVERDUE, 2);
+        verify(catalogStatistics).loansChanged(LoanStatus.ACTIVE, LoanStatus.OVERDUE, 1);
+        verify(leaseRepository).release(eq(OverdueLoanSweeper.LEASE_NAME), anyString(), any());
+        assertThat(meterRegistry.get("booker.loan.overdue.marked").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("booker.loan.overdue.sweep").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대 중이면 아무것도 전환하지 않는다")
+    void skipsWhenLeaseHeldElsewhere() {
+        given(leaseRepository.tryAcquire(anyString(), anyString(), any(), any())).willReturn(false);
+
+        assertThat(sweeper.sweep(NOW)).isZero();
+
+        verify(overdueLoanRepository, never()).lockOverdueIds(any(), anyLong(), eq(2));
+        verify(leaseRepository, never()).release(anyString(), anyString(), any());
+        assertThat(meterRegistry.get("booker.loan.overdue.sweep.skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연체료는 마지막 적립 이후 지난 연체일마다 원장 행으로 적립하고 회원별로 합산한다")
+    void accruesMissedOverdueDaysPerMember() {
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+        LocalDateTime dueA = NOW.minusDays(3).minusHours(12);
+        LocalDateTime dueB = NOW.minusDays(2).minusHours(1);
+        given(overdueFeeRepository.lockAccrualCandidates(NOW.minusDays(1), 0L, 2)).willReturn(List.of(
+                new AccrualCandidate(3L, "member-1", dueA, null),
+                new AccrualCandidate(7L, "member-1", dueB, dueB.plusDays(1))));
+
+        int days = sweeper.accrueFees(NOW);
+
+        assertThat(days).isEqualTo(4);
+        verify(overdueFeeRepository).appendEntries(List.of(
+                new Entry(3L, "member-1", 1, 100, dueA.plusDays(1)),
+                new Entry(3L, "member-1", 2, 100, dueA.plusDays(2)),
+                new Entry(3L, "member-1", 3, 100, dueA.plusDays(3)),
+                new Entry(7L, "member-1", 2, 100, dueB.plusDays(2))));
+        verify(overdueFeeRepository).markAccrued(List.of(
+                new Accrual(3L, 300, dueA.plusDays(3)),
+                new Accrual(7L, 100, dueB.plusDays(2))), NOW);
+        verify(overdueFeeRepository).addToBalances(Map.of("member-1", 400L), NOW);
+        assertThat(meterRegistry.get("booker.loan.fee.accrued").counter().count()).isEqualTo(4.0);
+    }
+}
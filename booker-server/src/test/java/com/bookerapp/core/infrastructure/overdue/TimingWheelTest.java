@@ -0,0 +1,89 @@
+package com.bookerapp.core.infrastructure.overdue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("모든 단계에 걸친 만료 시각이 정확히 그 틱에 만료된다")
+    void firesEachTimeoutAtItsTick() {
+        long start = 1_000_003L;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        Random random = new Random(42);
+        Map<Long, Long> firedAt = new HashMap<>();
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            // 1틱 ~ 64^3 * 4틱 (상위 단계까지 내려오는 항목 포함)
+            long deadline = start + 1 + random.nextInt(64 * 64 * 64 * 4);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        long end = start + 64 * 64 * 64 * 4 + 1;
+        for (long tick = start + 1; tick <= end; tick += 1 + random.nextInt(50)) {
+            long now = tick;
+            wheel.advanceTo(now, deadline -> firedAt.merge(deadline, now, Math::min));
+            // 만료 시각 전에 만료되지 않는다
+            firedAt.forEach((deadline, at) -> assertThat(at).isGreaterThanOrEqualTo(deadline));
+        }
+        wheel.advanceTo(end, deadline -> firedAt.merge(deadline, end, Math::min));
+
+        assertThat(firedAt.keySet()).containsExactlyInAnyOrderElementsOf(deadlines.stream().distinct().toList());
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 틱씩 진행하면 만료 틱과 만료된 틱이 같다")
+    void firesExactlyOnTickByTickAdvance() {
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        long[] deadlines = {1, 63, 64, 65, 4095, 4096, 4097, 262_144, 300_000};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+        List<Long> mismatches = new ArrayList<>();
+        List<Long> fired = new ArrayList<>();
+        for (long tick = 1; tick <= 300_000; tick++) {
+            long now = tick;
+            wheel.advanceTo(now, deadline -> {
+                fired.add(deadline);
+                if (deadline != now) {
+                    mismatches.add(deadline);
+                }
+            });
+        }
+        assertThat(mismatches).isEmpty();
+        assertThat(fired).containsExactly(1L, 63L, 64L, 65L, 4095L, 4096L, 4097L, 262_144L, 300_000L);
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않고, 지난 시각이나 범위 밖 시각도 처리된다")
+    void cancelPastAndFarDeadlines() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 150);
+        wheel.schedule("past", 90);
+        long far = 100 + (1L << 24) + 5;
+        wheel.schedule("far", far);
+
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(101, fired::add);
+        assertThat(fired).containsExactly("past");
+
+        wheel.advanceTo(far - 1, fired::add);
+        assertThat(fired).containsExactly("past");
+        wheel.advanceTo(far, fired::add);
+        assertThat(fired).containsExactly("past", "far");
+        assertThat(wheel.size()).isZero();
+    }
+}
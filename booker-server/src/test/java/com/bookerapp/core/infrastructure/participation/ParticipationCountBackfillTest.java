@@ -0,0 +1,62 @@
+package com.bookerapp.core.infrastructure.participation;
+
+import com.bookerapp.core.domain.model.event.Event;
+import com.bookerapp.core.domain.model.event.EventType;
+import com.bookerapp.core.domain.model.event.Member;
+import com.bookerapp.core.domain.repository.EventRepository;
+import com.bookerapp.core.domain.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "h2"})
+@Transactional
+class ParticipationCountBackfillTest {
+
+    @Autowired
+    private ParticipationCountBackfill participationCountBackfill;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("집계 컬럼이 0인 기존 이벤트는 참여 행으로 집계를 채우고, 다시 실행해도 바뀌지 않는다")
+    void backfillsLegacyEvents() {
+        Member presenter = memberRepository.save(new Member("backfill-presenter", "Presenter", "presenter@test.com"));
+        Event event = new Event("Legacy Event", "Test Description", EventType.TECH_TALK,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), 2, presenter);
+        for (int i = 0; i < 3; i++) {
+            event.addParticipant(memberRepository.save(new Member("backfill-member" + i, "Member", "member" + i + "@test.com")));
+        }
+        Long eventId = eventRepository.save(event).getId();
+        entityManager.flush();
+        // 컬럼이 추가되기 전에 참여한 이벤트 - ddl-auto가 기본값 0으로 채운 상태
+        entityManager.createNativeQuery("UPDATE event SET confirmed_count = 0, waiting_count = 0, last_waiting_number = 0 WHERE id = :id")
+                .setParameter("id", eventId)
+                .executeUpdate();
+        entityManager.clear();
+
+        participationCountBackfill.backfill();
+
+        EventRepository.SeatSnapshot snapshot = eventRepository.findSeatSnapshotById(eventId).orElseThrow();
+        assertThat(snapshot.getConfirmedCount()).isEqualTo(2);
+        assertThat(snapshot.getWaitingCount()).isEqualTo(1);
+        assertThat(snapshot.getLastWaitingNumber()).isEqualTo(1);
+        assertThat(eventRepository.backfillParticipationCounts()).isZero();
+    }
+}
@@ -0,0 +1,84 @@
+package com.bookerapp.core.infrastructure.purge;
+
+import com.bookerapp.core.infrastructure.repository.SoftDeleteArchiveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SoftDeletePurgeJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 3, 30);
+
+    @Mock
+    private SoftDeleteArchiveRepository archiveRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SoftDeletePurgeJob purgeJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purgeJob = new SoftDeletePurgeJob(archiveRepository, transactionTemplate, meterRegistry, true, 30, 2, 3);
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+        given(archiveRepository.ensureArchiveTable(anyString())).willReturn(List.of("id", "title"));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 행을 배치 단위로 옮기고, 배치가 덜 차면 다음 테이블로 넘어간다")
+    void movesInBatchesUntilShortBatch() {
+        given(archiveRepository.lockPurgeCandidates(any(), any(), eq(2)))
+                .willReturn(List.of(), List.of(1L, 2L), List.of(3L), List.of());
+        given(archiveRepository.moveToArchive(anyString(), anyList(), anyList(), eq(NOW)))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(2).size());
+
+        Map<String, Integer> archived = purgeJob.purge(NOW);
+
+        assertThat(archived).containsExactly(
+                Map.entry("book_loans", 0),
+                Map.entry("books", 3),
+                Map.entry("book_orders", 0),
+                Map.entry("event_participation", 0),
+                Map.entry("event", 0));
+        verify(archiveRepository, times(2)).lockPurgeCandidates(
+                argThat(target -> target.table().equals("books")), eq(NOW.minusDays(30)), eq(2));
+        assertThat(meterRegistry.get("booker.soft-delete.archived").tag("table", "books").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("한 번 실행에서 테이블당 최대 배치 수까지만 처리한다")
+    void stopsAtMaxBatchesPerRun() {
+        given(archiveRepository.lockPurgeCandidates(any(), any(), eq(2))).willReturn(List.of(1L, 2L));
+        given(archiveRepository.moveToArchive(anyString(), anyList(), anyList(), eq(NOW))).willReturn(2);
+
+        Map<String, Integer> archived = purgeJob.purge(NOW);
+
+        assertThat(archived.values()).containsOnly(6);
+    }
+}
@@ -0,0 +1,136 @@
+package com.bookerapp.core.infrastructure.retry;
+
+import com.bookerapp.core.infrastructure.metrics.ParticipationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentionAwareRetryPolicyTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("충돌이 나면 재시도하고 성공하면 결과를 반환한다")
+    void retryUntilSuccess() {
+        ContentionAwareRetryPolicy policy = policy(10, 100, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.execute("cas", EVENT_ID, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "ok";
+        }, () -> "fallback");
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("booker.participation.retry").tag("strategy", "cas").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("booker.participation.attempt").tag("result", "conflict").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("booker.participation.attempt").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 fallback 경로로 전환한다")
+    void fallbackAfterMaxAttempts() {
+        ContentionAwareRetryPolicy policy = policy(3, 100, 100);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.execute("cas", EVENT_ID, () -> {
+            attempts.incrementAndGet();
+            throw conflict();
+        }, () -> "fallback");
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("booker.participation.fallback").tag("reason", "max_attempts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("충돌률이 임계값을 넘은 이벤트는 이후 요청부터 재시도 없이 fallback으로 보낸다")
+    void hotEventSkipsRetry() {
+        ContentionAwareRetryPolicy policy = policy(3, 4, 100);
+        policy.execute("cas", EVENT_ID, () -> { throw conflict(); }, () -> "fallback");
+        policy.execute("cas", EVENT_ID, () -> { throw conflict(); }, () -> "fallback");
+        assertThat(policy.isHot(EVENT_ID)).isTrue();
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = policy.execute("cas", EVENT_ID, () -> {
+            attempts.incrementAndGet();
+            return "ok";
+        }, () -> "fallback");
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(attempts.get()).isZero();
+        assertThat(policy.isHot(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이벤트별 충돌 집계 창은 상한 개수까지만 보관한다")
+    void conflictWindowsAreBounded() {
+        ContentionAwareRetryPolicy policy = new ContentionAwareRetryPolicy(meterRegistry, new ParticipationMetrics(meterRegistry, 8),
+                3, 1, 4, 0.5, 100, 60_000, 10, 100, 0.1);
+
+        for (long eventId = 1; eventId <= 100; eventId++) {
+            policy.execute("cas", eventId, () -> "ok", () -> "fallback");
+        }
+
+        assertThat(policy.trackedEvents()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("전역 재시도 예산이 바닥나면 재시도하지 않고 성공 시 예산이 충전된다")
+    void retryBudget() {
+        ContentionAwareRetryPolicy policy = policy(10, 100, 2);
+
+        String result = policy.execute("optimistic", EVENT_ID, () -> { throw conflict(); }, () -> "fallback");
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(policy.availableTokens()).isZero();
+        assertThat(meterRegistry.get("booker.participation.fallback").tag("reason", "budget_exhausted").counter().count()).isEqualTo(1.0);
+
+        policy.execute("optimistic", 2L, () -> "ok", () -> "fallback");
+        assertThat(policy.availableTokens()).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않고 그대로 전파한다")
+    void nonConflictPropagates() {
+        ContentionAwareRetryPolicy policy = policy(10, 100, 100);
+
+        assertThatThrownBy(() -> policy.execute("cas", EVENT_ID,
+                () -> { throw new IllegalStateException("이미 참여한 이벤트입니다."); }, () -> "fallback"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("백오프 대기 시간은 최대값을 넘지 않는다")
+    void backoffIsBounded() {
+        ContentionAwareRetryPolicy policy = policy(10, 100, 100);
+
+        for (int attempt = 1; attempt <= 30; attempt++) {
+            assertThat(policy.backoffMillis(attempt)).isBetween(0L, 4L);
+        }
+    }
+
+    private ContentionAwareRetryPolicy policy(int maxAttempts, int hotMinSamples, int maxTokens) {
+        return new ContentionAwareRetryPolicy(meterRegistry, new ParticipationMetrics(meterRegistry, 8), maxAttempts, 1, 4, 0.5, hotMinSamples, 60_000, 10_000, maxTokens, 0.1);
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("Event", EVENT_ID);
+    }
+}
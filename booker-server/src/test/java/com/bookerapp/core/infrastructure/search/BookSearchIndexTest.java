@@ -0,0 +1,100 @@
+package com.bookerapp.core.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex();
+        index.upsert(1L, "클린 코드", "로버트 C. 마틴", "인사이트", "9788966260959");
+        index.upsert(2L, "클린 아키텍처", "로버트 C. 마틴", "인사이트", "9788966262472");
+        index.upsert(3L, "Clean Code", "Robert C. Martin", "Prentice Hall", "9780132350884");
+        index.upsert(4L, "자바 ORM 표준 JPA 프로그래밍", "김영한", "에이콘출판", "9788960777330");
+    }
+
+    @Test
+    @DisplayName("한글은 음절 1-gram/2-gram으로, 영문은 소문자 접두어로 색인된다")
+    void tokenizesHangulAsNgramsAndLatinAsPrefixes() {
+        assertThat(KoreanNgramTokenizer.indexTokens("클린코드"))
+                .contains("클", "클린", "린코", "코드", "드");
+        assertThat(KoreanNgramTokenizer.indexTokens("Martin"))
+                .containsExactly("ma", "mar", "mart", "marti", "martin");
+        assertThat(KoreanNgramTokenizer.queryTokens("JPA프로그래밍"))
+                .containsExactly("jpa", "프로", "로그", "그래", "래밍");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기가 달라도 한글 부분 문자열로 검색된다")
+    void matchesHangulSubstringRegardlessOfSpacing() {
+        assertThat(index.search("클린코드", null, null)).containsExactly(1L);
+        assertThat(index.search("프로그래밍", null, null)).containsExactly(4L);
+        assertThat(index.search("클린", null, null)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자 구분 없이 단어 접두어로 검색된다")
+    void matchesLatinPrefixIgnoringCase() {
+        assertThat(index.search(null, "mart", null)).containsExactly(3L);
+        assertThat(index.search("CLEAN", null, null)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("조건은 AND로 결합되고 title/author는 해당 필드에서만 찾는다")
+    void combinesClausesWithFieldScope() {
+        assertThat(index.search("아키텍처", "마틴", null)).containsExactly(2L);
+        assertThat(index.search("마틴", null, null)).isEmpty();
+        assertThat(index.search("코드", "김영한", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("통합 검색은 가중치가 높은 제목 일치를 출판사 일치보다 앞에 둔다")
+    void ranksTitleMatchesAboveWeakerFields() {
+        index.upsert(5L, "인사이트 경영", "홍길동", "한빛미디어", "9791111111111");
+
+        assertThat(index.search(null, null, "인사이트")).first().isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("하이픈이 포함된 ISBN으로도 검색된다")
+    void matchesIsbnWithHyphens() {
+        assertThat(index.search(null, null, "978-0-13-235088-4")).containsExactly(3L);
+        assertThat(index.search(null, null, "978896626")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("ISBN 정규화는 구분자를 지우고 숫자/X로만 된 3자 이상 값만 ISBN으로 본다")
+    void normalizesIsbnKeyword() {
+        assertThat(BookSearchIndex.normalizeIsbn("0-8044-2957-X")).isEqualTo("080442957x");
+        assertThat(BookSearchIndex.normalizeIsbn("978 896")).isEqualTo("978896");
+        assertThat(BookSearchIndex.normalizeIsbn("97-")).isNull();
+        assertThat(BookSearchIndex.normalizeIsbn("978-클린")).isNull();
+        assertThat(BookSearchIndex.normalizeIsbn(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 책의 ISBN-10으로도 ISBN-13으로 저장된 도서를 찾는다")
+    void matchesEquivalentIsbn10() {
+        assertThat(index.search(null, null, "0-13-235088-2")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 토큰이 제거되고 삭제하면 검색되지 않는다")
+    void updatesAndRemovesIncrementally() {
+        index.upsert(1L, "리팩터링", "마틴 파울러", "한빛미디어", "9791162242742");
+
+        assertThat(index.search("클린", null, null)).containsExactly(2L);
+        assertThat(index.search("리팩터링", null, null)).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("리팩터링", null, null)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookerapp.core.infrastructure.search;
+
+import com.bookerapp.core.domain.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSuggestTrieTest {
+
+    private BookSuggestTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new BookSuggestTrie(3);
+        trie.upsert(1L, "Clean Code", "Robert C. Martin");
+        trie.upsert(2L, "Clean Architecture", "Robert C. Martin");
+        trie.upsert(3L, "클린 코드", "로버트 C. 마틴");
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 제목과 저자를 대소문자 구분 없이 돌려준다")
+    void suggestsTitlesAndAuthorsByPrefix() {
+        assertThat(texts(trie.suggest("clea", 10))).containsExactly("Clean Code", "Clean Architecture");
+        assertThat(trie.suggest("ROB", 10))
+                .containsExactly(new BookSuggestTrie.Suggestion("Robert C. Martin", BookSuggestTrie.Type.AUTHOR, 2));
+    }
+
+    @Test
+    @DisplayName("문구 중간 단어의 시작으로도 찾는다")
+    void matchesFromWordBoundaries() {
+        assertThat(texts(trie.suggest("코드", 10))).containsExactly("클린 코드");
+        assertThat(texts(trie.suggest("arch", 10))).containsExactly("Clean Architecture");
+    }
+
+    @Test
+    @DisplayName("도서 수가 많은 문구가 앞에 오고 노드별 상위 k개만 유지한다")
+    void keepsTopKByBookCount() {
+        trie.upsert(4L, "Clean Agile", "Robert C. Martin");
+        trie.upsert(5L, "Clean Craftsmanship", "Robert C. Martin");
+        trie.upsert(6L, "Clean Code", "Robert C. Martin");
+
+        List<BookSuggestTrie.Suggestion> suggestions = trie.suggest("clean", 10);
+
+        assertThat(suggestions).hasSize(3);
+        assertThat(suggestions.get(0)).isEqualTo(
+                new BookSuggestTrie.Suggestion("Clean Code", BookSuggestTrie.Type.TITLE, 2));
+        assertThat(texts(suggestions)).containsExactly("Clean Code", "Clean Agile", "Clean Architecture");
+    }
+
+    @Test
+    @DisplayName("수정/삭제하면 해당 경로의 후보가 다시 계산된다")
+    void recomputesOnUpdateAndRemove() {
+        trie.upsert(1L, "Refactoring", "Martin Fowler");
+
+        assertThat(texts(trie.suggest("clean", 10))).containsExactly("Clean Architecture");
+        assertThat(trie.suggest("rob", 10).get(0).bookCount()).isEqualTo(1);
+        assertThat(texts(trie.suggest("mar", 10))).containsExactly("Martin Fowler", "Robert C. Martin");
+
+        trie.remove(2L);
+
+        assertThat(trie.suggest("clean", 10)).isEmpty();
+        assertThat(trie.suggest("rob", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 변경은 교체 후에도 유지된다")
+    void keepsChangesMadeDuringRebuild() {
+        List<BookRepository.SearchDocument> snapshot = List.of(document(1L, "Clean Code", "Robert C. Martin"));
+        trie.beginRebuild();
+        trie.upsert(7L, "Domain-Driven Design", "Eric Evans");
+        trie.remove(1L);
+
+        trie.rebuild(snapshot);
+
+        assertThat(texts(trie.suggest("domain", 10))).containsExactly("Domain-Driven Design");
+        assertThat(trie.suggest("clean code", 10)).isEmpty();
+        assertThat(trie.suggest("클린", 10)).isEmpty();
+    }
+
+    private static List<String> texts(List<BookSuggestTrie.Suggestion> suggestions) {
+        List<String> texts = new ArrayList<>();
+        suggestions.forEach(suggestion -> texts.add(suggestion.text()));
+        return texts;
+    }
+
+    private static BookRepository.SearchDocument document(Long id, String title, String author) {
+        return new BookRepository.SearchDocument() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public String getAuthor() {
+                return author;
+            }
+
+            @Override
+            public String getPublisher() {
+                return null;
+            }
+
+            @Override
+            public String getIsbn() {
+                return null;
+            }
+        };
+    }
+}
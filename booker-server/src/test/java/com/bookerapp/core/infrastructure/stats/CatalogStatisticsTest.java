@@ -0,0 +1,148 @@
+package com.bookerapp.core.infrastructure.stats;
+
+import com.bookerapp.core.domain.model.dto.BookDto;
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.domain.model.entity.BookLocation;
+import com.bookerapp.core.domain.model.enums.BookStatus;
+import com.bookerapp.core.domain.model.enums.Floor;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import com.bookerapp.core.domain.repository.BookLoanRepository;
+import com.bookerapp.core.domain.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogStatisticsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogStatistics catalogStatistics;
+    private CatalogStatisticsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogStatistics = new CatalogStatistics(meterRegistry);
+        listener = new CatalogStatisticsListener(catalogStatistics);
+    }
+
+    @Test
+    @DisplayName("등록/대출/반납 시 상태별, 층별 도서 수와 대출 건수가 이동한다")
+    void tracksBookAndLoanTransitions() {
+        Book book = book(Floor.FOURTH);
+        listener.onSaved(book);
+        BookLoan loan = new BookLoan(book, "member-1");
+        listener.onSaved(loan);
+
+        loan.processLoan();
+        listener.onSaved(loan);
+        listener.onSaved(book);
+
+        BookDto.StatsResponse stats = catalogStatistics.snapshot();
+        assertThat(stats.getTotalBooks()).isEqualTo(1);
+        assertThat(stats.getByStatus()).containsEntry(BookStatus.LOANED, 1L).containsEntry(BookStatus.AVAILABLE, 0L);
+        assertThat(stats.getByFloor()).containsEntry(Floor.FOURTH, 1L).containsEntry(Floor.TWELFTH, 0L);
+        assertThat(stats.getActiveLoans()).isEqualTo(1);
+        assertThat(stats.getLoansByStatus()).containsEntry(LoanStatus.PENDING, 0L);
+
+        loan.processReturn();
+        listener.onSaved(loan);
+        listener.onSaved(book);
+
+        stats = catalogStatistics.snapshot();
+        assertThat(stats.getByStatus()).containsEntry(BookStatus.AVAILABLE, 1L).containsEntry(BookStatus.LOANED, 0L);
+        assertThat(stats.getActiveLoans()).isZero();
+        assertThat(stats.getLoansByStatus()).containsEntry(LoanStatus.RETURNED, 1L);
+    }
+
+    @Test
+    @DisplayName("위치 변경은 층 사이를 옮기고, 삭제 표시/삭제된 도서는 집계에서 빠진다")
+    void movesFloorsAndExcludesDeleted() {
+        Book moved = book(Floor.FOURTH);
+        Book removed = book(null);
+        listener.onSaved(moved);
+        listener.onSaved(removed);
+
+        moved.updateLocation(BookLocation.of(Floor.TWELFTH));
+        listener.onSaved(moved);
+        listener.onRemoved(removed);
+
+        BookDto.StatsResponse stats = catalogStatistics.snapshot();
+        assertThat(stats.getByFloor()).containsEntry(Floor.FOURTH, 0L).containsEntry(Floor.TWELFTH, 1L);
+        assertThat(stats.getBooksWithoutLocation()).isZero();
+
+        moved.markAsDeleted();
+        listener.onSaved(moved);
+
+        assertThat(catalogStatistics.snapshot().getTotalBooks()).isZero();
+    }
+
+    @Test
+    @DisplayName("재집계는 카운터를 DB 집계로 바꾸고 보정된 차이를 기록한다")
+    void reconcileReplacesCountersAndReportsDrift() {
+        listener.onSaved(book(Floor.FOURTH));
+        catalogStatistics.booksImported(2);
+
+        long drift = catalogStatistics.reconcile(
+                List.of(bookCount(BookStatus.AVAILABLE, Floor.FOURTH, 1),
+                        bookCount(BookStatus.AVAILABLE, null, 3),
+                        bookCount(BookStatus.LOANED, Floor.TWELFTH, 2)),
+                List.of(loanCount(LoanStatus.WAITING, 4)));
+
+        BookDto.StatsResponse stats = catalogStatistics.snapshot();
+        assertThat(stats.getTotalBooks()).isEqualTo(6);
+        assertThat(stats.getBooksWithoutLocation()).isEqualTo(3);
+        assertThat(stats.getWaitingLoans()).isEqualTo(4);
+        assertThat(stats.getReconciledAt()).isNotNull();
+        // 위치 없음 2 → 3, 12층 대출 0 → 2, 대기 0 → 4
+        assertThat(drift).isEqualTo(7);
+        assertThat(stats.getLastDrift()).isEqualTo(7);
+        assertThat(meterRegistry.get("booker.catalog.stats.reconcile.drift").counter().count()).isEqualTo(7.0);
+    }
+
+    private static Book book(Floor floor) {
+        return Book.builder()
+                .title("클린 코드")
+                .author("로버트 C. 마틴")
+                .location(floor == null ? null : BookLocation.of(floor))
+                .build();
+    }
+
+    private static BookRepository.StatusFloorCount bookCount(BookStatus status, Floor floor, long count) {
+        return new BookRepository.StatusFloorCount() {
+            @Override
+            public BookStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Floor getFloor() {
+                return floor;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private static BookLoanRepository.StatusCount loanCount(LoanStatus status, long count) {
+        return new BookLoanRepository.StatusCount() {
+            @Override
+            public LoanStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
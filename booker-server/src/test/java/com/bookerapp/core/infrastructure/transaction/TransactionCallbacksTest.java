@@ -0,0 +1,66 @@
+package com.bookerapp.core.infrastructure.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionCallbacksTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 동기화가 없으면 커밋 콜백은 바로 실행되고 롤백 콜백은 실행되지 않는다")
+    void withoutSynchronization() {
+        TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+        TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+
+        assertThat(calls).containsExactly("commit");
+    }
+
+    @Test
+    @DisplayName("커밋되면 커밋 콜백만 실행된다")
+    void onCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+        TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+        assertThat(calls).isEmpty();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(calls).containsExactly("commit");
+    }
+
+    @Test
+    @DisplayName("롤백되면 롤백 콜백만 실행된다")
+    void onRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+        TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(calls).containsExactly("rollback");
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,124 @@
+package com.bookerapp.core.infrastructure.waitlist;
+
+import com.bookerapp.core.domain.model.entity.Book;
+import com.bookerapp.core.domain.model.entity.BookLoan;
+import com.bookerapp.core.domain.model.enums.BookStatus;
+import com.bookerapp.core.domain.model.enums.LoanStatus;
+import com.bookerapp.core.domain.repository.BookLoanRepository;
+import com.bookerapp.core.domain.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistHandOffTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final Long BOOK_ID = 1L;
+
+    @Mock
+    private BookLoanRepository bookLoanRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WaitlistHandOff handOff;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handOff = new WaitlistHandOff(bookLoanRepository, bookRepository, eventPublisher, transactionTemplate,
+                meterRegistry, true, 72, 2, 1);
+        willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .given(transactionTemplate).execute(any());
+    }
+
+    @Test
+    @DisplayName("보관 중인 대출이 없으면 대기열 맨 앞 대출만 조회해 보관을 시작하고 발행한다")
+    void promotesHeadOfWaitlist() {
+        Book book = book(BookStatus.RESERVED);
+        BookLoan head = waitingLoan(book, 11L);
+        given(bookRepository.findWithPessimisticLockById(BOOK_ID)).willReturn(Optional.of(book));
+        given(bookLoanRepository.existsByBookIdAndStatusIn(BOOK_ID, List.of(LoanStatus.PENDING))).willReturn(false);
+        given(bookLoanRepository.findFirstByBookIdAndStatusOrderByCreatedAtAscIdAsc(BOOK_ID, LoanStatus.WAITING))
+                .willReturn(Optional.of(head));
+
+        LocalDateTime before = LocalDateTime.now();
+        handOff.handOff(BOOK_ID);
+
+        assertThat(head.getStatus()).isEqualTo(LoanStatus.PENDING);
+        assertThat(head.getHoldExpiresAt()).isAfterOrEqualTo(before.plusHours(72));
+        verify(book).updateStatus(BookStatus.RESERVED);
+        ArgumentCaptor<LoanHoldStartedEvent> event = ArgumentCaptor.forClass(LoanHoldStartedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().loanId()).isEqualTo(11L);
+        assertThat(event.getValue().holdExpiresAt()).isEqualTo(head.getHoldExpiresAt());
+        assertThat(meterRegistry.counter("booker.loan.hold.started").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수령 기한이 지난 보관은 취소하고, 다음 대기자가 없으면 도서를 대출 가능으로 돌린다")
+    void expiresLapsedHoldAndReleasesBook() {
+        Book book = book(BookStatus.RESERVED);
+        BookLoan held = waitingLoan(book, 11L);
+        held.startHold(NOW.minusMinutes(1));
+        BookLoanRepository.HoldExpiry expiry = mock(BookLoanRepository.HoldExpiry.class);
+        given(expiry.getLoanId()).willReturn(11L);
+        given(expiry.getBookId()).willReturn(BOOK_ID);
+        given(bookLoanRepository.findExpiredHolds(NOW, 0L, PageRequest.of(0, 2))).willReturn(List.of(expiry));
+        given(bookRepository.findWithPessimisticLockById(BOOK_ID)).willReturn(Optional.of(book));
+        given(bookLoanRepository.findById(11L)).willReturn(Optional.of(held));
+        given(bookLoanRepository.existsByBookIdAndStatusIn(BOOK_ID, List.of(LoanStatus.PENDING))).willReturn(false);
+        given(bookLoanRepository.findFirstByBookIdAndStatusOrderByCreatedAtAscIdAsc(BOOK_ID, LoanStatus.WAITING))
+                .willReturn(Optional.empty());
+
+        handOff.expireHolds(NOW);
+
+        assertThat(held.getStatus()).isEqualTo(LoanStatus.CANCELLED);
+        verify(book).updateStatus(BookStatus.AVAILABLE);
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(meterRegistry.counter("booker.loan.hold.expired").count()).isEqualTo(1);
+    }
+
+    private Book book(BookStatus status) {
+        Book book = mock(Book.class);
+        given(book.getId()).willReturn(BOOK_ID);
+        given(book.getStatus()).willReturn(status);
+        return book;
+    }
+
+    private BookLoan waitingLoan(Book book, Long id) {
+        BookLoan loan = BookLoan.createWaitingLoan(book, "member-" + id);
+        ReflectionTestUtils.setField(loan, "id", id);
+        return loan;
+    }
+}
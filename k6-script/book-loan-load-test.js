@@ -2,14 +2,42 @@
 //     -v ./k6-script:/scripts \
 //     grafana/k6:latest run /scripts/book-loan-load-test.js \
 //     --out influxdb=http://influxdb:8086/myk6db
+//
+// 한 도서 동시 대출 시나리오 (도서당 ACTIVE가 정확히 한 건인지 확인)
+//     ... run -e SCENARIO=single-book -e RACE_BOOKS=20 -e RACE_VUS=50 /scripts/book-loan-load-test.js
 
 
 
 import http from 'k6/http';
 import { check, sleep } from 'k6';
+import { Counter } from 'k6/metrics';
 import { randomIntBetween } from "https://jslib.k6.io/k6-utils/1.1.0/index.js";
 
-export let options = {
+// 실행할 시나리오 (random: 랜덤 도서 대출 | single-book: 도서 하나에 여러 사용자가 동시에 대출 신청)
+const SCENARIO = __ENV.SCENARIO || 'random';
+const RACE_BOOKS = parseInt(__ENV.RACE_BOOKS || '20'); // 경쟁시킬 도서 수 (VU마다 도서를 순서대로 하나씩 신청)
+const RACE_VUS = parseInt(__ENV.RACE_VUS || '50');     // 도서 하나에 동시에 신청하는 사용자 수
+
+const raceActiveLoans = new Counter('single_book_loan_active');
+const raceWaitingLoans = new Counter('single_book_loan_waiting');
+
+export let options = SCENARIO === 'single-book' ? {
+    scenarios: {
+        single_book_race: {
+            executor: 'per-vu-iterations',
+            vus: RACE_VUS,
+            iterations: RACE_BOOKS, // VU의 i번째 반복은 i번째 도서에 신청 → 모든 VU가 같은 도서에 몰린다
+            maxDuration: '5m',
+            exec: 'singleBookRace',
+        },
+    },
+    thresholds: {
+        // 도서마다 한 요청만 ACTIVE - 두 요청이 함께 대출되면 ACTIVE 수가 도서 수를 넘는다
+        single_book_loan_active: [`count==${RACE_BOOKS}`],
+        single_book_loan_waiting: [`count==${RACE_BOOKS * (RACE_VUS - 1)}`],
+        http_req_failed: ['rate<0.01'],
+    },
+} : {
     vus: 10, // 가상 사용자 수
     duration: '5m', // 테스트 지속 시간
     thresholds: {
@@ -48,6 +76,69 @@ function getAvailableBooks(token) {
     return [];
 }
 
+// 체크 숫자를 붙인 ISBN-13 (서버가 체크 숫자를 검증하므로 임의 번호에 맞는 값을 계산)
+function generateIsbn13() {
+    let digits = '979';
+    for (let i = 0; i < 9; i++) {
+        digits += randomIntBetween(0, 9);
+    }
+    let sum = 0;
+    for (let i = 0; i < 12; i++) {
+        sum += parseInt(digits[i]) * (i % 2 === 0 ? 1 : 3);
+    }
+    return digits + ((10 - (sum % 10)) % 10);
+}
+
+// 경쟁용 도서 등록 (AVAILABLE 상태로 생성됨)
+function createRaceBook(token, index) {
+    const body = JSON.stringify({
+        title: `K6 동시 대출 테스트 도서 ${index}`,
+        author: 'K6',
+        publisher: 'K6',
+        isbn: generateIsbn13(),
+    });
+    const params = {
+        headers: {
+            'Accept': 'application/json',
+            'Content-Type': 'application/json',
+            'Authorization': `Bearer ${token}`,
+        },
+    };
+    const response = http.post(`${BOOKER_API_URL}/api/v1/books`, body, params);
+    if (response.status !== 201 && response.status !== 200) {
+        throw new Error(`경쟁용 도서 등록 실패 - Status: ${response.status}, Body: ${response.body}`);
+    }
+    return JSON.parse(response.body).id;
+}
+
+// 한 도서 동시 대출 - 같은 반복 번호의 VU들이 같은 도서에 신청한다
+export function singleBookRace(data) {
+    const bookId = data.bookIds[__ITER % data.bookIds.length];
+    const params = {
+        headers: {
+            'Accept': 'application/json',
+            'Content-Type': 'application/json',
+            'Authorization': `Bearer ${data.token}`,
+        },
+        tags: { scenario_type: 'single_book_race' },
+    };
+
+    const response = http.post(`${BOOKER_API_URL}/api/v1/loans`, JSON.stringify({ bookId: bookId }), params);
+    const created = check(response, {
+        'race loan created': (r) => r.status === 201,
+    });
+    if (!created) {
+        console.error(`동시 대출 신청 실패 - Book: ${bookId}, Status: ${response.status}, Body: ${response.body}`);
+        return;
+    }
+
+    const status = JSON.parse(response.body).status;
+    if (status === 'ACTIVE') {
+        raceActiveLoans.add(1, { book_id: String(bookId) });
+    } else if (status === 'WAITING') {
+        raceWaitingLoans.add(1, { book_id: String(bookId) });
+    }
+}
 
 // main 함수
 export default function () {
@@ -155,6 +246,15 @@ export function setup() {
         throw new Error('초기 토큰 획득에 실패했습니다. Keycloak 서버 상태를 확인하세요.');
     }
 
+    if (SCENARIO === 'single-book') {
+        const bookIds = [];
+        for (let i = 0; i < RACE_BOOKS; i++) {
+            bookIds.push(createRaceBook(token, i));
+        }
+        console.log(`경쟁용 도서 ${bookIds.length}권 등록 - 도서당 동시 신청 ${RACE_VUS}명`);
+        return { token, bookIds };
+    }
+
     // 이용 가능한 책이 있는지 확인
     const availableBooks = getAvailableBooks(token);
     if (availableBooks.length === 0) {
@@ -169,5 +269,17 @@ export function setup() {
 // teardown 함수 - 테스트 종료 후 실행
 export function teardown(data) {
     console.log('=== K6 도서 대출 성능 테스트 완료 ===');
+    if (SCENARIO === 'single-book') {
+        // 모든 경쟁 도서가 대출 중(LOANED)이어야 한다 - 도서별 ACTIVE 수는 single_book_loan_active{book_id} 참고
+        const params = { headers: { 'Accept': 'application/json', 'Authorization': `Bearer ${data.token}` } };
+        for (const bookId of data.bookIds) {
+            const response = http.get(`${BOOKER_API_URL}/api/v1/books/${bookId}`, params);
+            const status = response.status === 200 ? JSON.parse(response.body).status : `HTTP ${response.status}`;
+            if (status !== 'LOANED') {
+                console.error(`경쟁 도서 상태 이상 - Book: ${bookId}, Status: ${status}`);
+            }
+        }
+        return;
+    }
     console.log(`초기 이용 가능한 책 수: ${data.availableBooks}`);
 }
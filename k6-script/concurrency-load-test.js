@@ -4,7 +4,11 @@ import { randomIntBetween } from "https://jslib.k6.io/k6-utils/1.1.0/index.js";
 import { htmlReport } from "https://raw.githubusercontent.com/benc-uk/k6-reporter/main/dist/bundle.js";
 import { textSummary } from "https://jslib.k6.io/k6-summary/0.0.1/index.js";
 
+// 서버 실행 모드 태그 (platform | virtual) - 결과를 실행 모드별로 비교하기 위해 사용
+const THREAD_MODE = __ENV.THREAD_MODE || 'platform';
+
 export let options = {
+    tags: { thread_mode: THREAD_MODE },
     scenarios: {
         // 낮은 부하 테스트 (동시성 문제가 발생하지 않을 수준)
         low_load: {
@@ -37,6 +41,9 @@ export let options = {
         'http_req_duration{service:pessimistic}': ['p(95)<5000'],
         'http_req_duration{service:cas}': ['p(95)<3000'],
         'http_req_duration{service:synchronized}': ['p(95)<2000'],
+        'http_req_duration{service:counter}': ['p(95)<2000'],
+        'http_req_duration{service:conditional}': ['p(95)<2000'],
+        'http_req_duration{service:batch}': ['p(95)<2000'],
     },
 };
 
@@ -49,6 +56,9 @@ const SERVICES = [
     { name: 'pessimistic', endpoint: '/participate/pessimistic' },
     { name: 'cas', endpoint: '/participate/cas' },
     { name: 'synchronized', endpoint: '/participate/synchronized' },
+    { name: 'counter', endpoint: '/participate/counter' },
+    { name: 'conditional', endpoint: '/participate/conditional' },
+    { name: 'batch', endpoint: '/participate/batch' },
 ];
 
 // 테스트용 이벤트 ID (setup 함수에서 동적으로 설정됨)
@@ -212,6 +222,7 @@ export default function (data) {
 export function setup() {
     console.log('=== K6 동시성 제어 메커니즘 비교 테스트 시작 ===');
     console.log(`Test Target: ${BOOKER_API_URL}`);
+    console.log(`Thread Mode: ${THREAD_MODE}`);
     console.log(`Event ID: ${EVENT_ID}`);
 
     // 헬스 체크
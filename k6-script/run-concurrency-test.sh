@@ -20,6 +20,7 @@ SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
 TEST_SCRIPT="$SCRIPT_DIR/concurrency-load-test.js"
 OUTPUT_DIR="$SCRIPT_DIR/results"
 TIMESTAMP=$(date +"%Y%m%d_%H%M%S")
+THREAD_MODE="${THREAD_MODE:-platform}"  # 서버 실행 모드 (platform | virtual)
 
 # 출력 디렉토리 생성
 mkdir -p "$OUTPUT_DIR"
@@ -78,6 +79,7 @@ run_test() {
 
     # K6 테스트 실행
     k6 run \
+        -e THREAD_MODE="$THREAD_MODE" \
         --out json="$output_file.json" \
         --out influxdb=http://localhost:8086/myk6db \
         --summary-export="$output_file.summary.json" \
@@ -138,6 +140,45 @@ analyze_results() {
     echo "  - 사용자명/비밀번호: admin/admin"
 }
 
+# 실행 모드별 결과 비교 함수 (platform vs virtual)
+compare_modes() {
+    echo -e "${BLUE}=== 실행 모드별 결과 비교 (platform vs virtual) ===${NC}"
+
+    if ! command -v jq &> /dev/null; then
+        echo "비교를 위해 jq를 설치하세요: brew install jq"
+        exit 1
+    fi
+
+    local platform_summary=$(ls -t "$OUTPUT_DIR"/concurrency_test_comparison_platform_*.summary.json 2>/dev/null | head -1)
+    local virtual_summary=$(ls -t "$OUTPUT_DIR"/concurrency_test_comparison_virtual_*.summary.json 2>/dev/null | head -1)
+
+    if [ -z "$platform_summary" ] || [ -z "$virtual_summary" ]; then
+        echo -e "${RED}❌ platform/virtual 결과가 모두 필요합니다.${NC}"
+        echo "  THREAD_MODE=platform $0"
+        echo "  THREAD_MODE=virtual $0"
+        exit 1
+    fi
+
+    echo "platform: $platform_summary"
+    echo "virtual : $virtual_summary"
+    echo ""
+    printf "%-48s %12s %12s\n" "metric" "platform" "virtual"
+
+    jq -r -n --slurpfile p "$platform_summary" --slurpfile v "$virtual_summary" '
+        ($p[0].metrics | keys[]) as $k
+        | select($k | test("^http_req_duration|^http_reqs$|^http_req_failed$"))
+        | [$k,
+           ($p[0].metrics[$k]["p(95)"] // $p[0].metrics[$k].rate // $p[0].metrics[$k].value // 0),
+           ($v[0].metrics[$k]["p(95)"] // $v[0].metrics[$k].rate // $v[0].metrics[$k].value // 0)]
+        | @tsv
+    ' | while IFS=$'\t' read -r metric platform virtual; do
+        printf "%-48s %12.2f %12.2f\n" "$metric" "$platform" "$virtual"
+    done
+
+    echo ""
+    echo "http_req_duration 항목은 p(95) ms, http_reqs는 초당 요청 수, http_req_failed는 실패율입니다."
+}
+
 # 메인 실행
 main() {
     echo "동시성 제어 메커니즘 비교 테스트를 시작합니다..."
@@ -147,7 +188,7 @@ main() {
     prereq_check
 
     # 테스트 실행
-    run_test "comparison"
+    run_test "comparison_${THREAD_MODE}"
 
     # 결과 분석
     analyze_results
@@ -164,11 +205,17 @@ show_help() {
     echo "  -h, --help     이 도움말 표시"
     echo "  --dry-run      실제 테스트 없이 사전 확인만 수행"
     echo "  --clean        이전 결과 파일 정리"
+    echo "  --compare      platform/virtual 실행 결과 비교"
+    echo ""
+    echo "환경 변수:"
+    echo "  THREAD_MODE    서버 실행 모드 태그 (platform | virtual, 기본값 platform)"
     echo ""
     echo "예시:"
-    echo "  $0                # 기본 테스트 실행"
-    echo "  $0 --dry-run      # 사전 확인만"
-    echo "  $0 --clean        # 결과 파일 정리"
+    echo "  $0                         # 기본 테스트 실행"
+    echo "  $0 --dry-run               # 사전 확인만"
+    echo "  $0 --clean                 # 결과 파일 정리"
+    echo "  THREAD_MODE=virtual $0     # 가상 스레드 모드 서버 대상 실행"
+    echo "  $0 --compare               # 모드별 결과 비교"
 }
 
 # 결과 파일 정리
@@ -199,6 +246,10 @@ case "${1:-}" in
         clean_results
         exit 0
         ;;
+    --compare)
+        compare_modes
+        exit 0
+        ;;
     "")
         main
         ;;